@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -23,6 +24,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundSaver;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -43,9 +46,15 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundSaver saver;
     protected Model model;
     protected Config config;
 
+    // The version of the address book when its full-text indexes were restored, or -1 if they were not.
+    private long textIndexesRestoredVersion = -1;
+    // The version of the address book as it was read, or made afresh if it could not be.
+    private long initialAddressBookVersion;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,12 +66,19 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = userPrefs.getJournalCheckpointInterval() > 0
+                ? new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.getJournalCheckpointInterval(), userPrefs.isDataFilePrettyPrinted())
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.isDataFilePrettyPrinted());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        initTextIndexes(storage, model);
+        storage.trackAddressBook(model.getAddressBook());
+        initialAddressBookVersion = model.getAddressBookVersion();
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundSaver(storage, userPrefs.getSaveDelay(), Platform::runLater);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
@@ -93,6 +109,22 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Restores the full-text indexes of {@code model} from {@code storage} if they were saved for the same data.
+     * Otherwise they are rebuilt when first searched.
+     */
+    private void initTextIndexes(Storage storage, Model model) {
+        try {
+            storage.readTextIndexes(model.getAddressBook()).ifPresent(snapshot -> {
+                model.restoreTextIndexes(snapshot);
+                textIndexesRestoredVersion = model.getAddressBookVersion();
+            });
+        } catch (DataLoadingException e) {
+            logger.warning("Full-text indexes for " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " They will be rebuilt when first searched.");
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -182,5 +214,44 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            saver.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save the latest changes to the address book " + StringUtil.getDetails(e));
+        }
+        checkpointAddressBook();
+        saveTextIndexes();
+    }
+
+    /**
+     * Writes the whole address book to the data file, folding in any journaled changes, if it has been changed.
+     * An unchanged address book is left alone, so that a data file which could not be read is not overwritten
+     * unless the user has made changes since.
+     */
+    private void checkpointAddressBook() {
+        if (model.getAddressBookVersion() == initialAddressBookVersion) {
+            return;
+        }
+        try {
+            storage.checkpointAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to write the whole address book " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves the full-text indexes of the model, unless they were restored and nothing has changed since.
+     * They are only saved here, rather than with every change, since taking them builds any index not built yet.
+     */
+    private void saveTextIndexes() {
+        if (model.getAddressBookVersion() == textIndexesRestoredVersion) {
+            return;
+        }
+        try {
+            storage.saveTextIndexes(model.getAddressBook(), model.getTextIndexSnapshot());
+        } catch (IOException e) {
+            // The indexes are rebuilt from the data file on the next start.
+            logger.warning("Failed to save full-text indexes " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -38,6 +38,69 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains a word within an edit distance of {@code maxDistance} from the
+     * {@code word}, ignoring case.
+     *   <br>examples:<pre>
+     *       containsWordNearIgnoreCase("ABc def", "abd", 1) == true
+     *       containsWordNearIgnoreCase("ABc def", "dfe", 1) == false //two edits away
+     *       </pre>
+     * @param sentence cannot be null
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static boolean containsWordNearIgnoreCase(String sentence, String word, int maxDistance) {
+        requireNonNull(sentence);
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        String foldedWord = foldCase(preppedWord);
+        return Arrays.stream(sentence.split("\\s+"))
+                .anyMatch(sentenceWord -> editDistance(foldCase(sentenceWord), foldedWord) <= maxDistance);
+    }
+
+    /**
+     * Returns the least number of single character insertions, deletions and substitutions that turn {@code first}
+     * into {@code second}.
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Returns {@code word} with every character mapped the way {@link String#equalsIgnoreCase(String)} compares it,
+     * so that two words are equal ignoring case exactly when their folded forms are equal.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return folded.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,16 +1,22 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
 import seedu.address.model.property.Property;
 
 /**
@@ -26,6 +32,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns a search of the list that {@code commandText} would filter if it were executed, to be run while the
+     * user is still typing, or an empty {@code Optional} if {@code commandText} is not a valid search of one list.
+     * The search must be prepared and applied on the application thread, but may be run on any thread.
+     * Nothing is saved, and the command is not logged.
+     */
+    Optional<BackgroundSearch> prepareLiveSearch(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -45,6 +59,24 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
+    /** Returns the number of deals with the given {@code status} */
+    int countDealsWithStatus(DealStatus status);
+
+    /** Returns the number of events of the given {@code type} */
+    int countEventsOfType(EventType type);
+
+    /**
+     * Returns whether every change made to the address book by the commands executed so far has been saved.
+     * It is false only while a save is waiting or under way, or after the last save failed.
+     */
+    ReadOnlyBooleanProperty addressBookSavedProperty();
+
+    /**
+     * Sets the handler given the error message when the address book could not be saved in the background, after
+     * the command that changed it had returned.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -55,6 +87,16 @@ public interface Logic {
      */
     GuiSettings getGuiSettings();
 
+    /**
+     * Returns true if the user prefs enable searching as the user types.
+     */
+    boolean isLiveSearchEnabled();
+
+    /**
+     * Returns the user prefs' number of milliseconds to wait after the last keystroke before starting a live search.
+     */
+    int getLiveSearchDelay();
+
     /**
      * Set the user prefs' GUI settings.
      */
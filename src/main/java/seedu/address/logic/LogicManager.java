@@ -1,29 +1,41 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import org.reflections.Reflections;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
 import seedu.address.model.property.Property;
+import seedu.address.storage.BackgroundSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -39,16 +51,40 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final Optional<BackgroundSaver> saver;
     private final AddressBookParser addressBookParser;
+    private final BooleanProperty isAddressBookSaved = new SimpleBooleanProperty(true);
+    private Consumer<String> saveFailureHandler = message -> {};
+
+    /** The version of the address book last saved, which is the one loaded until the first save. */
+    private long savedVersion;
+    /** The version of the address book last asked to be saved, which may still be waiting to be written. */
+    private long requestedVersion;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book before each command that changed it returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Optional.empty());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which has the address book
+     * saved by {@code saver} in the background after each command that changed it.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundSaver saver) {
+        this(model, storage, Optional.of(saver));
+    }
+
+    private LogicManager(Model model, Storage storage, Optional<BackgroundSaver> saver) {
         assert model != null : "Model cannot be null";
         assert storage != null : "Storage cannot be null";
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        savedVersion = model.getAddressBookVersion();
+        requestedVersion = savedVersion;
         addressBookParser = new AddressBookParser();
         initialiseCommandWords();
     }
@@ -94,15 +130,72 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long version = model.getAddressBookVersion();
+        if (version == requestedVersion) {
+            return commandResult; // nothing changed since the address book was last saved, or asked to be
+        }
+        requestedVersion = version;
+        isAddressBookSaved.set(false);
+
+        if (saver.isPresent()) {
+            saver.get().requestSave(model.getAddressBook())
+                    .whenComplete((ignored, failure) -> handleSaveResult(version, failure));
+        } else {
+            saveAddressBook(version);
+        }
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book, which is at {@code version}, before returning.
+     */
+    private void saveAddressBook(long version) throws CommandException {
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            requestedVersion = savedVersion; // so that the next command tries again
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        savedVersion = version;
+        isAddressBookSaved.set(true);
+    }
 
-        return commandResult;
+    /**
+     * Records the result of saving the address book at {@code version} in the background, which failed with
+     * {@code failure} unless it is null.
+     * Only the failure of the latest save asked for is reported, as an earlier one is saved again by the latest.
+     */
+    private void handleSaveResult(long version, Throwable failure) {
+        if (failure == null) {
+            savedVersion = Math.max(savedVersion, version);
+            isAddressBookSaved.set(savedVersion == requestedVersion);
+            return;
+        }
+
+        isAddressBookSaved.set(false);
+        if (version == requestedVersion) {
+            requestedVersion = savedVersion; // so that the next command tries again
+            saveFailureHandler.accept(getSaveErrorMessage(failure));
+        }
+    }
+
+    private static String getSaveErrorMessage(Throwable failure) {
+        return failure instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage());
+    }
+
+    @Override
+    public Optional<BackgroundSearch> prepareLiveSearch(String commandText) {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            return Optional.empty(); // the user has not finished typing yet
+        }
+        return command instanceof FindCommand<?> findCommand
+                ? Optional.of(findCommand.prepareSearch(model))
+                : Optional.empty();
     }
 
     @Override
@@ -130,6 +223,27 @@ public class LogicManager implements Logic {
         return model.getFilteredEventList();
     }
 
+    @Override
+    public int countDealsWithStatus(DealStatus status) {
+        return model.countDealsWithStatus(status);
+    }
+
+    @Override
+    public int countEventsOfType(EventType type) {
+        return model.countEventsOfType(type);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty addressBookSavedProperty() {
+        return isAddressBookSaved;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -140,6 +254,16 @@ public class LogicManager implements Logic {
         return model.getGuiSettings();
     }
 
+    @Override
+    public boolean isLiveSearchEnabled() {
+        return model.getUserPrefs().isLiveSearchEnabled();
+    }
+
+    @Override
+    public int getLiveSearchDelay() {
+        return model.getUserPrefs().getLiveSearchDelay();
+    }
+
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
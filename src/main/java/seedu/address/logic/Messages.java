@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.client.Client;
+import seedu.address.model.commons.NameContainsKeywordsPredicate;
 import seedu.address.model.deal.Deal;
 import seedu.address.model.event.Event;
 import seedu.address.model.property.Property;
@@ -27,6 +28,8 @@ public class Messages {
     public static final String MESSAGE_DEALS_LISTED_OVERVIEW = "%1$d deals listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_EMPTY_FUZZY_KEYWORD = "Fuzzy keywords must have at least one character after '"
+            + NameContainsKeywordsPredicate.FUZZY_MARKER + "'";
     public static final String MESSAGE_EVENT_IN_PAST = "Event cannot be before 01-01-2025 0000.";
 
     /**
@@ -1,5 +1,9 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -21,4 +25,26 @@ public abstract class DeleteCommand<T> extends Command {
      * Deletes the item identified by the index number used in the displayed client list.
      */
     public abstract CommandResult execute(Model model) throws CommandException;
+
+    /**
+     * Returns {@code header} followed by the displayed indices of the {@code referencing} items that are shown,
+     * or an empty string if none of them are shown.
+     * {@code displayedIndexOf} gives the index at which an item is displayed, or -1 if it is not shown.
+     */
+    protected static <R> String describeReferences(String header, List<R> referencing,
+            ToIntFunction<R> displayedIndexOf) {
+        if (referencing.isEmpty()) {
+            return "";
+        }
+        String indices = referencing.stream()
+                .mapToInt(displayedIndexOf)
+                .filter(index -> index >= 0)
+                .sorted()
+                .mapToObj(index -> (index + 1) + " ")
+                .collect(Collectors.joining());
+        if (indices.isEmpty()) {
+            return "";
+        }
+        return header + indices + ".\n";
+    }
 }
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * Finds and lists the clients, properties, deals and events in REconnect that match the argument keywords.
+ * Keyword matching is case-insensitive.
+ */
+public class FindAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "find_all";
+
+    public static final String MESSAGE_SUCCESS = "%1$d clients, %2$d properties, %3$d deals and %4$d events listed!";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays all clients, properties, deals and events "
+            + "whose names, or the names of the clients and properties they involve, contain any of the keywords.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice maple";
+
+    private final Predicate<Client> clientPredicate;
+    private final Predicate<Property> propertyPredicate;
+    private final Predicate<Deal> dealPredicate;
+    private final Predicate<Event> eventPredicate;
+
+    /**
+     * Creates a FindAllCommand to find the entries of each list that satisfy the predicate given for that list.
+     */
+    public FindAllCommand(Predicate<Client> clientPredicate, Predicate<Property> propertyPredicate,
+            Predicate<Deal> dealPredicate, Predicate<Event> eventPredicate) {
+        requireNonNull(clientPredicate);
+        requireNonNull(propertyPredicate);
+        requireNonNull(dealPredicate);
+        requireNonNull(eventPredicate);
+        this.clientPredicate = clientPredicate;
+        this.propertyPredicate = propertyPredicate;
+        this.dealPredicate = dealPredicate;
+        this.eventPredicate = eventPredicate;
+    }
+
+    public static void addCommandWord() {
+        initialiseCommandWord(COMMAND_WORD);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateAllFilteredLists(clientPredicate, propertyPredicate, dealPredicate, eventPredicate);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredClientList().size(),
+                model.getFilteredPropertyList().size(), model.getFilteredDealList().size(),
+                model.getFilteredEventList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindAllCommand otherFindAllCommand)) {
+            return false;
+        }
+
+        return clientPredicate.equals(otherFindAllCommand.clientPredicate)
+                && propertyPredicate.equals(otherFindAllCommand.propertyPredicate)
+                && dealPredicate.equals(otherFindAllCommand.dealPredicate)
+                && eventPredicate.equals(otherFindAllCommand.eventPredicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clientPredicate", clientPredicate)
+                .add("propertyPredicate", propertyPredicate)
+                .add("dealPredicate", dealPredicate)
+                .add("eventPredicate", eventPredicate)
+                .toString();
+    }
+}
@@ -8,7 +8,9 @@ import java.util.stream.Stream;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
+import seedu.address.model.commons.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all clients in address book whose name contains any of the argument keywords.
@@ -18,14 +20,32 @@ public abstract class FindCommand<T> extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_EXPLAIN_NOTE = "Put '" + EXPLAIN_KEYWORD + "' before the parameters to also "
+            + "show how the search was carried out.\n";
+
+    public static final String MESSAGE_FUZZY_NOTE = "Put '" + NameContainsKeywordsPredicate.FUZZY_MARKER + "' before "
+            + "a name keyword to also match names with a typing mistake or two in that word.\n";
+
     protected final Predicate<T> predicate;
+    protected final boolean shouldExplain;
 
     /**
      * Creates an FindCommand to find the specified item.
      */
     public FindCommand(Predicate<T> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates an FindCommand to find the specified item, showing how the search was carried out if
+     * {@code shouldExplain} is true.
+     */
+    public FindCommand(Predicate<T> predicate, boolean shouldExplain) {
         requireNonNull(predicate);
         this.predicate = predicate;
+        this.shouldExplain = shouldExplain;
     }
 
     /**
@@ -43,4 +63,24 @@ public abstract class FindCommand<T> extends Command {
     }
 
     public abstract CommandResult execute(Model model) throws CommandException;
+
+    /**
+     * Returns a search of {@code model} that shows the same entries as executing this command would, but whose
+     * entries can be tested away from the application thread, so that results can be shown while the user is
+     * still typing.
+     */
+    public abstract BackgroundSearch prepareSearch(Model model);
+
+    /**
+     * Returns {@code message}, followed by the plan by which {@code model} last filtered a list if the search is
+     * to be explained.
+     */
+    protected String withExplanation(Model model, String message) {
+        if (!shouldExplain) {
+            return message;
+        }
+        return model.getLastQueryPlan()
+                .map(plan -> message + "\n" + plan)
+                .orElse(message);
+    }
 }
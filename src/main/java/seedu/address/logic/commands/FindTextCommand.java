@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.TextMatch;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * Finds the events whose notes and the properties whose descriptions best match the argument keywords, and lists them
+ * from the best match to the worst. Keyword matching is case-insensitive.
+ */
+public class FindTextCommand extends Command {
+
+    public static final String COMMAND_WORD = "find_text";
+
+    public static final int MAX_RESULTS = 10;
+
+    public static final String MESSAGE_SUCCESS = "%1$d events and properties listed, best match first:";
+
+    public static final String MESSAGE_NO_MATCHES = "0 events and properties listed!";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the events whose notes and the properties "
+            + "whose descriptions best match the keywords, at most " + MAX_RESULTS + " of them, ranked by how often "
+            + "the rarer keywords appear.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " renovated seaview";
+
+    private final String query;
+
+    /**
+     * Creates a FindTextCommand to find the events and properties matching the keywords in {@code query}.
+     */
+    public FindTextCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    public static void addCommandWord() {
+        initialiseCommandWord(COMMAND_WORD);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<TextMatch> matches = model.findText(query, MAX_RESULTS);
+
+        // Matched entries are compared by identity, as events that are equal may still differ in their notes.
+        Set<Event> matchedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Property> matchedProperties = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.forEach(match -> {
+            match.getEvent().ifPresent(matchedEvents::add);
+            match.getProperty().ifPresent(matchedProperties::add);
+        });
+        model.updateFilteredEventList(matchedEvents::contains);
+        model.updateFilteredPropertyList(matchedProperties::contains);
+
+        if (matches.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES);
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, matches.size()));
+        for (int i = 0; i < matches.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(formatMatch(matches.get(i)));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    private static String formatMatch(TextMatch match) {
+        String entry = match.getEvent().map(event -> "Event: " + Messages.formatEvent(event))
+                .orElseGet(() -> "Property: " + Messages.formatProperty(match.getProperty().get()));
+        return String.format("%s (score %.2f)", entry, match.getScore());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindTextCommand otherFindTextCommand)) {
+            return false;
+        }
+
+        return query.equals(otherFindTextCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
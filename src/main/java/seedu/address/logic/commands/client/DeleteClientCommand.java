@@ -14,10 +14,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientName;
-import seedu.address.model.deal.Deal;
 import seedu.address.model.deal.DealStatus;
-import seedu.address.model.event.Event;
-import seedu.address.model.property.Property;
 
 /**
  * Deletes a client identified using it's displayed index from REconnect.
@@ -49,19 +46,26 @@ public class DeleteClientCommand extends DeleteCommand<Client> {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Client> lastShownClientList = model.getFilteredClientList();
-        List<Deal> lastShownDealList = model.getFilteredDealList();
-        List<Event> lastShownEventList = model.getFilteredEventList();
-        List<Property> lastShownPropertyList = model.getFilteredPropertyList();
 
         if (targetIndex.getZeroBased() >= lastShownClientList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
         }
 
         Client clientToDelete = lastShownClientList.get(targetIndex.getZeroBased());
+        ClientName clientNameToDelete = clientToDelete.getFullName();
 
-        String existingDeals = existInDeals(clientToDelete, lastShownDealList);
-        String existingEvents = existInEvents(clientToDelete, lastShownEventList);
-        String existingProperties = existInProperties(clientToDelete, lastShownPropertyList);
+        String existingDeals = describeReferences("He/She is involved in the following unclosed deal(s): ",
+                model.getDealsInvolving(clientNameToDelete).stream()
+                        .filter(deal -> deal.getStatus() != DealStatus.CLOSED)
+                        .toList(),
+                model::getFilteredDealIndex);
+        String existingEvents = describeReferences("He/She is involved in the following future event(s): ",
+                model.getEventsInvolving(clientNameToDelete).stream()
+                        .filter(event -> LocalDateTime.now().isBefore(event.getDateTime()))
+                        .toList(),
+                model::getFilteredEventIndex);
+        String existingProperties = describeReferences("He/She is the owner of the following property(s): ",
+                model.getPropertiesOwnedBy(clientNameToDelete), model::getFilteredPropertyIndex);
 
         if (!existingDeals.isEmpty() || !existingEvents.isEmpty() || !existingProperties.isEmpty()) {
             String msg = String.format(MESSAGE_DELETE_CLIENT_ERROR, clientToDelete.getFullName());
@@ -73,60 +77,6 @@ public class DeleteClientCommand extends DeleteCommand<Client> {
         return new CommandResult(String.format(MESSAGE_DELETE_CLIENT_SUCCESS, Messages.formatClient(clientToDelete)));
     }
 
-    private String existInDeals(Client clientToDelete, List<Deal> dealList) {
-        ClientName clientNameToDelete = clientToDelete.getFullName();
-        StringBuilder msg = new StringBuilder("He/She is involved in the following unclosed deal(s): ");
-        boolean found = false;
-        for (int i = 0; i < dealList.size(); i++) {
-            Deal deal = dealList.get(i);
-            if ((clientNameToDelete.equals(deal.getBuyer())
-                || clientNameToDelete.equals(deal.getSeller()))
-                && deal.getStatus() != DealStatus.CLOSED) {
-                msg.append(i + 1).append(" ");
-                found = true;
-            }
-        }
-        if (found) {
-            return msg + ".\n";
-        }
-        return "";
-    }
-
-    private String existInEvents(Client clientToDelete, List<Event> eventList) {
-        ClientName clientNameToDelete = clientToDelete.getFullName();
-        StringBuilder msg = new StringBuilder("He/She is involved in the following future event(s): ");
-        boolean found = false;
-        for (int i = 0; i < eventList.size(); i++) {
-            Event event = eventList.get(i);
-            if (clientNameToDelete.equals(event.getClientName())
-                && LocalDateTime.now().isBefore(event.getDateTime())) {
-                msg.append(i + 1).append(" ");
-                found = true;
-            }
-        }
-        if (found) {
-            return msg + ".\n";
-        }
-        return "";
-    }
-
-    private String existInProperties(Client clientToDelete, List<Property> propertyList) {
-        ClientName clientNameToDelete = clientToDelete.getFullName();
-        StringBuilder msg = new StringBuilder("He/She is the owner of the following property(s): ");
-        boolean found = false;
-        for (int i = 0; i < propertyList.size(); i++) {
-            Property property = propertyList.get(i);
-            if (clientNameToDelete.equals(property.getOwner())) {
-                msg.append(i + 1).append(" ");
-                found = true;
-            }
-        }
-        if (found) {
-            return msg + ".\n";
-        }
-        return "";
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -20,13 +20,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditDescriptor;
-import seedu.address.logic.commands.deal.UpdateDealCommand;
-import seedu.address.logic.commands.deal.UpdateDealCommand.UpdateDealDescriptor;
-import seedu.address.logic.commands.event.EditEventCommand;
-import seedu.address.logic.commands.event.EditEventCommand.EditEventDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.property.EditPropertyCommand;
-import seedu.address.logic.commands.property.EditPropertyCommand.EditPropertyDescriptor;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
@@ -34,9 +28,6 @@ import seedu.address.model.client.ClientName;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.Phone;
 import seedu.address.model.commons.Address;
-import seedu.address.model.deal.Deal;
-import seedu.address.model.event.Event;
-import seedu.address.model.property.Property;
 
 /**
  * Edits the details of an existing client in REconnect.
@@ -92,9 +83,6 @@ public class EditClientCommand extends EditCommand<Client> {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Client> lastShownClientList = model.getFilteredClientList();
-        List<Deal> lastShownDealList = model.getFilteredDealList();
-        List<Event> lastShownEventList = model.getFilteredEventList();
-        List<Property> lastShownPropertyList = model.getFilteredPropertyList();
         Optional<ClientName> optionalClientName = editClientDescriptor.getFullName();
 
         if (index.getZeroBased() >= lastShownClientList.size()) {
@@ -117,76 +105,12 @@ public class EditClientCommand extends EditCommand<Client> {
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
 
         if (optionalClientName.isPresent()) {
-            ClientName oldClientName = clientToEdit.getFullName();
-
-            updateClientNameInDeals(oldClientName, index, lastShownDealList, model);
-            updateClientNameInEvents(oldClientName, index, lastShownEventList, model);
-            updateClientNameInListings(oldClientName, index, lastShownPropertyList, model);
+            model.renameClient(clientToEdit.getFullName(), editedClient.getFullName());
         }
 
         return new CommandResult(String.format(MESSAGE_EDIT_CLIENT_SUCCESS, Messages.formatClient(editedClient)));
     }
 
-    private void updateClientNameInEvents(ClientName oldClientName, Index index,
-            List<Event> eventList, Model model) {
-        int eventPosition = 0;
-        for (; eventPosition < eventList.size(); eventPosition++) {
-            Event event = eventList.get(eventPosition);
-            EditEventDescriptor descriptor = new EditEventDescriptor();
-            if (oldClientName.equals(event.getClientName())) {
-                descriptor.setClientId(index);
-            }
-            if (descriptor.isAnyFieldEdited()) {
-                try {
-                    new EditEventCommand(Index.fromZeroBased(eventPosition), descriptor).execute(model);
-                } catch (CommandException e) {
-                    logger.info("An error occurred while executing command to update client");
-                }
-            }
-        }
-    }
-
-    private void updateClientNameInListings(ClientName oldClientName,
-            Index index, List<Property> propertyList, Model model) {
-        int listingPosition = 0;
-        for (; listingPosition < propertyList.size(); listingPosition++) {
-            Property property = propertyList.get(listingPosition);
-            EditPropertyDescriptor descriptor = new EditPropertyDescriptor();
-            if (oldClientName.equals(property.getOwner())) {
-                descriptor.setOwner(index);
-            }
-            if (descriptor.isAnyFieldEdited()) {
-                try {
-                    new EditPropertyCommand(Index.fromZeroBased(listingPosition), descriptor).execute(model);
-                } catch (CommandException e) {
-                    logger.info("An error occurred while executing command to update client");
-                }
-            }
-        }
-    }
-
-    private void updateClientNameInDeals(ClientName oldClientName, Index index,
-            List<Deal> dealList, Model model) {
-        int dealPosition = 0;
-        for (; dealPosition < dealList.size(); dealPosition++) {
-            Deal deal = dealList.get(dealPosition);
-            UpdateDealDescriptor descriptor = new UpdateDealDescriptor();
-            if (oldClientName.equals(deal.getBuyer())) {
-                descriptor.setBuyer(index);
-            }
-            if (oldClientName.equals(deal.getSeller())) {
-                descriptor.setSeller(index);
-            }
-            if (descriptor.isAnyFieldEdited()) {
-                try {
-                    new UpdateDealCommand(Index.fromZeroBased(dealPosition), descriptor).execute(model);
-                } catch (CommandException e) {
-                    logger.info("An error occurred while executing command to update client");
-                }
-            }
-        }
-    }
-
     /**
      * Creates and returns a {@code Client} with the details of {@code clientToEdit}
      * edited with {@code editClientDescriptor}.
@@ -13,6 +13,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
 
@@ -33,6 +34,8 @@ public class FindClientCommand extends FindCommand<Client> {
             + "[" + PREFIX_ADDRESS + "ADDRESS]\n"
             + "Note: At least one parameter must be provided. If more than 1 parameter is provided, all must be "
             + "combined with the same connective operator either 'AND' or 'OR'.\n"
+            + FindCommand.MESSAGE_FUZZY_NOTE
+            + FindCommand.MESSAGE_EXPLAIN_NOTE
             + "Example: " + COMMAND_WORD + " " + PREFIX_KEYWORDS + "Alice " + PREFIX_PHONE.getOrPrefix()
             + "12345678";
 
@@ -40,6 +43,10 @@ public class FindClientCommand extends FindCommand<Client> {
         super(predicate);
     }
 
+    public FindClientCommand(Predicate<Client> predicate, boolean shouldExplain) {
+        super(predicate, shouldExplain);
+    }
+
     /**
      * Adds the command word to the command word list.
      */
@@ -57,8 +64,14 @@ public class FindClientCommand extends FindCommand<Client> {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredClientList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
+        return new CommandResult(withExplanation(model,
+                String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size())));
+    }
+
+    @Override
+    public BackgroundSearch prepareSearch(Model model) {
+        requireNonNull(model);
+        return model.prepareClientSearch(predicate);
     }
 
     @Override
@@ -72,13 +85,15 @@ public class FindClientCommand extends FindCommand<Client> {
             return false;
         }
 
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && shouldExplain == otherFindCommand.shouldExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("shouldExplain", shouldExplain)
                 .toString();
     }
 }
@@ -145,8 +145,9 @@ public class AddDealCommand extends Command {
         }
 
         // Check if the property is already involved in another deal
-        boolean propertyAlreadyInDeal = model.getFilteredDealList().stream()
-                .anyMatch(existingDeal -> existingDeal.getPropertyName().equals(propertyName));
+        List<Deal> dealsForProperty = model.getDealsInvolving(propertyName);
+        boolean propertyAlreadyInDeal = dealsForProperty.stream()
+                .anyMatch(deal -> model.getFilteredDealIndex(deal) != -1);
         if (propertyAlreadyInDeal) {
             logger.warning("Property already in another deal: " + propertyName);
             throw new CommandException(MESSAGE_PROPERTY_ALREADY_IN_DEAL);
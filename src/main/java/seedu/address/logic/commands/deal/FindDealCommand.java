@@ -17,6 +17,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
 import seedu.address.model.deal.Deal;
 
@@ -41,6 +42,7 @@ public class FindDealCommand extends FindCommand<Deal> {
             + "[" + PREFIX_PRICE_BELOW + "PRICE_BELOW]\n"
             + "Note: At least one parameter must be provided. If more than 1 parameter is provided, all must be "
             + "combined with the same connective operator either 'AND' or 'OR'.\n"
+            + FindCommand.MESSAGE_EXPLAIN_NOTE
             + "Example: " + COMMAND_WORD + " " + PREFIX_PROPERTY_NAME + "Villa " + PREFIX_STATUS.getAndPrefix()
             + "PENDING";
 
@@ -50,7 +52,18 @@ public class FindDealCommand extends FindCommand<Deal> {
      * @param predicate The predicate to filter deals by
      */
     public FindDealCommand(Predicate<Deal> predicate) {
-        super(predicate);
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a new FindDealCommand with the given predicate, showing how the search was carried out if
+     * {@code shouldExplain} is true.
+     *
+     * @param predicate The predicate to filter deals by
+     * @param shouldExplain Whether to show the plan of the search
+     */
+    public FindDealCommand(Predicate<Deal> predicate, boolean shouldExplain) {
+        super(predicate, shouldExplain);
         logger.info("FindDealCommand initialized with predicate: " + predicate);
     }
 
@@ -78,7 +91,14 @@ public class FindDealCommand extends FindCommand<Deal> {
         int dealsFound = model.getFilteredDealList().size();
         logger.info("Found " + dealsFound + " deals satisfying the predicate");
 
-        return new CommandResult(String.format(Messages.MESSAGE_DEALS_LISTED_OVERVIEW, dealsFound));
+        return new CommandResult(
+                withExplanation(model, String.format(Messages.MESSAGE_DEALS_LISTED_OVERVIEW, dealsFound)));
+    }
+
+    @Override
+    public BackgroundSearch prepareSearch(Model model) {
+        requireNonNull(model);
+        return model.prepareDealSearch(predicate);
     }
 
     @Override
@@ -92,13 +112,15 @@ public class FindDealCommand extends FindCommand<Deal> {
             return false;
         }
 
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && shouldExplain == otherFindCommand.shouldExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("shouldExplain", shouldExplain)
                 .toString();
     }
 }
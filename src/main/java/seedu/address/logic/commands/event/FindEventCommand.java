@@ -16,6 +16,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 
@@ -36,6 +37,7 @@ public class FindEventCommand extends FindCommand<Event> {
             + "[" + PREFIX_EVENT_ABOUT + "PROPERTY_NAME_KEYWORDS]\n"
             + "Note: At least one parameter must be provided. If more than 1 parameter is provided, all must be "
             + "combined with the same connective operator either 'AND' or 'OR'.\n"
+            + FindCommand.MESSAGE_EXPLAIN_NOTE
             + "Example: " + COMMAND_WORD + " " + PREFIX_EVENT_WITH + "Alice Yeo " + PREFIX_EVENT_TYPE.getAndPrefix()
             + "meeting";
 
@@ -47,7 +49,18 @@ public class FindEventCommand extends FindCommand<Event> {
      * @param predicate Predicate used to filter the events.
      */
     public FindEventCommand(Predicate<Event> predicate) {
-        super(predicate);
+        this(predicate, false);
+    }
+
+    /**
+     * Constructs a {@code FindEventCommand} with the given predicate, showing how the search was carried out if
+     * {@code shouldExplain} is true.
+     *
+     * @param predicate Predicate used to filter the events.
+     * @param shouldExplain Whether to show the plan of the search.
+     */
+    public FindEventCommand(Predicate<Event> predicate, boolean shouldExplain) {
+        super(predicate, shouldExplain);
         logger.info("FindEventCommand initialized with predicate: " + predicate);
     }
 
@@ -73,7 +86,14 @@ public class FindEventCommand extends FindCommand<Event> {
         model.updateFilteredEventList(predicate);
         int eventsFound = model.getFilteredEventList().size();
         logger.info("Found " + eventsFound + " events satisfying the predicate");
-        return new CommandResult(String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, eventsFound));
+        return new CommandResult(
+                withExplanation(model, String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, eventsFound)));
+    }
+
+    @Override
+    public BackgroundSearch prepareSearch(Model model) {
+        requireNonNull(model);
+        return model.prepareEventSearch(predicate);
     }
 
     @Override
@@ -87,13 +107,15 @@ public class FindEventCommand extends FindCommand<Event> {
             return false;
         }
 
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && shouldExplain == otherFindCommand.shouldExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("shouldExplain", shouldExplain)
                 .toString();
     }
 }
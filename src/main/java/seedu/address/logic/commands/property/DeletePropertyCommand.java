@@ -12,9 +12,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.deal.Deal;
 import seedu.address.model.deal.DealStatus;
-import seedu.address.model.event.Event;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.PropertyName;
 
@@ -48,17 +46,24 @@ public class DeletePropertyCommand extends DeleteCommand<Property> {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Property> lastShownList = model.getFilteredPropertyList();
-        List<Deal> lastShownDealList = model.getFilteredDealList();
-        List<Event> lastShownEventList = model.getFilteredEventList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
         }
 
         Property propertyToDelete = lastShownList.get(targetIndex.getZeroBased());
+        PropertyName propertyNameToDelete = propertyToDelete.getFullName();
 
-        String existingDeals = existInDeals(propertyToDelete, lastShownDealList);
-        String existingEvents = existInEvents(propertyToDelete, lastShownEventList);
+        String existingDeals = describeReferences("It is part of unclosed deal(s) ",
+                model.getDealsInvolving(propertyNameToDelete).stream()
+                        .filter(deal -> deal.getStatus() != DealStatus.CLOSED)
+                        .toList(),
+                model::getFilteredDealIndex);
+        String existingEvents = describeReferences("It is part of future event(s) ",
+                model.getEventsInvolving(propertyNameToDelete).stream()
+                        .filter(event -> LocalDateTime.now().isBefore(event.getDateTime()))
+                        .toList(),
+                model::getFilteredEventIndex);
 
         if (!existingDeals.isEmpty() || !existingEvents.isEmpty()) {
             String msg = String.format(MESSAGE_DELETE_PROPERTY_ERROR, propertyToDelete.getFullName());
@@ -71,42 +76,6 @@ public class DeletePropertyCommand extends DeleteCommand<Property> {
                 MESSAGE_DELETE_PROPERTY_SUCCESS, Messages.formatProperty(propertyToDelete)));
     }
 
-    private String existInDeals(Property propertyToDelete, List<Deal> dealList) {
-        PropertyName propertyNameToDelete = propertyToDelete.getFullName();
-        StringBuilder msg = new StringBuilder("It is part of unclosed deal(s) ");
-        boolean found = false;
-        for (int i = 0; i < dealList.size(); i++) {
-            Deal deal = dealList.get(i);
-            if ((propertyNameToDelete.equals(deal.getPropertyName()))
-                    && deal.getStatus() != DealStatus.CLOSED) {
-                msg.append(i + 1).append(" ");
-                found = true;
-            }
-        }
-        if (found) {
-            return msg + ".\n";
-        }
-        return "";
-    }
-
-    private String existInEvents(Property propertyToDelete, List<Event> eventList) {
-        PropertyName propertyNameToDelete = propertyToDelete.getFullName();
-        StringBuilder msg = new StringBuilder("It is part of future event(s) ");
-        boolean found = false;
-        for (int i = 0; i < eventList.size(); i++) {
-            Event event = eventList.get(i);
-            if (propertyNameToDelete.equals(event.getPropertyName())
-                    && LocalDateTime.now().isBefore(event.getDateTime())) {
-                msg.append(i + 1).append(" ");
-                found = true;
-            }
-        }
-        if (found) {
-            return msg + ".\n";
-        }
-        return "";
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -22,10 +22,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditDescriptor;
-import seedu.address.logic.commands.deal.UpdateDealCommand;
-import seedu.address.logic.commands.deal.UpdateDealCommand.UpdateDealDescriptor;
-import seedu.address.logic.commands.event.EditEventCommand;
-import seedu.address.logic.commands.event.EditEventCommand.EditEventDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
@@ -33,8 +29,6 @@ import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientName;
 import seedu.address.model.commons.Address;
 import seedu.address.model.commons.Price;
-import seedu.address.model.deal.Deal;
-import seedu.address.model.event.Event;
 import seedu.address.model.property.Description;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.PropertyName;
@@ -99,8 +93,6 @@ public class EditPropertyCommand extends EditCommand<Property> {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Property> lastShownList = model.getFilteredPropertyList();
-        List<Deal> lastShownDealList = model.getFilteredDealList();
-        List<Event> lastShownEventList = model.getFilteredEventList();
         Optional<PropertyName> optionalPropertyName = editPropertyDescriptor.getPropertyName();
 
         if (index.getZeroBased() >= lastShownList.size()) {
@@ -123,51 +115,12 @@ public class EditPropertyCommand extends EditCommand<Property> {
         model.updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
 
         if (optionalPropertyName.isPresent()) {
-            PropertyName oldPropertyName = propertyToEdit.getFullName();
-
-            updatePropertyNameInDeals(oldPropertyName, index, lastShownDealList, model);
-            updatePropertyNameInEvents(oldPropertyName, index, lastShownEventList, model);
+            model.renameProperty(propertyToEdit.getFullName(), editedProperty.getFullName());
         }
 
         return new CommandResult(String.format(MESSAGE_EDIT_PROPERTY_SUCCESS, Messages.formatProperty(editedProperty)));
     }
 
-    private void updatePropertyNameInEvents(PropertyName oldPropertyName, Index index,
-            List<Event> eventList, Model model) {
-        for (int eventPosition = 0; eventPosition < eventList.size(); eventPosition++) {
-            Event event = eventList.get(eventPosition);
-            EditEventDescriptor descriptor = new EditEventDescriptor();
-            if (oldPropertyName.equals(event.getPropertyName())) {
-                descriptor.setPropertyId(index);
-            }
-            if (descriptor.isAnyFieldEdited()) {
-                try {
-                    new EditEventCommand(Index.fromZeroBased(eventPosition), descriptor).execute(model);
-                } catch (CommandException e) {
-                    logger.info("An error occurred while executing command to update property");
-                }
-            }
-        }
-    }
-
-    private void updatePropertyNameInDeals(PropertyName oldPropertyName, Index index,
-            List<Deal> dealList, Model model) {
-        for (int dealPosition = 0; dealPosition < dealList.size(); dealPosition++) {
-            Deal deal = dealList.get(dealPosition);
-            UpdateDealDescriptor descriptor = new UpdateDealDescriptor();
-            if (oldPropertyName.equals(deal.getPropertyName())) {
-                descriptor.setPropertyId(index);
-            }
-            if (descriptor.isAnyFieldEdited()) {
-                try {
-                    new UpdateDealCommand(Index.fromZeroBased(dealPosition), descriptor).execute(model);
-                } catch (CommandException e) {
-                    logger.info("An error occurred while executing command to update property");
-                }
-            }
-        }
-    }
-
     /**
      * Creates and returns a {@code Property} with the details of {@code propertyToEdit}
      * edited with {@code editPropertyDescriptor}.
@@ -16,6 +16,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
 import seedu.address.model.property.Property;
 
@@ -38,6 +39,8 @@ public class FindPropertyCommand extends FindCommand<Property> {
             + "[" + PREFIX_OWNER + "OWNER]\n"
             + "Note: At least one parameter must be provided. If more than 1 parameter is provided, all must be "
             + "combined with the same connective operator either 'AND' or 'OR'.\n"
+            + FindCommand.MESSAGE_FUZZY_NOTE
+            + FindCommand.MESSAGE_EXPLAIN_NOTE
             + "Example: " + COMMAND_WORD + " " + PREFIX_OWNER + "John Doe " + PREFIX_PRICE_ABOVE.getAndPrefix()
             + "500";
 
@@ -47,7 +50,15 @@ public class FindPropertyCommand extends FindCommand<Property> {
      * Creates an FindPropertyCommand to find the specified property.
      */
     public FindPropertyCommand(Predicate<Property> predicate) {
-        super(predicate);
+        this(predicate, false);
+    }
+
+    /**
+     * Creates an FindPropertyCommand to find the specified property, showing how the search was carried out if
+     * {@code shouldExplain} is true.
+     */
+    public FindPropertyCommand(Predicate<Property> predicate, boolean shouldExplain) {
+        super(predicate, shouldExplain);
         this.predicate = predicate;
     }
 
@@ -71,8 +82,14 @@ public class FindPropertyCommand extends FindCommand<Property> {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPropertyList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PROPERTIES_LISTED_OVERVIEW, model.getFilteredPropertyList().size()));
+        return new CommandResult(withExplanation(model,
+                String.format(Messages.MESSAGE_PROPERTIES_LISTED_OVERVIEW, model.getFilteredPropertyList().size())));
+    }
+
+    @Override
+    public BackgroundSearch prepareSearch(Model model) {
+        requireNonNull(model);
+        return model.preparePropertySearch(predicate);
     }
 
     @Override
@@ -87,13 +104,15 @@ public class FindPropertyCommand extends FindCommand<Property> {
         }
 
         FindPropertyCommand otherFindCommand = (FindPropertyCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && shouldExplain == otherFindCommand.shouldExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("shouldExplain", shouldExplain)
                 .toString();
     }
 }
@@ -14,7 +14,9 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindAllCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindTextCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAllCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -137,12 +139,14 @@ public class AddressBookParser {
         };
     }
 
-    private FindCommand<?> getFindCommand(String commandWord, String arguments) throws ParseException {
+    private Command getFindCommand(String commandWord, String arguments) throws ParseException {
         return switch (commandWord) {
+        case FindAllCommand.COMMAND_WORD -> new FindAllCommandParser().parse(arguments);
         case FindClientCommand.COMMAND_WORD -> new FindClientCommandParser().parse(arguments);
         case FindPropertyCommand.COMMAND_WORD -> new FindPropertyCommandParser().parse(arguments);
         case FindEventCommand.COMMAND_WORD -> new FindEventCommandParser().parse(arguments);
         case FindDealCommand.COMMAND_WORD -> new FindDealCommandParser().parse(arguments);
+        case FindTextCommand.COMMAND_WORD -> new FindTextCommandParser().parse(arguments);
         default -> throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         };
     }
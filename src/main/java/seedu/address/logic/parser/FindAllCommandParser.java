@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.FindAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
+import seedu.address.model.commons.CombinedPredicate;
+import seedu.address.model.commons.CombinedPredicate.Connective;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.predicates.DealBuyerNameContainsPredicate;
+import seedu.address.model.deal.predicates.DealPropertyNameContainsPredicate;
+import seedu.address.model.deal.predicates.DealSellerNameContainsPredicate;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.predicates.EventAboutPropertyPredicate;
+import seedu.address.model.event.predicates.EventWithClientPredicate;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.property.predicates.PropertyNameContainsKeywordsPredicate;
+import seedu.address.model.property.predicates.PropertyOwnerContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindAllCommand object
+ */
+public class FindAllCommandParser implements Parser<FindAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindAllCommand
+     * and returns a FindAllCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public FindAllCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAllCommand.MESSAGE_USAGE));
+        }
+
+        List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        String joinedKeywords = String.join(" ", keywords);
+        boolean isClientName = ClientName.isValidClientName(joinedKeywords);
+        boolean isPropertyName = PropertyName.isValidPropertyName(joinedKeywords);
+        if (!isClientName && !isPropertyName) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAllCommand.MESSAGE_USAGE));
+        }
+
+        Predicate<Client> clientPredicate = new ClientNameContainsKeywordsPredicate(keywords);
+        Predicate<Property> propertyPredicate = new CombinedPredicate<>(Connective.OR, List.of(
+                new PropertyNameContainsKeywordsPredicate(keywords),
+                new PropertyOwnerContainsKeywordsPredicate(keywords)));
+
+        List<Predicate<Deal>> dealPredicates = new ArrayList<>();
+        List<Predicate<Event>> eventPredicates = new ArrayList<>();
+        if (isClientName) {
+            ClientName clientName = new ClientName(joinedKeywords);
+            dealPredicates.add(new DealBuyerNameContainsPredicate(clientName));
+            dealPredicates.add(new DealSellerNameContainsPredicate(clientName));
+            eventPredicates.add(new EventWithClientPredicate(clientName));
+        }
+        if (isPropertyName) {
+            PropertyName propertyName = new PropertyName(joinedKeywords);
+            dealPredicates.add(new DealPropertyNameContainsPredicate(propertyName));
+            eventPredicates.add(new EventAboutPropertyPredicate(propertyName));
+        }
+
+        return new FindAllCommand(clientPredicate, propertyPredicate, anyOf(dealPredicates),
+                anyOf(eventPredicates));
+    }
+
+    private static <T> Predicate<T> anyOf(List<Predicate<T>> predicates) {
+        return predicates.size() == 1 ? predicates.get(0) : new CombinedPredicate<>(Connective.OR, predicates);
+    }
+}
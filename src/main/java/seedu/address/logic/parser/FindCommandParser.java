@@ -1,11 +1,14 @@
 package seedu.address.logic.parser;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.commons.CombinedPredicate;
+import seedu.address.model.commons.CombinedPredicate.Connective;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -70,36 +73,30 @@ public abstract class FindCommandParser<T> implements Parser<FindCommand<T>> {
     }
 
     /**
-     * Combines the predicates based on the prefixes used.
-     *
-     * @param prefixPredicateMap A map of prefixes to predicates.
+     * Returns true if the preamble of {@code argMultimap} asks for the search to be explained.
      */
-    protected static <T> Predicate<T> getCombinedPredicate(LinkedHashMap<Prefix, Predicate<T>> prefixPredicateMap) {
-        Predicate<T> combinedPredicate = null;
-        for (Prefix prefix : prefixPredicateMap.keySet()) {
-            combinedPredicate = combinePredicates(combinedPredicate, prefix, prefixPredicateMap.get(prefix));
-        }
-        return combinedPredicate;
+    protected static boolean isExplainRequested(ArgumentMultimap argMultimap) {
+        return argMultimap.getPreamble().equalsIgnoreCase(FindCommand.EXPLAIN_KEYWORD);
     }
 
     /**
-     * Combines the current predicate with the next predicate based on the prefix.
+     * Combines the predicates based on the prefixes used.
+     * The predicates are combined into a single {@code CombinedPredicate} so that the model can inspect them.
      *
-     * @param currentPredicate The current predicate.
-     * @param prefix The prefix indicating the type of combination (AND/OR).
-     * @param nextPredicate The next predicate to combine with.
-     * @return The combined predicate.
+     * @param prefixPredicateMap A map of prefixes to predicates.
      */
-    private static <T> Predicate<T> combinePredicates(Predicate<T> currentPredicate, Prefix prefix,
-                                                        Predicate<T> nextPredicate) {
-        if (currentPredicate == null && !prefix.isConnective()) {
-            return nextPredicate;
-        } else if (currentPredicate != null && prefix.isAndPrefix()) {
-            return currentPredicate.and(nextPredicate);
-        } else if (currentPredicate != null && prefix.isOrPrefix()) {
-            return currentPredicate.or(nextPredicate);
-        } else {
-            throw new IllegalStateException("Invalid state: currentPredicate is null and prefix is connective");
+    protected static <T> Predicate<T> getCombinedPredicate(LinkedHashMap<Prefix, Predicate<T>> prefixPredicateMap) {
+        List<Predicate<T>> predicates = new ArrayList<>();
+        Connective connective = Connective.AND;
+        for (Prefix prefix : prefixPredicateMap.keySet()) {
+            if (predicates.isEmpty() && prefix.isConnective()) {
+                throw new IllegalStateException("Invalid state: first prefix is connective");
+            }
+            if (prefix.isOrPrefix()) {
+                connective = Connective.OR;
+            }
+            predicates.add(prefixPredicateMap.get(prefix));
         }
+        return predicates.size() == 1 ? predicates.get(0) : new CombinedPredicate<>(connective, predicates);
     }
 }
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FindTextCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindTextCommand object
+ */
+public class FindTextCommandParser implements Parser<FindTextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindTextCommand
+     * and returns a FindTextCommand object for execution.
+     * @throws ParseException if the user input does not contain a keyword with a letter or digit
+     */
+    public FindTextCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.matches("(?s).*[\\p{L}\\p{N}].*")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTextCommand.MESSAGE_USAGE));
+        }
+
+        return new FindTextCommand(String.join(" ", trimmedArgs.split("\\s+")));
+    }
+}
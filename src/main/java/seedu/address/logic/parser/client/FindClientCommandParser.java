@@ -1,5 +1,6 @@
 package seedu.address.logic.parser.client;
 
+import static seedu.address.logic.Messages.MESSAGE_EMPTY_FUZZY_KEYWORD;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -26,6 +27,7 @@ import seedu.address.model.client.predicates.ClientAddressContainsPredicate;
 import seedu.address.model.client.predicates.ClientEmailContainsPredicate;
 import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
 import seedu.address.model.client.predicates.ClientPhoneContainsPredicate;
+import seedu.address.model.commons.NameContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -69,7 +71,7 @@ public class FindClientCommandParser extends FindCommandParser<Client> {
 
         LinkedHashMap<Prefix, Predicate<Client>> prefixPredicateMap = getPrefixPredicateMap(prefixesUsed);
         Predicate<Client> combinedPredicate = getCombinedPredicate(prefixPredicateMap);
-        return new FindClientCommand(combinedPredicate);
+        return new FindClientCommand(combinedPredicate, isExplainRequested(argMultimap));
     }
 
     @Override
@@ -117,6 +119,9 @@ public class FindClientCommandParser extends FindCommandParser<Client> {
         if (prefixesUsed.contains(PREFIX_KEYWORDS) && nameKeywords.isEmpty()) {
             throw new ParseException("No keywords provided");
         }
+        if (nameKeywords.contains(NameContainsKeywordsPredicate.FUZZY_MARKER)) {
+            throw new ParseException(MESSAGE_EMPTY_FUZZY_KEYWORD);
+        }
         logger.fine("Name: " + nameContains);
     }
 }
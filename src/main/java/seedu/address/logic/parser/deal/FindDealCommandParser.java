@@ -82,7 +82,7 @@ public class FindDealCommandParser extends FindCommandParser<Deal> {
 
         LinkedHashMap<Prefix, Predicate<Deal>> prefixPredicateMap = getPrefixPredicateMap(prefixesUsed);
         Predicate<Deal> combinedPredicate = getCombinedPredicate(prefixPredicateMap);
-        return new FindDealCommand(combinedPredicate);
+        return new FindDealCommand(combinedPredicate, isExplainRequested(argMultimap));
     }
 
     @Override
@@ -77,7 +77,7 @@ public class FindEventCommandParser extends FindCommandParser<Event> {
 
         LinkedHashMap<Prefix, Predicate<Event>> prefixPredicateMap = getPrefixPredicateMap(prefixesUsed);
         Predicate<Event> combinedPredicate = getCombinedPredicate(prefixPredicateMap);
-        return new FindEventCommand(combinedPredicate);
+        return new FindEventCommand(combinedPredicate, isExplainRequested(argMultimap));
     }
 
     @Override
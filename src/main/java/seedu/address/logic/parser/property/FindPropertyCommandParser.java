@@ -1,5 +1,6 @@
 package seedu.address.logic.parser.property;
 
+import static seedu.address.logic.Messages.MESSAGE_EMPTY_FUZZY_KEYWORD;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORDS;
@@ -25,6 +26,7 @@ import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.event.FindEventCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.commons.NameContainsKeywordsPredicate;
 import seedu.address.model.commons.Price;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.Size;
@@ -82,7 +84,7 @@ public class FindPropertyCommandParser extends FindCommandParser<Property> {
 
         LinkedHashMap<Prefix, Predicate<Property>> prefixPredicateMap = getPrefixPredicateMap(prefixesUsed);
         Predicate<Property> combinedPredicate = getCombinedPredicate(prefixPredicateMap);
-        return new FindPropertyCommand(combinedPredicate);
+        return new FindPropertyCommand(combinedPredicate, isExplainRequested(argMultimap));
     }
 
     @Override
@@ -162,6 +164,9 @@ public class FindPropertyCommandParser extends FindCommandParser<Property> {
         if (prefixesUsed.contains(PREFIX_KEYWORDS) && nameKeywords.isEmpty()) {
             throw new ParseException("No keywords provided");
         }
+        if (nameKeywords.contains(NameContainsKeywordsPredicate.FUZZY_MARKER)) {
+            throw new ParseException(MESSAGE_EMPTY_FUZZY_KEYWORD);
+        }
 
         addressContains = argMultimap.getValue(PREFIX_ADDRESS).orElse(BLANK).trim();
         if (prefixesUsed.contains(PREFIX_ADDRESS) && addressContains.isEmpty()) {
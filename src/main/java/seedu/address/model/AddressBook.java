@@ -1,24 +1,45 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.commons.Id;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.deal.UniqueDealList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 import seedu.address.model.property.UniquePropertyList;
+import seedu.address.model.util.Positions;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameClient comparison)
+ * Keeps track of which deals, events and properties refer to each client and property name, updating these references
+ * before the list that changed notifies its listeners, so that listeners reading them see the change.
+ * Every client and property is given an {@code Id} when it is added, which is kept when it is edited.
+ * The ids are only used by storage to refer to entries; within the model, entries refer to each other by name.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -27,6 +48,17 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueEventList events;
     private final UniquePropertyList properties;
 
+    private final ReferenceIndex<ClientName, Deal> dealsByClient = new ReferenceIndex<>();
+    private final ReferenceIndex<ClientName, Event> eventsByClient = new ReferenceIndex<>();
+    private final ReferenceIndex<ClientName, Property> propertiesByOwner = new ReferenceIndex<>();
+    private final ReferenceIndex<PropertyName, Deal> dealsByProperty = new ReferenceIndex<>();
+    private final ReferenceIndex<PropertyName, Event> eventsByProperty = new ReferenceIndex<>();
+
+    private final Set<Id> clientIds = new HashSet<>();
+    private final Set<Id> propertyIds = new HashSet<>();
+    private long nextId = 1;
+    private long modificationVersion;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -40,6 +72,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         deals = new UniqueDealList();
         events = new UniqueEventList();
         properties = new UniquePropertyList();
+
+        ListChangeListener<Object> versionCounter = change -> modificationVersion++;
+        clients.asUnmodifiableObservableList().addListener(versionCounter);
+        deals.asUnmodifiableObservableList().addListener(versionCounter);
+        events.asUnmodifiableObservableList().addListener(versionCounter);
+        properties.asUnmodifiableObservableList().addListener(versionCounter);
     }
 
     public AddressBook() {}
@@ -59,7 +97,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code clients} must not contain duplicate clients.
      */
     public void setClients(List<Client> clients) {
-        this.clients.setClients(clients);
+        Set<Id> newIds = new HashSet<>();
+        List<Client> identifiedClients = new ArrayList<>();
+        for (Client client : clients) {
+            Id id = claimId(client.getId(), newIds);
+            newIds.add(id);
+            identifiedClients.add(client.withId(id));
+        }
+        this.clients.setClients(identifiedClients);
+        clientIds.clear();
+        clientIds.addAll(newIds);
     }
 
     /**
@@ -67,7 +114,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code deals} must not contain duplicate deals.
      */
     public void setDeals(List<Deal> deals) {
-        this.deals.setDeals(deals);
+        this.deals.applyAsSingleChange(() -> {
+            this.deals.setDeals(deals);
+            dealsByClient.clear();
+            dealsByProperty.clear();
+            deals.forEach(this::indexDeal);
+        });
     }
 
     /**
@@ -75,7 +127,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code properties} must not contain duplicate properties.
      */
     public void setProperties(List<Property> properties) {
-        this.properties.setProperties(properties);
+        Set<Id> newIds = new HashSet<>();
+        List<Property> identifiedProperties = new ArrayList<>();
+        for (Property property : properties) {
+            Id id = claimId(property.getId(), newIds);
+            newIds.add(id);
+            identifiedProperties.add(property.withId(id));
+        }
+        this.properties.applyAsSingleChange(() -> {
+            this.properties.setProperties(identifiedProperties);
+            propertyIds.clear();
+            propertyIds.addAll(newIds);
+            propertiesByOwner.clear();
+            identifiedProperties.forEach(this::indexProperty);
+        });
     }
 
     /**
@@ -113,7 +178,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The client must not already exist in REconnect.
      */
     public void addClient(Client p) {
-        clients.add(p);
+        Id id = claimId(p.getId(), clientIds);
+        clients.add(p.withId(id));
+        clientIds.add(id);
     }
 
     /**
@@ -124,7 +191,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setClient(Client target, Client editedClient) {
         requireNonNull(editedClient);
 
-        clients.setClient(target, editedClient);
+        Optional<Id> id = clients.get(target.getFullName()).flatMap(Client::getId);
+        clients.setClient(target, id.map(editedClient::withId).orElse(editedClient));
     }
 
     /**
@@ -132,7 +200,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in REconnect.
      */
     public void removeClient(Client key) {
+        Optional<Id> id = clients.get(key.getFullName()).flatMap(Client::getId);
         clients.remove(key);
+        id.ifPresent(clientIds::remove);
     }
 
     //// event operations
@@ -148,7 +218,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event event) {
         requireNonNull(event);
-        events.add(event);
+        events.applyAsSingleChange(() -> {
+            events.add(event);
+            indexEvent(event);
+        });
+    }
+
+    /**
+     * Replaces the given event {@code target} in the list with {@code editedEvent}.
+     * {@code target} must exist in REconnect.
+     * The event identity of {@code editedEvent} must not be the same as another existing event in REconnect.
+     */
+    public void setEvent(Event target, Event editedEvent) {
+        requireNonNull(editedEvent);
+
+        events.applyAsSingleChange(() -> {
+            events.setEvent(target, editedEvent);
+            unindexEvent(target);
+            indexEvent(editedEvent);
+        });
     }
 
     /**
@@ -156,11 +244,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeEvent(Event event) {
         requireNonNull(event);
-        events.remove(event);
+        events.applyAsSingleChange(() -> {
+            events.remove(event);
+            unindexEvent(event);
+        });
     }
 
+    /**
+     * Replaces the contents of the event list with {@code events}.
+     * {@code events} must not contain duplicate events.
+     */
     public void setEvents(List<Event> events) {
-        this.events.setEvents(events);
+        this.events.applyAsSingleChange(() -> {
+            this.events.setEvents(events);
+            eventsByClient.clear();
+            eventsByProperty.clear();
+            events.forEach(this::indexEvent);
+        });
     }
 
     //// property-level operations
@@ -178,7 +278,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The property must not already exist in REconnect.
      */
     public void addProperty(Property property) {
-        properties.add(property);
+        Id id = claimId(property.getId(), propertyIds);
+        Property identifiedProperty = property.withId(id);
+        properties.applyAsSingleChange(() -> {
+            properties.add(identifiedProperty);
+            propertyIds.add(id);
+            indexProperty(identifiedProperty);
+        });
     }
 
     /**
@@ -190,7 +296,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setProperty(Property target, Property editedProperty) {
         requireNonNull(editedProperty);
 
-        properties.setProperty(target, editedProperty);
+        Optional<Id> id = properties.get(target.getFullName()).flatMap(Property::getId);
+        Property identifiedProperty = id.map(editedProperty::withId).orElse(editedProperty);
+        properties.applyAsSingleChange(() -> {
+            properties.setProperty(target, identifiedProperty);
+            unindexProperty(target);
+            indexProperty(identifiedProperty);
+        });
     }
 
     /**
@@ -198,7 +310,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in REconnect.
      */
     public void removeProperty(Property key) {
-        properties.remove(key);
+        Optional<Id> id = properties.get(key.getFullName()).flatMap(Property::getId);
+        properties.applyAsSingleChange(() -> {
+            properties.remove(key);
+            id.ifPresent(propertyIds::remove);
+            unindexProperty(key);
+        });
     }
 
     //// deal-level operations
@@ -216,7 +333,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The deal must not already exist in REconnect.
      */
     public void addDeal(Deal deal) {
-        deals.add(deal);
+        deals.applyAsSingleChange(() -> {
+            deals.add(deal);
+            indexDeal(deal);
+        });
     }
 
     /**
@@ -227,7 +347,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setDeal(Deal target, Deal editedDeal) {
         requireNonNull(editedDeal);
 
-        deals.setDeal(target, editedDeal);
+        deals.applyAsSingleChange(() -> {
+            deals.setDeal(target, editedDeal);
+            unindexDeal(target);
+            indexDeal(editedDeal);
+        });
     }
 
     /**
@@ -235,7 +359,566 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in REconnect.
      */
     public void removeDeal(Deal key) {
-        deals.remove(key);
+        deals.applyAsSingleChange(() -> {
+            deals.remove(key);
+            unindexDeal(key);
+        });
+    }
+
+    //// bulk rename operations
+
+    /**
+     * Replaces every reference to the client named {@code oldName} in deals, events and property listings
+     * with {@code newName}. Each list is rewritten in one pass and notifies its listeners once.
+     */
+    public void renameClient(ClientName oldName, ClientName newName) {
+        requireAllNonNull(oldName, newName);
+        if (oldName.equals(newName)) {
+            return;
+        }
+
+        Map<Deal, Deal> renamedDeals = new IdentityHashMap<>();
+        for (Deal deal : dealsByClient.get(oldName)) {
+            renamedDeals.put(deal, new Deal(deal.getPropertyName(),
+                    deal.getBuyer().equals(oldName) ? newName : deal.getBuyer(),
+                    deal.getSeller().equals(oldName) ? newName : deal.getSeller(),
+                    deal.getPrice(), deal.getStatus()));
+        }
+        Map<Event, Event> renamedEvents = new IdentityHashMap<>();
+        for (Event event : eventsByClient.get(oldName)) {
+            renamedEvents.put(event, new Event(event.getDateTime(), event.getEventType(), newName,
+                    event.getPropertyName(), event.getNote()));
+        }
+        Map<Property, Property> renamedProperties = new IdentityHashMap<>();
+        for (Property property : propertiesByOwner.get(oldName)) {
+            Property renamedProperty = new Property(property.getFullName(), property.getAddress(),
+                    property.getPrice(), property.getSize(), property.getDescription(), newName);
+            renamedProperties.put(property, property.getId().map(renamedProperty::withId).orElse(renamedProperty));
+        }
+
+        replaceDeals(renamedDeals);
+        replaceEvents(renamedEvents);
+        replaceProperties(renamedProperties);
+    }
+
+    /**
+     * Replaces every reference to the property named {@code oldName} in deals and events with {@code newName}.
+     * Each list is rewritten in one pass and notifies its listeners once.
+     */
+    public void renameProperty(PropertyName oldName, PropertyName newName) {
+        requireAllNonNull(oldName, newName);
+        if (oldName.equals(newName)) {
+            return;
+        }
+
+        Map<Deal, Deal> renamedDeals = new IdentityHashMap<>();
+        for (Deal deal : dealsByProperty.get(oldName)) {
+            renamedDeals.put(deal, new Deal(newName, deal.getBuyer(), deal.getSeller(), deal.getPrice(),
+                    deal.getStatus()));
+        }
+        Map<Event, Event> renamedEvents = new IdentityHashMap<>();
+        for (Event event : eventsByProperty.get(oldName)) {
+            renamedEvents.put(event, new Event(event.getDateTime(), event.getEventType(), event.getClientName(),
+                    newName, event.getNote()));
+        }
+
+        replaceDeals(renamedDeals);
+        replaceEvents(renamedEvents);
+    }
+
+    private void replaceDeals(Map<Deal, Deal> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        deals.applyAsSingleChange(() -> {
+            deals.replaceDeals(replacements);
+            replacements.forEach((deal, replacement) -> {
+                unindexDeal(deal);
+                indexDeal(replacement);
+            });
+        });
+    }
+
+    private void replaceEvents(Map<Event, Event> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        events.applyAsSingleChange(() -> {
+            events.replaceEvents(replacements);
+            replacements.forEach((event, replacement) -> {
+                unindexEvent(event);
+                indexEvent(replacement);
+            });
+        });
+    }
+
+    private void replaceProperties(Map<Property, Property> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        properties.applyAsSingleChange(() -> {
+            properties.replaceProperties(replacements);
+            replacements.forEach((property, replacement) -> {
+                unindexProperty(property);
+                indexProperty(replacement);
+            });
+        });
+    }
+
+    //// reference lookups
+
+    @Override
+    public Optional<Client> getClient(ClientName clientName) {
+        return clients.get(clientName);
+    }
+
+    @Override
+    public Optional<Property> getProperty(PropertyName propertyName) {
+        return properties.get(propertyName);
+    }
+
+    /**
+     * Returns the deals in which the client named {@code clientName} is the buyer or the seller.
+     */
+    public List<Deal> getDealsInvolving(ClientName clientName) {
+        requireNonNull(clientName);
+        return dealsByClient.get(clientName);
+    }
+
+    /**
+     * Returns the deals for the property named {@code propertyName}.
+     */
+    public List<Deal> getDealsInvolving(PropertyName propertyName) {
+        requireNonNull(propertyName);
+        return dealsByProperty.get(propertyName);
+    }
+
+    /**
+     * Returns the events with the client named {@code clientName}.
+     */
+    public List<Event> getEventsInvolving(ClientName clientName) {
+        requireNonNull(clientName);
+        return eventsByClient.get(clientName);
+    }
+
+    /**
+     * Returns the events about the property named {@code propertyName}.
+     */
+    public List<Event> getEventsInvolving(PropertyName propertyName) {
+        requireNonNull(propertyName);
+        return eventsByProperty.get(propertyName);
+    }
+
+    /**
+     * Returns the position of {@code deal} in the deal list, or -1 if it is not in the list.
+     */
+    public int getDealPosition(Deal deal) {
+        return deals.indexOf(deal);
+    }
+
+    /**
+     * Returns the position of {@code event} in the event list, or -1 if it is not in the list.
+     */
+    public int getEventPosition(Event event) {
+        return events.indexOf(event);
+    }
+
+    /**
+     * Returns the position of {@code property} in the property list, or -1 if it is not in the list.
+     */
+    public int getPropertyPosition(Property property) {
+        return properties.indexOf(property);
+    }
+
+    /**
+     * Returns the positions in the event list of the events that take place after {@code dateTime},
+     * in ascending order.
+     */
+    public int[] getEventPositionsAfter(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return Positions.range(events.indexOfFirstAfter(dateTime), events.asUnmodifiableObservableList().size());
+    }
+
+    /**
+     * Returns the positions in the event list of the events that take place before {@code dateTime},
+     * in ascending order.
+     */
+    public int[] getEventPositionsBefore(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return Positions.range(0, events.indexOfFirstNotBefore(dateTime));
+    }
+
+    /**
+     * Returns the number of events that take place after {@code dateTime}.
+     */
+    public int countEventsAfter(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return events.asUnmodifiableObservableList().size() - events.indexOfFirstAfter(dateTime);
+    }
+
+    /**
+     * Returns the number of events that take place before {@code dateTime}.
+     */
+    public int countEventsBefore(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return events.indexOfFirstNotBefore(dateTime);
+    }
+
+    /**
+     * Returns the positions in the event list of the events of type {@code eventType}, in ascending order.
+     */
+    public int[] getEventPositionsOfType(EventType eventType) {
+        return events.getPositionsOfType(eventType);
+    }
+
+    /**
+     * Returns the number of events of type {@code eventType}.
+     */
+    public int countEventsOfType(EventType eventType) {
+        return events.countOfType(eventType);
+    }
+
+    /**
+     * Returns the positions in the client list of the clients with the word {@code token} in their name,
+     * ignoring case, in ascending order.
+     */
+    public int[] getClientPositionsWithNameToken(String token) {
+        return clients.getPositionsWithNameToken(token);
+    }
+
+    /**
+     * Returns the number of clients with the word {@code token} in their name, ignoring case.
+     */
+    public int countClientsWithNameToken(String token) {
+        return clients.countWithNameToken(token);
+    }
+
+    /**
+     * Returns the positions in the client list of the clients with a word in their name within an edit distance of
+     * {@code maxDistance} from {@code token}, ignoring case, in ascending order.
+     */
+    public int[] getClientPositionsWithNameTokenNear(String token, int maxDistance) {
+        return clients.getPositionsWithNameTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns an upper bound on the number of clients with a word in their name within an edit distance of
+     * {@code maxDistance} from {@code token}, ignoring case.
+     */
+    public int countClientsWithNameTokenNear(String token, int maxDistance) {
+        return clients.countWithNameTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns the positions in the property list of the properties with the word {@code token} in their name,
+     * ignoring case, in ascending order.
+     */
+    public int[] getPropertyPositionsWithNameToken(String token) {
+        return properties.getPositionsWithNameToken(token);
+    }
+
+    /**
+     * Returns the number of properties with the word {@code token} in their name, ignoring case.
+     */
+    public int countPropertiesWithNameToken(String token) {
+        return properties.countWithNameToken(token);
+    }
+
+    /**
+     * Returns the positions in the property list of the properties with a word in their name within an edit distance
+     * of {@code maxDistance} from {@code token}, ignoring case, in ascending order.
+     */
+    public int[] getPropertyPositionsWithNameTokenNear(String token, int maxDistance) {
+        return properties.getPositionsWithNameTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns an upper bound on the number of properties with a word in their name within an edit distance of
+     * {@code maxDistance} from {@code token}, ignoring case.
+     */
+    public int countPropertiesWithNameTokenNear(String token, int maxDistance) {
+        return properties.countWithNameTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns the positions in the client list of the clients whose address may contain {@code substring} ignoring
+     * case, in ascending order, or an empty {@code Optional} if the address index cannot narrow them down.
+     */
+    public Optional<int[]> getClientPositionsWithAddressContaining(String substring) {
+        return clients.getPositionsWithAddressContaining(substring);
+    }
+
+    /**
+     * Returns the positions in the client list of the clients whose phone number contains the digits
+     * {@code digits}, in ascending order, or an empty {@code Optional} if the phone trie cannot answer the query.
+     */
+    public Optional<int[]> getClientPositionsWithPhoneContaining(String digits) {
+        return clients.getPositionsWithPhoneContaining(digits);
+    }
+
+    /**
+     * Returns the positions in the property list of the properties whose address may contain {@code substring}
+     * ignoring case, in ascending order, or an empty {@code Optional} if the address index cannot narrow them down.
+     */
+    public Optional<int[]> getPropertyPositionsWithAddressContaining(String substring) {
+        return properties.getPositionsWithAddressContaining(substring);
+    }
+
+    /**
+     * Limits the memory taken up by each of the client and property address indexes to {@code memoryLimit} bytes.
+     */
+    public void setAddressIndexMemoryLimit(long memoryLimit) {
+        clients.setAddressIndexMemoryLimit(memoryLimit);
+        properties.setAddressIndexMemoryLimit(memoryLimit);
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the client and property address indexes together.
+     */
+    public long getAddressIndexMemoryUsage() {
+        return clients.getAddressIndexMemoryUsage() + properties.getAddressIndexMemoryUsage();
+    }
+
+    /**
+     * Returns the positions in the property list of the properties whose price is from {@code min} to {@code max}
+     * inclusive, in ascending order.
+     */
+    public int[] getPropertyPositionsWithPriceBetween(long min, long max) {
+        return properties.getPositionsWithPriceBetween(min, max);
+    }
+
+    /**
+     * Returns the positions in the property list of the properties with a size from {@code min} to {@code max}
+     * square feet inclusive, in ascending order.
+     */
+    public int[] getPropertyPositionsWithSizeBetween(long min, long max) {
+        return properties.getPositionsWithSizeBetween(min, max);
+    }
+
+    /**
+     * Returns the number of properties whose price is from {@code min} to {@code max} inclusive.
+     */
+    public int countPropertiesWithPriceBetween(long min, long max) {
+        return properties.countWithPriceBetween(min, max);
+    }
+
+    /**
+     * Returns the number of properties with a size from {@code min} to {@code max} square feet inclusive.
+     */
+    public int countPropertiesWithSizeBetween(long min, long max) {
+        return properties.countWithSizeBetween(min, max);
+    }
+
+    /**
+     * Returns the positions in the deal list of the deals whose price is from {@code min} to {@code max}
+     * inclusive, in ascending order.
+     */
+    public int[] getDealPositionsWithPriceBetween(long min, long max) {
+        return deals.getPositionsWithPriceBetween(min, max);
+    }
+
+    /**
+     * Returns the positions in the deal list of the deals with the word {@code token} in their buyer's name,
+     * ignoring case, in ascending order.
+     */
+    public int[] getDealPositionsWithBuyerNameToken(String token) {
+        return deals.getPositionsWithBuyerNameToken(token);
+    }
+
+    /**
+     * Returns the positions in the deal list of the deals with the word {@code token} in their seller's name,
+     * ignoring case, in ascending order.
+     */
+    public int[] getDealPositionsWithSellerNameToken(String token) {
+        return deals.getPositionsWithSellerNameToken(token);
+    }
+
+    /**
+     * Returns the positions in the deal list of the deals with the word {@code token} in their property's name,
+     * ignoring case, in ascending order.
+     */
+    public int[] getDealPositionsWithPropertyNameToken(String token) {
+        return deals.getPositionsWithPropertyNameToken(token);
+    }
+
+    /**
+     * Returns the number of deals whose price is from {@code min} to {@code max} inclusive.
+     */
+    public int countDealsWithPriceBetween(long min, long max) {
+        return deals.countWithPriceBetween(min, max);
+    }
+
+    /**
+     * Returns the number of deals with the word {@code token} in their buyer's name, ignoring case.
+     */
+    public int countDealsWithBuyerNameToken(String token) {
+        return deals.countWithBuyerNameToken(token);
+    }
+
+    /**
+     * Returns the number of deals with the word {@code token} in their seller's name, ignoring case.
+     */
+    public int countDealsWithSellerNameToken(String token) {
+        return deals.countWithSellerNameToken(token);
+    }
+
+    /**
+     * Returns the number of deals with the word {@code token} in their property's name, ignoring case.
+     */
+    public int countDealsWithPropertyNameToken(String token) {
+        return deals.countWithPropertyNameToken(token);
+    }
+
+    /**
+     * Returns the positions in the deal list of the deals with status {@code status}, in ascending order.
+     */
+    public int[] getDealPositionsWithStatus(DealStatus status) {
+        return deals.getPositionsWithStatus(status);
+    }
+
+    /**
+     * Returns the number of deals with status {@code status}.
+     */
+    public int countDealsWithStatus(DealStatus status) {
+        return deals.countWithStatus(status);
+    }
+
+    /**
+     * Returns the properties owned by the client named {@code clientName}.
+     */
+    public List<Property> getPropertiesOwnedBy(ClientName clientName) {
+        requireNonNull(clientName);
+        return propertiesByOwner.get(clientName);
+    }
+
+    /**
+     * Returns the events and properties whose notes and descriptions best match the terms in {@code query}, at most
+     * {@code limit} of them, from the highest BM25 score to the lowest.
+     * Matches with equal scores are listed in the order of the event list and then of the property list.
+     */
+    public List<TextMatch> findText(String query, int limit) {
+        requireNonNull(query);
+        assert limit > 0 : "At least one match must be asked for";
+        // The root of the heap is the worst of the best matches found so far, so it is the one dropped.
+        PriorityQueue<RankedMatch> bestMatches = new PriorityQueue<>(RankedMatch.BEST_FIRST.reversed());
+        List<Event> eventList = getEventList();
+        List<Property> propertyList = getPropertyList();
+        events.scoreNotes(query).forEach((position, score) -> keepBest(bestMatches, limit,
+                new RankedMatch(new TextMatch(eventList.get(position), score), position)));
+        properties.scoreDescriptions(query).forEach((position, score) -> keepBest(bestMatches, limit,
+                new RankedMatch(new TextMatch(propertyList.get(position), score), eventList.size() + position)));
+
+        return bestMatches.stream()
+                .sorted(RankedMatch.BEST_FIRST)
+                .map(RankedMatch::match)
+                .toList();
+    }
+
+    private static void keepBest(PriorityQueue<RankedMatch> bestMatches, int limit, RankedMatch candidate) {
+        bestMatches.add(candidate);
+        if (bestMatches.size() > limit) {
+            bestMatches.poll();
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the lists of this address book since it was created.
+     * The number only ever grows, so an address book with the same version as when it was saved is unchanged since.
+     */
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
+    /**
+     * Returns the contents of the full-text indexes over the event notes and property descriptions.
+     */
+    public TextIndexSnapshot getTextIndexSnapshot() {
+        return new TextIndexSnapshot(events.getNoteTermCounts(), properties.getDescriptionTermCounts());
+    }
+
+    /**
+     * Restores the full-text indexes over the event notes and property descriptions from {@code snapshot}, which
+     * must have been taken of an address book with the same notes and descriptions in the same order.
+     */
+    public void restoreTextIndexes(TextIndexSnapshot snapshot) {
+        requireNonNull(snapshot);
+        events.restoreNoteIndex(snapshot.getEventNoteTermCounts());
+        properties.restoreDescriptionIndex(snapshot.getPropertyDescriptionTermCounts());
+    }
+
+    /**
+     * Returns {@code requested} if it is not one of the {@code taken} ids, or else a fresh identifier.
+     */
+    private Id claimId(Optional<Id> requested, Set<Id> taken) {
+        if (requested.isPresent() && !taken.contains(requested.get())) {
+            nextId = Math.max(nextId, requested.get().value + 1);
+            return requested.get();
+        }
+        return new Id(nextId++);
+    }
+
+    private void indexDeal(Deal deal) {
+        dealsByClient.add(deal.getBuyer(), deal);
+        if (!deal.getSeller().equals(deal.getBuyer())) {
+            dealsByClient.add(deal.getSeller(), deal);
+        }
+        dealsByProperty.add(deal.getPropertyName(), deal);
+    }
+
+    private void unindexDeal(Deal deal) {
+        dealsByClient.remove(deal.getBuyer(), deal);
+        if (!deal.getSeller().equals(deal.getBuyer())) {
+            dealsByClient.remove(deal.getSeller(), deal);
+        }
+        dealsByProperty.remove(deal.getPropertyName(), deal);
+    }
+
+    private void indexEvent(Event event) {
+        eventsByClient.add(event.getClientName(), event);
+        eventsByProperty.add(event.getPropertyName(), event);
+    }
+
+    private void unindexEvent(Event event) {
+        eventsByClient.remove(event.getClientName(), event);
+        eventsByProperty.remove(event.getPropertyName(), event);
+    }
+
+    private void indexProperty(Property property) {
+        propertiesByOwner.add(property.getOwner(), property);
+    }
+
+    private void unindexProperty(Property property) {
+        propertiesByOwner.remove(property.getOwner(), property);
+    }
+
+    //// snapshot accessors
+
+    /**
+     * Returns a copy of the client list as it is now, taken copy-on-write.
+     */
+    List<Client> snapshotClientList() {
+        return clients.snapshot();
+    }
+
+    /**
+     * Returns a copy of the deal list as it is now, taken copy-on-write.
+     */
+    List<Deal> snapshotDealList() {
+        return deals.snapshot();
+    }
+
+    /**
+     * Returns a copy of the event list as it is now, taken copy-on-write.
+     */
+    List<Event> snapshotEventList() {
+        return events.snapshot();
+    }
+
+    /**
+     * Returns a copy of the property list as it is now, taken copy-on-write.
+     */
+    List<Property> snapshotPropertyList() {
+        return properties.snapshot();
     }
 
     //// util methods
@@ -292,4 +975,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return clients.hashCode() + deals.hashCode() + events.hashCode() + properties.hashCode();
     }
+
+    /**
+     * A match found by {@link #findText(String, int)}, with its place in the event list followed by the property
+     * list, by which matches with equal scores are ordered.
+     */
+    private record RankedMatch(TextMatch match, int order) {
+        static final Comparator<RankedMatch> BEST_FIRST = Comparator
+                .comparingDouble((RankedMatch rankedMatch) -> -rankedMatch.match.getScore())
+                .thenComparingInt(RankedMatch::order);
+    }
 }
@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+
+/**
+ * A copy of the lists of an address book as they were at one moment, which does not change as the address book does.
+ * Only the lists are copied, as the clients, deals, events and properties in them are immutable, so a copy is safe
+ * to read from any thread. The lists of an {@code AddressBook} are copied on write, so a snapshot of one costs nothing
+ * to take; each list is only copied when the address book next changes it.
+ * The clients and properties are only mapped by name when they are first looked up, so that a snapshot which is only
+ * journaled never pays for the maps.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Client> clients;
+    private final ObservableList<Deal> deals;
+    private final ObservableList<Event> events;
+    private final ObservableList<Property> properties;
+    // Built when first needed, guarded by the lock on this snapshot.
+    private Map<ClientName, Client> clientsByName;
+    private Map<PropertyName, Property> propertiesByName;
+
+    /**
+     * Takes a snapshot of {@code addressBook} as it is now.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBook source) {
+            clients = asObservableList(source.snapshotClientList());
+            deals = asObservableList(source.snapshotDealList());
+            events = asObservableList(source.snapshotEventList());
+            properties = asObservableList(source.snapshotPropertyList());
+        } else {
+            clients = asObservableList(new ArrayList<>(addressBook.getClientList()));
+            deals = asObservableList(new ArrayList<>(addressBook.getDealList()));
+            events = asObservableList(new ArrayList<>(addressBook.getEventList()));
+            properties = asObservableList(new ArrayList<>(addressBook.getPropertyList()));
+        }
+    }
+
+    private static <T> ObservableList<T> asObservableList(List<T> copy) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(copy));
+    }
+
+    @Override
+    public ObservableList<Client> getClientList() {
+        return clients;
+    }
+
+    @Override
+    public ObservableList<Deal> getDealList() {
+        return deals;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public ObservableList<Property> getPropertyList() {
+        return properties;
+    }
+
+    @Override
+    public synchronized Optional<Client> getClient(ClientName clientName) {
+        requireNonNull(clientName);
+        if (clientsByName == null) {
+            clientsByName = new HashMap<>();
+            clients.forEach(client -> clientsByName.put(client.getFullName(), client));
+        }
+        return Optional.ofNullable(clientsByName.get(clientName));
+    }
+
+    @Override
+    public synchronized Optional<Property> getProperty(PropertyName propertyName) {
+        requireNonNull(propertyName);
+        if (propertiesByName == null) {
+            propertiesByName = new HashMap<>();
+            properties.forEach(property -> propertiesByName.put(property.getFullName(), property));
+        }
+        return Optional.ofNullable(propertiesByName.get(propertyName));
+    }
+}
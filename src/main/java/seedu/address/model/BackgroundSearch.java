@@ -0,0 +1,36 @@
+package seedu.address.model;
+
+/**
+ * A search of a filtered list that is prepared on the application thread, tests the entries on any other thread,
+ * and shows its result in the filtered list back on the application thread.
+ * The search works on a snapshot of the list taken when it was prepared, so the list may keep changing while the
+ * entries are tested; a result found for an outdated snapshot is never shown.
+ */
+public interface BackgroundSearch {
+
+    /**
+     * Tests the entries of the snapshot. May be called from any thread, at most once.
+     *
+     * @throws java.util.concurrent.CancellationException If the search is cancelled before or while it runs.
+     */
+    void run();
+
+    /**
+     * Cancels the search, so that a run in progress stops soon after without testing the remaining entries, and the
+     * result is never shown. May be called from any thread.
+     */
+    void cancel();
+
+    /**
+     * Returns true if the search has been cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Shows the result of a completed run in the filtered list. Must be called on the application thread.
+     *
+     * @return false, leaving the filtered list unchanged, if the search was cancelled or the list changed since the
+     *     search was prepared.
+     */
+    boolean apply();
+}
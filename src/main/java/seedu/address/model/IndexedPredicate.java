@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+/**
+ * A predicate whose matches can be narrowed down using the indexes kept by an {@code AddressBook},
+ * so that a filtered list only needs to test the entries it is pointed to.
+ *
+ * @param <T> The type of the entries tested.
+ */
+public interface IndexedPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns the positions, in ascending order, of the entries in the corresponding list of {@code addressBook}
+     * that may satisfy this predicate, or an empty {@code Optional} if they cannot be narrowed down.
+     * Every entry that satisfies this predicate must be at one of the returned positions.
+     */
+    Optional<int[]> getCandidates(AddressBook addressBook);
+
+    /**
+     * Returns an upper bound on the number of positions {@link #getCandidates(AddressBook)} returns for
+     * {@code addressBook}, or an empty {@code OptionalInt} if the candidates cannot be narrowed down.
+     * Predicates whose indexes can count their matches without listing them should override this, so that a
+     * {@code QueryPlanner} can weigh a lookup up before paying for it; by default the candidates are listed and
+     * counted.
+     */
+    default OptionalInt estimateCandidates(AddressBook addressBook) {
+        Optional<int[]> candidates = getCandidates(addressBook);
+        return candidates.isPresent() ? OptionalInt.of(candidates.get().length) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the candidate positions of {@code predicate} in {@code addressBook},
+     * or an empty {@code Optional} if it is not an {@code IndexedPredicate}.
+     */
+    static <T> Optional<int[]> getCandidates(Predicate<T> predicate, AddressBook addressBook) {
+        if (!(predicate instanceof IndexedPredicate<T> indexedPredicate)) {
+            return Optional.empty();
+        }
+        return indexedPredicate.getCandidates(addressBook);
+    }
+
+    /**
+     * Returns the estimated number of candidate positions of {@code predicate} in {@code addressBook},
+     * or an empty {@code OptionalInt} if it is not an {@code IndexedPredicate}.
+     */
+    static <T> OptionalInt estimateCandidates(Predicate<T> predicate, AddressBook addressBook) {
+        if (!(predicate instanceof IndexedPredicate<T> indexedPredicate)) {
+            return OptionalInt.empty();
+        }
+        return indexedPredicate.estimateCandidates(addressBook);
+    }
+}
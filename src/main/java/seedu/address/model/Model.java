@@ -1,15 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 
 /**
  * The API of the Model component.
@@ -169,4 +175,126 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredDealList(Predicate<Deal> predicate);
+
+    /**
+     * Updates the filters of all four filtered lists to filter by the given predicates.
+     * The lists are filtered concurrently, and are only updated once every one of them has been filtered.
+     */
+    void updateAllFilteredLists(Predicate<Client> clientPredicate, Predicate<Property> propertyPredicate,
+            Predicate<Deal> dealPredicate, Predicate<Event> eventPredicate);
+
+    /**
+     * Returns a search that filters the filtered client list by {@code predicate} like
+     * {@link #updateFilteredClientList(Predicate)}, but tests the clients on whichever thread runs it.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    BackgroundSearch prepareClientSearch(Predicate<Client> predicate);
+
+    /**
+     * Returns a search that filters the filtered property list by {@code predicate} on whichever thread runs it.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    BackgroundSearch preparePropertySearch(Predicate<Property> predicate);
+
+    /**
+     * Returns a search that filters the filtered deal list by {@code predicate} on whichever thread runs it.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    BackgroundSearch prepareDealSearch(Predicate<Deal> predicate);
+
+    /**
+     * Returns a search that filters the filtered event list by {@code predicate} on whichever thread runs it.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    BackgroundSearch prepareEventSearch(Predicate<Event> predicate);
+
+    /**
+     * Returns the plan by which a filtered list was last filtered, with the number of entries it matched,
+     * or an empty {@code Optional} if no list has been filtered yet.
+     */
+    Optional<QueryPlan> getLastQueryPlan();
+
+    /**
+     * Returns the number of deals in the address book with the given {@code status}, whether or not they are shown.
+     */
+    int countDealsWithStatus(DealStatus status);
+
+    /**
+     * Returns the number of events in the address book of the given {@code type}, whether or not they are shown.
+     */
+    int countEventsOfType(EventType type);
+
+    /**
+     * Returns the events and properties whose notes and descriptions best match the terms in {@code query}, at most
+     * {@code limit} of them, from the highest score to the lowest.
+     */
+    List<TextMatch> findText(String query, int limit);
+
+    /**
+     * Returns the number of changes made to the address book so far, which grows with every change.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the contents of the full-text indexes over the event notes and property descriptions.
+     */
+    TextIndexSnapshot getTextIndexSnapshot();
+
+    /**
+     * Restores the full-text indexes over the event notes and property descriptions from {@code snapshot}, which
+     * must have been taken of the same notes and descriptions in the same order.
+     */
+    void restoreTextIndexes(TextIndexSnapshot snapshot);
+
+    /**
+     * Replaces every reference to the client named {@code oldName} in deals, events and property listings
+     * with {@code newName}, notifying each list's listeners once.
+     */
+    void renameClient(ClientName oldName, ClientName newName);
+
+    /**
+     * Replaces every reference to the property named {@code oldName} in deals and events with {@code newName},
+     * notifying each list's listeners once.
+     */
+    void renameProperty(PropertyName oldName, PropertyName newName);
+
+    /**
+     * Returns the deals in REconnect in which the client named {@code clientName} is the buyer or the seller.
+     */
+    List<Deal> getDealsInvolving(ClientName clientName);
+
+    /**
+     * Returns the deals in REconnect for the property named {@code propertyName}.
+     */
+    List<Deal> getDealsInvolving(PropertyName propertyName);
+
+    /**
+     * Returns the events in REconnect with the client named {@code clientName}.
+     */
+    List<Event> getEventsInvolving(ClientName clientName);
+
+    /**
+     * Returns the events in REconnect about the property named {@code propertyName}.
+     */
+    List<Event> getEventsInvolving(PropertyName propertyName);
+
+    /**
+     * Returns the properties in REconnect owned by the client named {@code clientName}.
+     */
+    List<Property> getPropertiesOwnedBy(ClientName clientName);
+
+    /**
+     * Returns the index of {@code deal} in the filtered deal list, or -1 if it is not shown.
+     */
+    int getFilteredDealIndex(Deal deal);
+
+    /**
+     * Returns the index of {@code event} in the filtered event list, or -1 if it is not shown.
+     */
+    int getFilteredEventIndex(Event event);
+
+    /**
+     * Returns the index of {@code property} in the filtered property list, or -1 if it is not shown.
+     */
+    int getFilteredPropertyIndex(Property property);
 }
@@ -4,31 +4,48 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.LongStream;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.util.IndexedFilteredList;
+import seedu.address.model.util.Positions;
+import seedu.address.model.util.QueryResultCache;
 
 /**
  * Represents the in-memory model of REconnect data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final long QUERY_RESULT_CACHE_MEMORY_LIMIT = 4L * 1024 * 1024;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Client> filteredClients;
-    private final FilteredList<Deal> filteredDeals;
-    private final FilteredList<Event> filteredEvents;
-    private final FilteredList<Property> filteredProperties;
+    private final IndexedFilteredList<Client> filteredClients;
+    private final IndexedFilteredList<Deal> filteredDeals;
+    private final IndexedFilteredList<Event> filteredEvents;
+    private final IndexedFilteredList<Property> filteredProperties;
+    private final QueryPlanner queryPlanner;
+    private final QueryResultCache queryResultCache = new QueryResultCache(QUERY_RESULT_CACHE_MEMORY_LIMIT);
+    private QueryPlan lastQueryPlan;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,12 +55,17 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new AddressBook();
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredClients = new FilteredList<>(this.addressBook.getClientList());
-        filteredDeals = new FilteredList<>(this.addressBook.getDealList());
-        filteredEvents = new FilteredList<>(this.addressBook.getEventList());
-        filteredProperties = new FilteredList<>(this.addressBook.getPropertyList());
+        this.addressBook.setAddressIndexMemoryLimit(this.userPrefs.getAddressIndexMemoryLimit());
+        this.addressBook.resetData(addressBook);
+        logger.info("Address indexes use about " + this.addressBook.getAddressIndexMemoryUsage() + " bytes");
+        filteredClients = new IndexedFilteredList<>(this.addressBook.getClientList());
+        filteredDeals = new IndexedFilteredList<>(this.addressBook.getDealList());
+        filteredEvents = new IndexedFilteredList<>(this.addressBook.getEventList());
+        filteredProperties = new IndexedFilteredList<>(this.addressBook.getPropertyList());
+        queryPlanner = new QueryPlanner(this.addressBook);
+        setParallelFilterThreshold(this.userPrefs.getParallelFilterThreshold());
     }
 
     public ModelManager() {
@@ -56,6 +78,15 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setAddressIndexMemoryLimit(this.userPrefs.getAddressIndexMemoryLimit());
+        setParallelFilterThreshold(this.userPrefs.getParallelFilterThreshold());
+    }
+
+    private void setParallelFilterThreshold(int parallelFilterThreshold) {
+        filteredClients.setParallelThreshold(parallelFilterThreshold);
+        filteredDeals.setParallelThreshold(parallelFilterThreshold);
+        filteredEvents.setParallelThreshold(parallelFilterThreshold);
+        filteredProperties.setParallelThreshold(parallelFilterThreshold);
     }
 
     @Override
@@ -148,8 +179,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setEvent(Event target, Event editedEvent) {
-        this.deleteEvent(target);
-        this.addEvent(editedEvent);
+        requireAllNonNull(target, editedEvent);
+
+        addressBook.setEvent(target, editedEvent);
     }
 
     // === Property Methods ===
@@ -197,6 +229,69 @@ public class ModelManager implements Model {
         addressBook.setDeal(target, editedDeal);
     }
 
+    // === Bulk Renames ===
+    @Override
+    public void renameClient(ClientName oldName, ClientName newName) {
+        addressBook.renameClient(oldName, newName);
+    }
+
+    @Override
+    public void renameProperty(PropertyName oldName, PropertyName newName) {
+        addressBook.renameProperty(oldName, newName);
+    }
+
+    // === Reference Lookups ===
+    @Override
+    public List<Deal> getDealsInvolving(ClientName clientName) {
+        return addressBook.getDealsInvolving(clientName);
+    }
+
+    @Override
+    public List<Deal> getDealsInvolving(PropertyName propertyName) {
+        return addressBook.getDealsInvolving(propertyName);
+    }
+
+    @Override
+    public List<Event> getEventsInvolving(ClientName clientName) {
+        return addressBook.getEventsInvolving(clientName);
+    }
+
+    @Override
+    public List<Event> getEventsInvolving(PropertyName propertyName) {
+        return addressBook.getEventsInvolving(propertyName);
+    }
+
+    @Override
+    public List<Property> getPropertiesOwnedBy(ClientName clientName) {
+        return addressBook.getPropertiesOwnedBy(clientName);
+    }
+
+    @Override
+    public int getFilteredDealIndex(Deal deal) {
+        requireNonNull(deal);
+        return toViewIndex(filteredDeals, addressBook.getDealPosition(deal));
+    }
+
+    @Override
+    public int getFilteredEventIndex(Event event) {
+        requireNonNull(event);
+        return toViewIndex(filteredEvents, addressBook.getEventPosition(event));
+    }
+
+    @Override
+    public int getFilteredPropertyIndex(Property property) {
+        requireNonNull(property);
+        return toViewIndex(filteredProperties, addressBook.getPropertyPosition(property));
+    }
+
+    /**
+     * Returns the index in {@code filteredList} of the element at {@code sourcePosition} of the address book's list,
+     * or -1 if there is no such element or it is not shown.
+     */
+    private static int toViewIndex(IndexedFilteredList<?> filteredList, int sourcePosition) {
+        return sourcePosition == -1 ? -1 : filteredList.getViewIndex(sourcePosition);
+    }
+
     //=========== Filtered Client List Accessors =============================================================
 
     /**
@@ -211,7 +306,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
-        filteredClients.setPredicate(predicate);
+        setPredicate(filteredClients, predicate);
     }
 
     //=========== Filtered Event List Accessors =============================================================
@@ -223,7 +318,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        setPredicate(filteredEvents, predicate);
     }
 
     //=========== Filtered Deal List Accessors =============================================================
@@ -240,7 +335,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredDealList(Predicate<Deal> predicate) {
         requireNonNull(predicate);
-        filteredDeals.setPredicate(predicate);
+        setPredicate(filteredDeals, predicate);
     }
 
     //=========== Filtered Property List Accessors =============================================================
@@ -257,7 +352,138 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         requireNonNull(predicate);
-        filteredProperties.setPredicate(predicate);
+        setPredicate(filteredProperties, predicate);
+    }
+
+    @Override
+    public void updateAllFilteredLists(Predicate<Client> clientPredicate, Predicate<Property> propertyPredicate,
+            Predicate<Deal> dealPredicate, Predicate<Event> eventPredicate) {
+        requireAllNonNull(clientPredicate, propertyPredicate, dealPredicate, eventPredicate);
+        List<ListSearch<?>> searches = List.of(
+                new ListSearch<>(filteredClients, addressBook.snapshotClientList(), clientPredicate),
+                new ListSearch<>(filteredProperties, addressBook.snapshotPropertyList(), propertyPredicate),
+                new ListSearch<>(filteredDeals, addressBook.snapshotDealList(), dealPredicate),
+                new ListSearch<>(filteredEvents, addressBook.snapshotEventList(), eventPredicate));
+
+        // The searches are shared out through a queue that this thread also takes from, so it tests entries itself
+        // rather than waiting for pool threads to start, and at the end only waits for searches already under way.
+        // Only the searches with enough candidates to be tested in parallel are worth handing to another thread.
+        Queue<ListSearch<?>> unstarted = new ConcurrentLinkedQueue<>(searches);
+        Runnable runUnstarted = () -> {
+            for (ListSearch<?> search = unstarted.poll(); search != null; search = unstarted.poll()) {
+                search.run();
+            }
+        };
+        long helperCount = searches.stream().filter(ListSearch::isLarge).count() - 1;
+        List<CompletableFuture<Void>> helpers = LongStream.range(0, helperCount)
+                .mapToObj(unused -> CompletableFuture.runAsync(runUnstarted))
+                .toList();
+        runUnstarted.run();
+        helpers.forEach(CompletableFuture::join);
+        searches.forEach(ListSearch::apply);
+
+        QueryPlan plan = queryPlanner.planParallel(searches.stream().map(search -> search.plan).toList());
+        plan.setActualRows(filteredClients.size() + filteredProperties.size() + filteredDeals.size()
+                + filteredEvents.size());
+        lastQueryPlan = plan;
+        logger.fine("Filtered all lists with plan:\n" + plan);
+    }
+
+    @Override
+    public BackgroundSearch prepareClientSearch(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        return new ListSearch<>(filteredClients, addressBook.snapshotClientList(), predicate);
+    }
+
+    @Override
+    public BackgroundSearch preparePropertySearch(Predicate<Property> predicate) {
+        requireNonNull(predicate);
+        return new ListSearch<>(filteredProperties, addressBook.snapshotPropertyList(), predicate);
+    }
+
+    @Override
+    public BackgroundSearch prepareDealSearch(Predicate<Deal> predicate) {
+        requireNonNull(predicate);
+        return new ListSearch<>(filteredDeals, addressBook.snapshotDealList(), predicate);
+    }
+
+    @Override
+    public BackgroundSearch prepareEventSearch(Predicate<Event> predicate) {
+        requireNonNull(predicate);
+        return new ListSearch<>(filteredEvents, addressBook.snapshotEventList(), predicate);
+    }
+
+    @Override
+    public Optional<QueryPlan> getLastQueryPlan() {
+        return Optional.ofNullable(lastQueryPlan);
+    }
+
+    @Override
+    public int countDealsWithStatus(DealStatus status) {
+        requireNonNull(status);
+        return addressBook.countDealsWithStatus(status);
+    }
+
+    @Override
+    public int countEventsOfType(EventType type) {
+        requireNonNull(type);
+        return addressBook.countEventsOfType(type);
+    }
+
+    @Override
+    public List<TextMatch> findText(String query, int limit) {
+        requireNonNull(query);
+        return addressBook.findText(query, limit);
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getModificationVersion();
+    }
+
+    @Override
+    public TextIndexSnapshot getTextIndexSnapshot() {
+        return addressBook.getTextIndexSnapshot();
+    }
+
+    @Override
+    public void restoreTextIndexes(TextIndexSnapshot snapshot) {
+        requireNonNull(snapshot);
+        addressBook.restoreTextIndexes(snapshot);
+    }
+
+    /**
+     * Filters {@code filteredList} by {@code predicate}, reusing the matches cached from an earlier filter by an equal
+     * predicate if the list has not changed since. Otherwise, a predicate that only adds conditions to the current
+     * one re-tests just the entries already shown, and any other predicate tests the candidates chosen by the query
+     * planner from the address book indexes. Records the plan used.
+     */
+    private <T> void setPredicate(IndexedFilteredList<T> filteredList, Predicate<T> predicate) {
+        long version = filteredList.getSourceVersion();
+        Optional<int[]> cachedMatches = queryResultCache.get(filteredList, version, predicate);
+        QueryPlan plan;
+        if (cachedMatches.isPresent()) {
+            plan = queryPlanner.planCached(predicate, cachedMatches.get());
+            filteredList.setMatches(predicate, cachedMatches.get());
+        } else if (QueryPlanner.isNarrowing(filteredList.getPredicate(), predicate)) {
+            plan = queryPlanner.planNarrowing(predicate, filteredList.getSourcePositions(),
+                    filteredList.getSource().size());
+            filteredList.narrowPredicate(predicate, plan.getCandidates().get());
+            queryResultCache.put(filteredList, version, predicate, filteredList.getSourcePositions());
+        } else {
+            plan = queryPlanner.plan(predicate, filteredList.getSource().size());
+            Optional<int[]> candidates = plan.getCandidates();
+            if (candidates.isPresent()) {
+                filteredList.setPredicate(predicate, candidates.get());
+            } else {
+                filteredList.setPredicate(predicate);
+            }
+            queryResultCache.put(filteredList, version, predicate, filteredList.getSourcePositions());
+        }
+        plan.setActualRows(filteredList.size());
+        lastQueryPlan = plan;
+        logger.fine("Filtered list with plan:\n" + plan + "\nQuery result cache hits: "
+                + queryResultCache.getHitCount() + ", misses: " + queryResultCache.getMissCount());
     }
 
     @Override
@@ -279,4 +505,83 @@ public class ModelManager implements Model {
                 && filteredEvents.equals(otherModelManager.filteredEvents)
                 && filteredProperties.equals(otherModelManager.filteredProperties);
     }
+
+    /**
+     * A search of one filtered list that tests the candidates of its plan against a snapshot of the source list, so
+     * that it can run on another thread while the source list stays on the calling thread. The snapshot is taken
+     * copy-on-write from the address book, so preparing a search does not copy the list.
+     * The address book indexes and the query result cache are only used when the search is created and applied, and
+     * the filtered list is only updated by {@link #apply()}.
+     */
+    private class ListSearch<T> implements BackgroundSearch {
+        private final IndexedFilteredList<T> filteredList;
+        private final Predicate<T> predicate;
+        private final long version;
+        private final List<T> snapshot;
+        private final Optional<int[]> cachedMatches;
+        private final QueryPlan plan;
+        private volatile boolean isCancelled;
+        private volatile int[] matches;
+
+        ListSearch(IndexedFilteredList<T> filteredList, List<T> snapshot, Predicate<T> predicate) {
+            assert snapshot.size() == filteredList.getSource().size() : "The snapshot must be of the source list";
+            this.filteredList = filteredList;
+            this.predicate = predicate;
+            this.snapshot = snapshot;
+            version = filteredList.getSourceVersion();
+            cachedMatches = queryResultCache.get(filteredList, version, predicate);
+            plan = cachedMatches.isPresent()
+                    ? queryPlanner.planCached(predicate, cachedMatches.get())
+                    : queryPlanner.plan(predicate, snapshot.size());
+        }
+
+        @Override
+        public void run() {
+            if (isCancelled) {
+                throw new CancellationException();
+            }
+            if (cachedMatches.isPresent()) {
+                matches = cachedMatches.get();
+                return;
+            }
+            int[] candidates = plan.getCandidates().orElseGet(() -> Positions.range(0, snapshot.size()));
+            matches = Positions.filter(candidates, candidate -> {
+                if (isCancelled) {
+                    throw new CancellationException();
+                }
+                return predicate.test(snapshot.get(candidate));
+            }, userPrefs.getParallelFilterThreshold());
+        }
+
+        /**
+         * Returns true if the search has enough candidates to test that they are tested in parallel.
+         */
+        boolean isLarge() {
+            int candidateCount = cachedMatches.isPresent() ? 0
+                    : plan.getCandidates().map(candidates -> candidates.length).orElse(snapshot.size());
+            return candidateCount >= userPrefs.getParallelFilterThreshold();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        @Override
+        public boolean apply() {
+            if (isCancelled || matches == null || filteredList.getSourceVersion() != version) {
+                return false;
+            }
+            filteredList.setMatches(predicate, matches);
+            queryResultCache.put(filteredList, version, predicate, matches);
+            plan.setActualRows(matches.length);
+            lastQueryPlan = plan;
+            return true;
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * A plan for filtering a list by a predicate, as chosen by a {@code QueryPlanner}.
+ * Each step of the plan either reads the positions of its matches from an index or from the results of an earlier
+ * filter, combines the positions of its sub-steps, or tests the entries that reach it; the positions of the root
+ * step are the only entries tested by the whole predicate.
+ */
+public class QueryPlan {
+
+    /**
+     * The ways in which a step of a plan finds its entries.
+     */
+    public enum Operation {
+        INDEX_LOOKUP("Index lookup"),
+        INTERSECT("Intersect"),
+        UNION("Union"),
+        VERIFY("Verify"),
+        SCAN("Scan"),
+        CACHE_HIT("Cached result of"),
+        NARROW("Narrow"),
+        PARALLEL("In parallel");
+
+        private final String description;
+
+        Operation(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static final String INDENT = "  ";
+
+    private final Operation operation;
+    private final String subject;
+    private final Optional<int[]> candidates;
+    private final int estimatedRows;
+    private final List<QueryPlan> steps;
+    private OptionalInt actualRows = OptionalInt.empty();
+
+    /**
+     * Creates a step that finds the entries at {@code candidates}, or scans {@code estimatedRows} entries if there
+     * are none, by {@code operation} on {@code subject}, using {@code steps}.
+     */
+    QueryPlan(Operation operation, String subject, Optional<int[]> candidates, int estimatedRows,
+            List<QueryPlan> steps) {
+        requireNonNull(operation);
+        requireNonNull(subject);
+        requireNonNull(candidates);
+        requireNonNull(steps);
+        this.operation = operation;
+        this.subject = subject;
+        this.candidates = candidates;
+        this.estimatedRows = estimatedRows;
+        this.steps = List.copyOf(steps);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the entries to be tested,
+     * or an empty {@code Optional} if every entry is to be tested.
+     */
+    public Optional<int[]> getCandidates() {
+        return candidates;
+    }
+
+    public int getEstimatedRows() {
+        return estimatedRows;
+    }
+
+    public List<QueryPlan> getSteps() {
+        return steps;
+    }
+
+    public OptionalInt getActualRows() {
+        return actualRows;
+    }
+
+    /**
+     * Records that {@code actualRows} entries satisfied the predicate when the plan was carried out.
+     */
+    public void setActualRows(int actualRows) {
+        this.actualRows = OptionalInt.of(actualRows);
+    }
+
+    /**
+     * Returns a description of the plan, one step per line with sub-steps indented below their step, ending with
+     * the estimated and, once the plan has been carried out, the actual number of rows.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder, "");
+        builder.append("Estimated rows: ").append(estimatedRows);
+        actualRows.ifPresent(rows -> builder.append(", actual rows: ").append(rows));
+        return builder.toString();
+    }
+
+    private void appendTo(StringBuilder builder, String indent) {
+        builder.append(indent).append(operation).append(' ').append(subject);
+        if (operation != Operation.VERIFY) {
+            builder.append(" (~").append(estimatedRows).append(" rows)");
+        }
+        builder.append('\n');
+        for (QueryPlan step : steps) {
+            step.appendTo(builder, indent + INDENT);
+        }
+    }
+}
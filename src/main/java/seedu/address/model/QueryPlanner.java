@@ -0,0 +1,211 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import seedu.address.model.QueryPlan.Operation;
+import seedu.address.model.commons.CombinedPredicate;
+import seedu.address.model.commons.CombinedPredicate.Connective;
+import seedu.address.model.util.Positions;
+
+/**
+ * Chooses how to filter a list of an {@code AddressBook} by a predicate, using the indexes of the address book.
+ * The conjuncts of an AND are ordered by the number of candidates the indexes estimate for them, which most indexes
+ * count without listing them, and looked up from the most to the least selective, intersecting the positions of those
+ * that are selective enough; the rest are only verified against the remaining candidates and never looked up.
+ * The disjuncts of an OR are united if every one of them can be looked up, and otherwise the list is scanned.
+ */
+public class QueryPlanner {
+
+    /** Conjuncts expected to match more than this fraction of the list are verified rather than looked up. */
+    private static final double MAX_LOOKUP_FRACTION = 0.5;
+
+    private final AddressBook addressBook;
+
+    /**
+     * Creates a planner using the indexes of {@code addressBook}.
+     */
+    public QueryPlanner(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Returns the plan for filtering a list of {@code rowCount} entries by {@code predicate}.
+     */
+    public <T> QueryPlan plan(Predicate<T> predicate, int rowCount) {
+        requireNonNull(predicate);
+        if (predicate instanceof CombinedPredicate<T> combinedPredicate) {
+            return combinedPredicate.getConnective() == Connective.AND
+                    ? planConjunction(combinedPredicate.getPredicates(), rowCount)
+                    : planDisjunction(combinedPredicate.getPredicates(), rowCount);
+        }
+
+        Optional<int[]> candidates = IndexedPredicate.getCandidates(predicate, addressBook);
+        return candidates.isPresent()
+                ? new QueryPlan(Operation.INDEX_LOOKUP, nameOf(predicate), candidates, candidates.get().length,
+                        List.of())
+                : new QueryPlan(Operation.SCAN, nameOf(predicate), candidates, rowCount, List.of());
+    }
+
+    /**
+     * Returns the plan for filtering by {@code predicate} by reusing {@code matches}, the positions of the entries
+     * that matched it in an earlier filter.
+     */
+    public QueryPlan planCached(Predicate<?> predicate, int[] matches) {
+        requireNonNull(predicate);
+        return new QueryPlan(Operation.CACHE_HIT, nameOf(predicate), Optional.of(matches), matches.length, List.of());
+    }
+
+    /**
+     * Returns the plan for filtering a list of {@code rowCount} entries by {@code predicate}, which narrows down the
+     * predicate of the list, by testing only the entries at {@code shownPositions}, the positions of the entries
+     * currently shown, that are also candidates of the indexes.
+     * The candidates are only looked up if the indexes estimate there are no more of them than there are shown
+     * entries; otherwise every shown entry is tested.
+     */
+    public <T> QueryPlan planNarrowing(Predicate<T> predicate, int[] shownPositions, int rowCount) {
+        requireNonNull(shownPositions);
+        OptionalInt estimate = estimate(predicate);
+        if (estimate.isEmpty() || estimate.getAsInt() > shownPositions.length) {
+            return new QueryPlan(Operation.NARROW, "shown rows", Optional.of(shownPositions), shownPositions.length,
+                    List.of(verify(predicate, estimate, rowCount)));
+        }
+        QueryPlan indexPlan = plan(predicate, rowCount);
+        assert indexPlan.getCandidates().isPresent() : "A predicate with an estimate must have candidates";
+        int[] candidates = Positions.intersect(shownPositions, indexPlan.getCandidates().get());
+        return new QueryPlan(Operation.NARROW, "shown rows", Optional.of(candidates), candidates.length,
+                List.of(indexPlan));
+    }
+
+    /**
+     * Returns the plan for filtering several lists at once, each by its own plan in {@code listPlans}.
+     */
+    public QueryPlan planParallel(List<QueryPlan> listPlans) {
+        requireNonNull(listPlans);
+        int estimatedRows = listPlans.stream().mapToInt(QueryPlan::getEstimatedRows).sum();
+        return new QueryPlan(Operation.PARALLEL, listPlans.size() + " lists", Optional.empty(), estimatedRows,
+                listPlans);
+    }
+
+    /**
+     * Returns true if {@code refined} is {@code current} with zero or more conjuncts added, so that every entry
+     * satisfying {@code refined} also satisfies {@code current}.
+     */
+    public static boolean isNarrowing(Predicate<?> current, Predicate<?> refined) {
+        if (current == null || refined == null) {
+            return false;
+        }
+        return conjunctsOf(refined).containsAll(conjunctsOf(current));
+    }
+
+    private static List<? extends Predicate<?>> conjunctsOf(Predicate<?> predicate) {
+        if (predicate instanceof CombinedPredicate<?> combinedPredicate
+                && combinedPredicate.getConnective() == Connective.AND) {
+            return combinedPredicate.getPredicates();
+        }
+        return List.of(predicate);
+    }
+
+    private <T> QueryPlan planConjunction(List<Predicate<T>> conjuncts, int rowCount) {
+        List<Predicate<T>> sortedConjuncts = new ArrayList<>(conjuncts);
+        Map<Predicate<T>, OptionalInt> estimates = new IdentityHashMap<>();
+        sortedConjuncts.forEach(conjunct -> estimates.put(conjunct, estimate(conjunct)));
+        sortedConjuncts.sort(Comparator.comparingInt(conjunct -> estimates.get(conjunct).orElse(rowCount)));
+
+        List<QueryPlan> steps = new ArrayList<>();
+        int[] candidates = null;
+        for (Predicate<T> conjunct : sortedConjuncts) {
+            OptionalInt estimate = estimates.get(conjunct);
+            boolean isLookedUp = estimate.isPresent()
+                    && (candidates == null || candidates.length > 0
+                            && estimate.getAsInt() <= rowCount * MAX_LOOKUP_FRACTION);
+            if (!isLookedUp) {
+                steps.add(verify(conjunct, estimate, rowCount));
+                continue;
+            }
+            QueryPlan conjunctPlan = plan(conjunct, rowCount);
+            assert conjunctPlan.getCandidates().isPresent() : "A predicate with an estimate must have candidates";
+            int[] conjunctCandidates = conjunctPlan.getCandidates().get();
+            candidates = candidates == null
+                    ? conjunctCandidates
+                    : Positions.intersect(candidates, conjunctCandidates);
+            steps.add(conjunctPlan);
+        }
+
+        return candidates == null
+                ? new QueryPlan(Operation.SCAN, "AND", Optional.empty(), rowCount, steps)
+                : new QueryPlan(Operation.INTERSECT, "AND", Optional.of(candidates), candidates.length, steps);
+    }
+
+    private <T> QueryPlan planDisjunction(List<Predicate<T>> disjuncts, int rowCount) {
+        List<QueryPlan> disjunctPlans = new ArrayList<>();
+        for (Predicate<T> disjunct : disjuncts) {
+            QueryPlan disjunctPlan = plan(disjunct, rowCount);
+            if (disjunctPlan.getCandidates().isEmpty()) {
+                return scanDisjunction(disjuncts, disjunctPlans, rowCount);
+            }
+            disjunctPlans.add(disjunctPlan);
+        }
+
+        int[] candidates = disjunctPlans.stream()
+                .map(disjunctPlan -> disjunctPlan.getCandidates().get())
+                .reduce(new int[0], Positions::union);
+        return new QueryPlan(Operation.UNION, "OR", Optional.of(candidates), candidates.length, disjunctPlans);
+    }
+
+    /**
+     * Returns the plan that scans the list for the entries satisfying any of {@code disjuncts}, one of which cannot
+     * be looked up. The disjuncts already looked up before finding it have their plans in {@code lookedUpPlans};
+     * those after it are only estimated.
+     */
+    private <T> QueryPlan scanDisjunction(List<Predicate<T>> disjuncts, List<QueryPlan> lookedUpPlans, int rowCount) {
+        List<QueryPlan> steps = new ArrayList<>();
+        for (int i = 0; i < disjuncts.size(); i++) {
+            Predicate<T> disjunct = disjuncts.get(i);
+            OptionalInt estimate = i < lookedUpPlans.size()
+                    ? OptionalInt.of(lookedUpPlans.get(i).getEstimatedRows())
+                    : estimate(disjunct);
+            steps.add(verify(disjunct, estimate, rowCount));
+        }
+        return new QueryPlan(Operation.SCAN, "OR", Optional.empty(), rowCount, steps);
+    }
+
+    /**
+     * Returns the number of candidates the indexes estimate for {@code predicate}, without looking them up where the
+     * indexes can count them, or an empty {@code OptionalInt} if it cannot be looked up.
+     */
+    private OptionalInt estimate(Predicate<?> predicate) {
+        return IndexedPredicate.estimateCandidates(predicate, addressBook);
+    }
+
+    /**
+     * Returns a step that only tests the entries reaching it by {@code predicate}, which the indexes estimate to have
+     * {@code estimate} candidates.
+     */
+    private static QueryPlan verify(Predicate<?> predicate, OptionalInt estimate, int rowCount) {
+        String subject = estimate.isPresent() && !(predicate instanceof CombinedPredicate<?>)
+                ? nameOf(predicate) + " (index skipped, ~" + estimate.getAsInt() + " rows)"
+                : nameOf(predicate);
+        return new QueryPlan(Operation.VERIFY, subject, Optional.empty(), estimate.orElse(rowCount), List.of());
+    }
+
+    /**
+     * Returns the name by which {@code predicate} is described in plans.
+     */
+    private static String nameOf(Predicate<?> predicate) {
+        if (predicate instanceof CombinedPredicate<?> combinedPredicate) {
+            return combinedPredicate.getConnective().name();
+        }
+        String name = predicate.getClass().getSimpleName();
+        return name.isEmpty() || name.contains("$") ? "predicate" : name; // lambdas and anonymous classes
+    }
+}
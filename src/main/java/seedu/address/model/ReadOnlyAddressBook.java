@@ -1,10 +1,14 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
 import seedu.address.model.event.Event;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 
 /**
  * Unmodifiable view of an address book
@@ -33,4 +37,14 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate properties.
      */
     ObservableList<Property> getPropertyList();
+
+    /**
+     * Returns the client named {@code clientName}, if there is one.
+     */
+    Optional<Client> getClient(ClientName clientName);
+
+    /**
+     * Returns the property named {@code propertyName}, if there is one.
+     */
+    Optional<Property> getProperty(PropertyName propertyName);
 }
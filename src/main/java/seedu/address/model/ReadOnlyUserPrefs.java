@@ -13,4 +13,28 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    long getAddressIndexMemoryLimit();
+
+    int getParallelFilterThreshold();
+
+    boolean isLiveSearchEnabled();
+
+    /** Returns the number of milliseconds to wait after the last keystroke before starting a live search. */
+    int getLiveSearchDelay();
+
+    /**
+     * Returns the number of saves to journal before the whole address book is written again, or 0 if the whole
+     * address book is to be written on every save.
+     */
+    int getJournalCheckpointInterval();
+
+    /**
+     * Returns the number of milliseconds to wait after a change to the address book before saving it in the
+     * background, so that the changes made in the meantime are saved together.
+     */
+    int getSaveDelay();
+
+    /** Returns true if the data file is to be indented over many lines, rather than written on a single line. */
+    boolean isDataFilePrettyPrinted();
+
 }
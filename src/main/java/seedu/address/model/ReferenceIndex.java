@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A multimap from a referenced key (such as a client name) to the entries that refer to it.
+ * Used by {@code AddressBook} to find the deals, events and properties referring to a client or property
+ * without scanning every list.
+ * The entries of each key are kept in a hash set that remembers the order they were added in, so that an entry is
+ * removed in constant time however many entries refer to the same key.
+ *
+ * @param <K> The type of the referenced key.
+ * @param <V> The type of the referring entries.
+ */
+class ReferenceIndex<K, V> {
+
+    private final Map<K, Set<V>> entriesByKey = new HashMap<>();
+
+    /**
+     * Records that {@code entry} refers to {@code key}.
+     */
+    public void add(K key, V entry) {
+        requireAllNonNull(key, entry);
+        entriesByKey.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(entry);
+    }
+
+    /**
+     * Removes the record of {@code entry} referring to {@code key}, if present.
+     */
+    public void remove(K key, V entry) {
+        requireAllNonNull(key, entry);
+        Set<V> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return;
+        }
+        entries.remove(entry);
+        if (entries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+
+    /**
+     * Returns the entries referring to {@code key}, in the order they were added.
+     */
+    public List<V> get(K key) {
+        Set<V> entries = entriesByKey.get(key);
+        return entries == null ? Collections.emptyList() : List.copyOf(entries);
+    }
+
+    /**
+     * Removes all records.
+     */
+    public void clear() {
+        entriesByKey.clear();
+    }
+}
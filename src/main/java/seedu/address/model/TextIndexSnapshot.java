@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The contents of the full-text indexes of an address book: the number of times each term occurs in the note of the
+ * event, and in the description of the property, at each position of the event and property lists.
+ * An address book restores its indexes from a snapshot of the same data without reading any note or description.
+ */
+public class TextIndexSnapshot {
+
+    private final List<Map<String, Integer>> eventNoteTermCounts;
+    private final List<Map<String, Integer>> propertyDescriptionTermCounts;
+
+    /**
+     * Creates a snapshot of the given term counts, listed by position.
+     */
+    public TextIndexSnapshot(List<Map<String, Integer>> eventNoteTermCounts,
+            List<Map<String, Integer>> propertyDescriptionTermCounts) {
+        requireNonNull(eventNoteTermCounts);
+        requireNonNull(propertyDescriptionTermCounts);
+        this.eventNoteTermCounts = List.copyOf(eventNoteTermCounts);
+        this.propertyDescriptionTermCounts = List.copyOf(propertyDescriptionTermCounts);
+    }
+
+    public List<Map<String, Integer>> getEventNoteTermCounts() {
+        return eventNoteTermCounts;
+    }
+
+    public List<Map<String, Integer>> getPropertyDescriptionTermCounts() {
+        return propertyDescriptionTermCounts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TextIndexSnapshot otherSnapshot)) {
+            return false;
+        }
+
+        return eventNoteTermCounts.equals(otherSnapshot.eventNoteTermCounts)
+                && propertyDescriptionTermCounts.equals(otherSnapshot.propertyDescriptionTermCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventNoteTermCounts, propertyDescriptionTermCounts);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * An event whose note, or a property whose description, matched a full-text search, with the BM25 score of the match.
+ * Guarantees: immutable; exactly one of the event and the property is present.
+ */
+public class TextMatch {
+
+    private final Optional<Event> event;
+    private final Optional<Property> property;
+    private final double score;
+
+    /**
+     * Creates a match of the note of {@code event} scoring {@code score}.
+     */
+    public TextMatch(Event event, double score) {
+        requireNonNull(event);
+        this.event = Optional.of(event);
+        this.property = Optional.empty();
+        this.score = score;
+    }
+
+    /**
+     * Creates a match of the description of {@code property} scoring {@code score}.
+     */
+    public TextMatch(Property property, double score) {
+        requireNonNull(property);
+        this.event = Optional.empty();
+        this.property = Optional.of(property);
+        this.score = score;
+    }
+
+    public Optional<Event> getEvent() {
+        return event;
+    }
+
+    public Optional<Property> getProperty() {
+        return property;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TextMatch otherTextMatch)) {
+            return false;
+        }
+
+        return event.equals(otherTextMatch.event)
+                && property.equals(otherTextMatch.property)
+                && Double.compare(score, otherTextMatch.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(event, property, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("event", event)
+                .add("property", property)
+                .add("score", score)
+                .toString();
+    }
+}
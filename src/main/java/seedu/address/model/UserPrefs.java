@@ -13,8 +13,21 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_ADDRESS_INDEX_MEMORY_LIMIT = 64L * 1024 * 1024;
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 10_000;
+    public static final int DEFAULT_LIVE_SEARCH_DELAY = 150;
+    public static final int DEFAULT_JOURNAL_CHECKPOINT_INTERVAL = 500;
+    public static final int DEFAULT_SAVE_DELAY = 200;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private long addressIndexMemoryLimit = DEFAULT_ADDRESS_INDEX_MEMORY_LIMIT;
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private boolean isLiveSearchEnabled = false;
+    private int liveSearchDelay = DEFAULT_LIVE_SEARCH_DELAY;
+    private int journalCheckpointInterval = DEFAULT_JOURNAL_CHECKPOINT_INTERVAL;
+    private int saveDelay = DEFAULT_SAVE_DELAY;
+    private boolean isDataFilePrettyPrinted = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressIndexMemoryLimit(newUserPrefs.getAddressIndexMemoryLimit());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setLiveSearchEnabled(newUserPrefs.isLiveSearchEnabled());
+        setLiveSearchDelay(newUserPrefs.getLiveSearchDelay());
+        setJournalCheckpointInterval(newUserPrefs.getJournalCheckpointInterval());
+        setSaveDelay(newUserPrefs.getSaveDelay());
+        setDataFilePrettyPrinted(newUserPrefs.isDataFilePrettyPrinted());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +76,62 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getAddressIndexMemoryLimit() {
+        return addressIndexMemoryLimit;
+    }
+
+    public void setAddressIndexMemoryLimit(long addressIndexMemoryLimit) {
+        this.addressIndexMemoryLimit = addressIndexMemoryLimit;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public boolean isLiveSearchEnabled() {
+        return isLiveSearchEnabled;
+    }
+
+    public void setLiveSearchEnabled(boolean isLiveSearchEnabled) {
+        this.isLiveSearchEnabled = isLiveSearchEnabled;
+    }
+
+    public int getLiveSearchDelay() {
+        return liveSearchDelay;
+    }
+
+    public void setLiveSearchDelay(int liveSearchDelay) {
+        this.liveSearchDelay = liveSearchDelay;
+    }
+
+    public int getJournalCheckpointInterval() {
+        return journalCheckpointInterval;
+    }
+
+    public void setJournalCheckpointInterval(int journalCheckpointInterval) {
+        this.journalCheckpointInterval = journalCheckpointInterval;
+    }
+
+    public int getSaveDelay() {
+        return saveDelay;
+    }
+
+    public void setSaveDelay(int saveDelay) {
+        this.saveDelay = saveDelay;
+    }
+
+    public boolean isDataFilePrettyPrinted() {
+        return isDataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean isDataFilePrettyPrinted) {
+        this.isDataFilePrettyPrinted = isDataFilePrettyPrinted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +145,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressIndexMemoryLimit == otherUserPrefs.addressIndexMemoryLimit
+                && parallelFilterThreshold == otherUserPrefs.parallelFilterThreshold
+                && isLiveSearchEnabled == otherUserPrefs.isLiveSearchEnabled
+                && liveSearchDelay == otherUserPrefs.liveSearchDelay
+                && journalCheckpointInterval == otherUserPrefs.journalCheckpointInterval
+                && saveDelay == otherUserPrefs.saveDelay
+                && isDataFilePrettyPrinted == otherUserPrefs.isDataFilePrettyPrinted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressIndexMemoryLimit, parallelFilterThreshold,
+                isLiveSearchEnabled, liveSearchDelay, journalCheckpointInterval, saveDelay,
+                isDataFilePrettyPrinted);
     }
 
     @Override
@@ -82,6 +167,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nAddress index memory limit : " + addressIndexMemoryLimit);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
+        sb.append("\nLive search enabled : " + isLiveSearchEnabled);
+        sb.append("\nLive search delay : " + liveSearchDelay);
+        sb.append("\nJournal checkpoint interval : " + journalCheckpointInterval);
+        sb.append("\nSave delay : " + saveDelay);
+        sb.append("\nData file pretty-printed : " + isDataFilePrettyPrinted);
         return sb.toString();
     }
 
@@ -1,11 +1,14 @@
 package seedu.address.model.client;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.commons.Address;
+import seedu.address.model.commons.Id;
 import seedu.address.model.commons.Nameable;
 
 /**
@@ -22,15 +25,23 @@ public class Client implements Nameable<Client> {
     // Data fields
     private final Address address;
 
+    // Assigned by the address book when the client is added
+    private final Optional<Id> id;
+
     /**
      * Every field must be present and not null.
      */
     public Client(ClientName clientName, Phone phone, Email email, Address address) {
-        requireAllNonNull(clientName, phone, email, address);
+        this(clientName, phone, email, address, Optional.empty());
+    }
+
+    private Client(ClientName clientName, Phone phone, Email email, Address address, Optional<Id> id) {
+        requireAllNonNull(clientName, phone, email, address, id);
         this.clientName = clientName;
         this.phone = phone;
         this.email = email;
         this.address = address;
+        this.id = id;
     }
 
     @Override
@@ -50,6 +61,18 @@ public class Client implements Nameable<Client> {
         return address;
     }
 
+    public Optional<Id> getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this client identified by {@code id}.
+     */
+    public Client withId(Id id) {
+        requireNonNull(id);
+        return new Client(clientName, phone, email, address, Optional.of(id));
+    }
+
     /**
      * Returns true if both persons have the same clientName or phone.
      * This defines a weaker notion of equality between two persons.
@@ -67,6 +90,7 @@ public class Client implements Nameable<Client> {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The assigned {@code Id} is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -3,14 +3,25 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.DigitTrie;
+import seedu.address.model.util.KeyPositionIndex;
+import seedu.address.model.util.SlotOrder;
+import seedu.address.model.util.TokenIndex;
+import seedu.address.model.util.TrigramIndex;
 
 /**
  * A list of clients that enforces uniqueness between its elements and does not allow nulls.
@@ -19,33 +30,56 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  *
+ * Clients are additionally indexed by name, which also gives the position of each client, and by phone so that
+ * identity checks and lookups do not need to scan the list, by the words of their names so that keyword searches do
+ * not need to scan the list, by the trigrams of their addresses so that address searches only need to check a few
+ * candidates, and in a trie of the suffixes of their phone numbers so that partial numbers are looked up without
+ * scanning the list. All of these indexes refer to clients by their slots in one slot order, which the list keeps in
+ * step with its insertions and removals.
+ * Each change to the list is reported to its listeners only once all of these indexes are up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
  */
 public class UniqueClientList implements Iterable<Client> {
 
-    private final ObservableList<Client> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Client> internalList = new BatchedObservableList<>();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final SlotOrder slotOrder = new SlotOrder();
+    private final KeyPositionIndex<ClientName> namePositions = new KeyPositionIndex<>(slotOrder);
+    private final Map<Phone, Client> clientsByPhone = new HashMap<>();
+    private final TokenIndex nameTokens = new TokenIndex(slotOrder);
+    private final TrigramIndex addressTrigrams = new TrigramIndex("client address", slotOrder);
+    private final DigitTrie phoneTrie = new DigitTrie(slotOrder);
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(client -> toCheck.isSameClient(client));
+        return namePositions.contains(toCheck.getFullName()) || clientsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
-     * Returns true if the list contains an equivalent client as the given argument.
+     * Returns true if the list contains an equivalent client as the given argument,
+     * ignoring the client at {@code index}.
      */
     public boolean contains(Client toCheck, Index index) {
         requireNonNull(toCheck);
         int excludeIndex = index.getZeroBased(); // skip this index
-        return internalList.stream()
-                .filter(client -> internalList.indexOf(client) != excludeIndex)
-                .anyMatch(client -> toCheck.isSameClient(client));
+        Client excluded = excludeIndex < internalList.size() ? internalList.get(excludeIndex) : null;
+        return hasOtherClientWithSameIdentity(toCheck, excluded);
+    }
+
+    /**
+     * Returns the client in the list named {@code clientName}, if there is one.
+     */
+    public Optional<Client> get(ClientName clientName) {
+        requireNonNull(clientName);
+        int index = namePositions.positionOf(clientName);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -57,7 +91,16 @@ public class UniqueClientList implements Iterable<Client> {
         if (contains(toAdd)) {
             throw new DuplicateClientException();
         }
-        internalList.add(toAdd);
+        int position = internalList.size();
+        internalList.applyAsSingleChange(() -> {
+            internalList.add(toAdd);
+            slotOrder.insert(position);
+            namePositions.insert(position, toAdd.getFullName());
+            clientsByPhone.put(toAdd.getPhone(), toAdd);
+            nameTokens.insert(position, toAdd.getFullName().fullName);
+            addressTrigrams.insert(position, toAdd.getAddress().value);
+            phoneTrie.insert(position, toAdd.getPhone().value);
+        });
     }
 
     /**
@@ -68,18 +111,23 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
-
-        if (internalList.stream()
-                .filter(client -> internalList.indexOf(client) != index)
-                .anyMatch(client -> editedClient.isSameClient(client))) {
+        if (hasOtherClientWithSameIdentity(editedClient, target)) {
             throw new DuplicateClientException();
         }
 
-        internalList.set(index, editedClient);
+        internalList.applyAsSingleChange(() -> {
+            internalList.set(index, editedClient);
+            namePositions.replace(index, target.getFullName(), editedClient.getFullName());
+            clientsByPhone.remove(target.getPhone());
+            clientsByPhone.put(editedClient.getPhone(), editedClient);
+            nameTokens.replace(index, target.getFullName().fullName, editedClient.getFullName().fullName);
+            addressTrigrams.replace(index, target.getAddress().value, editedClient.getAddress().value);
+            phoneTrie.replace(index, target.getPhone().value, editedClient.getPhone().value);
+        });
     }
 
     /**
@@ -88,14 +136,29 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
+        internalList.applyAsSingleChange(() -> {
+            internalList.remove(index);
+            namePositions.remove(index, toRemove.getFullName());
+            clientsByPhone.remove(toRemove.getPhone());
+            nameTokens.remove(index, toRemove.getFullName().fullName);
+            addressTrigrams.remove(index, toRemove.getAddress().value);
+            phoneTrie.remove(index, toRemove.getPhone().value);
+            slotOrder.remove(index);
+        });
     }
 
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.applyAsSingleChange(() -> {
+            internalList.setAll(replacement.internalList);
+            clientsByPhone.clear();
+            clientsByPhone.putAll(replacement.clientsByPhone);
+            resetIndexes();
+        });
     }
 
     /**
@@ -104,11 +167,96 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void setClients(List<Client> clients) {
         requireAllNonNull(clients);
-        if (!clientsAreUnique(clients)) {
-            throw new DuplicateClientException();
+        Set<ClientName> newNames = new HashSet<>();
+        Map<Phone, Client> newClientsByPhone = new HashMap<>();
+        for (Client client : clients) {
+            if (!newNames.add(client.getFullName())
+                    || newClientsByPhone.putIfAbsent(client.getPhone(), client) != null) {
+                throw new DuplicateClientException();
+            }
         }
 
-        internalList.setAll(clients);
+        internalList.applyAsSingleChange(() -> {
+            internalList.setAll(clients);
+            clientsByPhone.clear();
+            clientsByPhone.putAll(newClientsByPhone);
+            resetIndexes();
+        });
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the clients with the word {@code token} in their name,
+     * ignoring case.
+     */
+    public int[] getPositionsWithNameToken(String token) {
+        requireNonNull(token);
+        return nameTokens.positionsWithToken(token);
+    }
+
+    /**
+     * Returns the number of clients with the word {@code token} in their name, ignoring case.
+     */
+    public int countWithNameToken(String token) {
+        requireNonNull(token);
+        return nameTokens.countWithToken(token);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the clients with a word in their name within an edit distance of
+     * {@code maxDistance} from {@code token}, ignoring case.
+     */
+    public int[] getPositionsWithNameTokenNear(String token, int maxDistance) {
+        requireNonNull(token);
+        return nameTokens.positionsWithTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns an upper bound on the number of clients with a word in their name within an edit distance of
+     * {@code maxDistance} from {@code token}, ignoring case.
+     */
+    public int countWithNameTokenNear(String token, int maxDistance) {
+        requireNonNull(token);
+        return nameTokens.countWithTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the clients whose address may contain {@code substring} ignoring
+     * case, or an empty {@code Optional} if the address index cannot narrow them down.
+     */
+    public Optional<int[]> getPositionsWithAddressContaining(String substring) {
+        requireNonNull(substring);
+        return addressTrigrams.positionsContaining(substring);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the clients whose phone number contains the digits
+     * {@code digits}, or an empty {@code Optional} if the phone trie cannot answer the query.
+     */
+    public Optional<int[]> getPositionsWithPhoneContaining(String digits) {
+        requireNonNull(digits);
+        return phoneTrie.positionsContaining(digits);
+    }
+
+    /**
+     * Limits the memory taken up by the address index to {@code memoryLimit} bytes, rebuilding the index.
+     */
+    public void setAddressIndexMemoryLimit(long memoryLimit) {
+        addressTrigrams.setMemoryLimit(memoryLimit);
+        addressTrigrams.reset(internalList.stream().map(client -> client.getAddress().value).toList());
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the address index.
+     */
+    public long getAddressIndexMemoryUsage() {
+        return addressTrigrams.getMemoryUsage();
+    }
+
+    /**
+     * Returns an unmodifiable copy of the list as it is now, which is only copied if the list is modified later.
+     */
+    public List<Client> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -149,16 +297,28 @@ public class UniqueClientList implements Iterable<Client> {
     }
 
     /**
-     * Returns true if {@code clients} contains only unique clients.
+     * Returns the position of {@code client} in the list, or -1 if it is not in the list.
      */
-    private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private int indexOf(Client client) {
+        int index = namePositions.positionOf(client.getFullName());
+        return index != -1 && internalList.get(index).equals(client) ? index : -1;
+    }
+
+    /**
+     * Returns true if a client other than {@code excluded} shares the name or phone of {@code toCheck}.
+     */
+    private boolean hasOtherClientWithSameIdentity(Client toCheck, Client excluded) {
+        Client sameName = get(toCheck.getFullName()).orElse(null);
+        Client samePhone = clientsByPhone.get(toCheck.getPhone());
+        return (sameName != null && !sameName.equals(excluded))
+                || (samePhone != null && !samePhone.equals(excluded));
+    }
+
+    private void resetIndexes() {
+        slotOrder.reset(internalList.size());
+        namePositions.reset(internalList.stream().map(Client::getFullName).toList());
+        nameTokens.reset(internalList.stream().map(client -> client.getFullName().fullName).toList());
+        addressTrigrams.reset(internalList.stream().map(client -> client.getAddress().value).toList());
+        phoneTrie.reset(internalList.stream().map(client -> client.getPhone().value).toList());
     }
 }
@@ -1,10 +1,17 @@
 package seedu.address.model.client.predicates;
+
+import java.util.Optional;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.client.Client;
 
 /**
  * Tests that a {@code Client}'s {@code Address} contains the specified address.
+ * The candidate clients are narrowed down through the index of the trigrams in client addresses.
  */
-public class ClientAddressContainsPredicate extends ClientPredicate<String> {
+public class ClientAddressContainsPredicate extends ClientPredicate<String>
+        implements IndexedPredicate<Client> {
 
     /**
      * Constructs a {@code ClientAddressContainsPredicate}.
@@ -19,5 +26,9 @@ public class ClientAddressContainsPredicate extends ClientPredicate<String> {
     public boolean test(Client client) {
         return client.getAddress().toString().toLowerCase().contains(value.toLowerCase());
     }
-}
 
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return addressBook.getClientPositionsWithAddressContaining(value);
+    }
+}
@@ -1,14 +1,22 @@
 package seedu.address.model.client.predicates;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.client.Client;
 import seedu.address.model.commons.NameContainsKeywordsPredicate;
+import seedu.address.model.util.Positions;
 
 /**
  * Tests that a {@code Client}'s {@code Name} matches any of the keywords given.
+ * The matching clients are found through the index of the words in client names, which also finds the words near a
+ * fuzzy keyword.
  */
-public class ClientNameContainsKeywordsPredicate extends NameContainsKeywordsPredicate<Client> {
+public class ClientNameContainsKeywordsPredicate extends NameContainsKeywordsPredicate<Client>
+        implements IndexedPredicate<Client> {
 
     /**
      * Constructs a {@code ClientNameContainsKeywordsPredicate}.
@@ -18,4 +26,22 @@ public class ClientNameContainsKeywordsPredicate extends NameContainsKeywordsPre
     public ClientNameContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(keywords.stream()
+                .map(keyword -> isFuzzy(keyword)
+                        ? addressBook.getClientPositionsWithNameTokenNear(termOf(keyword), maxEditDistanceOf(keyword))
+                        : addressBook.getClientPositionsWithNameToken(keyword))
+                .reduce(new int[0], Positions::union));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(keywords.stream()
+                .mapToInt(keyword -> isFuzzy(keyword)
+                        ? addressBook.countClientsWithNameTokenNear(termOf(keyword), maxEditDistanceOf(keyword))
+                        : addressBook.countClientsWithNameToken(keyword))
+                .sum());
+    }
 }
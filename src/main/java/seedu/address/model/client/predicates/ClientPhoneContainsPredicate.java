@@ -1,10 +1,17 @@
 package seedu.address.model.client.predicates;
+
+import java.util.Optional;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.client.Client;
 
 /**
  * Tests that a {@code Client}'s {@code Phone} contains the specified phone.
+ * The matching clients are looked up in the trie of the suffixes of client phone numbers.
  */
-public class ClientPhoneContainsPredicate extends ClientPredicate<String> {
+public class ClientPhoneContainsPredicate extends ClientPredicate<String>
+        implements IndexedPredicate<Client> {
 
     /**
      * Constructs a {@code ClientPhoneContainsPredicate}.
@@ -19,4 +26,9 @@ public class ClientPhoneContainsPredicate extends ClientPredicate<String> {
     public boolean test(Client client) {
         return client.getPhone().toString().contains(value);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return addressBook.getClientPositionsWithPhoneContaining(value);
+    }
 }
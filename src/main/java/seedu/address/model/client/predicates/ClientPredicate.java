@@ -1,5 +1,6 @@
 package seedu.address.model.client.predicates;
 
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.model.client.Client;
@@ -20,10 +21,15 @@ public abstract class ClientPredicate<T> implements Predicate<Client> {
             return true;
         }
 
-        if (!(other instanceof ClientPredicate otherPredicate)) {
+        if (!(other instanceof ClientPredicate otherPredicate) || other.getClass() != getClass()) {
             return false;
         }
 
         return value.equals(otherPredicate.value);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), value);
+    }
 }
@@ -0,0 +1,127 @@
+package seedu.address.model.commons;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.util.Positions;
+
+/**
+ * Tests that an entry satisfies all, or any, of a list of predicates.
+ * Candidate positions are narrowed down using the predicates that are themselves {@code IndexedPredicate}s.
+ */
+public class CombinedPredicate<T> implements IndexedPredicate<T> {
+
+    /**
+     * The ways in which the predicates can be combined.
+     */
+    public enum Connective {
+        AND, OR
+    }
+
+    private final Connective connective;
+    private final List<Predicate<T>> predicates;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CombinedPredicate(Connective connective, List<Predicate<T>> predicates) {
+        requireAllNonNull(connective, predicates);
+        this.connective = connective;
+        this.predicates = List.copyOf(predicates);
+    }
+
+    public Connective getConnective() {
+        return connective;
+    }
+
+    public List<Predicate<T>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(T entry) {
+        return connective == Connective.AND
+                ? predicates.stream().allMatch(predicate -> predicate.test(entry))
+                : predicates.stream().anyMatch(predicate -> predicate.test(entry));
+    }
+
+    /**
+     * Returns the positions allowed by every indexed predicate when combined with AND,
+     * or the positions of all of them when every predicate is indexed and they are combined with OR.
+     */
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        Optional<int[]> candidates = Optional.empty();
+        for (Predicate<T> predicate : predicates) {
+            Optional<int[]> predicateCandidates = IndexedPredicate.getCandidates(predicate, addressBook);
+            if (connective == Connective.OR && predicateCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            if (predicateCandidates.isPresent()) {
+                candidates = Optional.of(candidates
+                        .map(current -> connective == Connective.AND
+                                ? Positions.intersect(current, predicateCandidates.get())
+                                : Positions.union(current, predicateCandidates.get()))
+                        .orElse(predicateCandidates.get()));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the smallest estimate of the indexed predicates when combined with AND,
+     * or the sum of the estimates of all of them when every predicate is indexed and they are combined with OR.
+     */
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        OptionalInt estimate = OptionalInt.empty();
+        for (Predicate<T> predicate : predicates) {
+            OptionalInt predicateEstimate = IndexedPredicate.estimateCandidates(predicate, addressBook);
+            if (connective == Connective.OR && predicateEstimate.isEmpty()) {
+                return OptionalInt.empty();
+            }
+            if (predicateEstimate.isPresent()) {
+                estimate = OptionalInt.of(estimate.isEmpty() ? predicateEstimate.getAsInt()
+                        : connective == Connective.AND
+                        ? Math.min(estimate.getAsInt(), predicateEstimate.getAsInt())
+                        : estimate.getAsInt() + predicateEstimate.getAsInt());
+            }
+        }
+        return estimate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CombinedPredicate<?> otherCombinedPredicate)) {
+            return false;
+        }
+
+        return connective == otherCombinedPredicate.connective
+                && predicates.equals(otherCombinedPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return connective.hashCode() * 31 + predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("connective", connective)
+                .add("predicates", predicates)
+                .toString();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.commons;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the identifier REconnect assigns to a client or property.
+ * An identifier stays the same when the entity it belongs to is edited, so other entries can refer to it.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ */
+public class Id {
+
+    public static final String MESSAGE_CONSTRAINTS = "Id should be a positive number";
+
+    public final long value;
+
+    /**
+     * Constructs an {@code Id}.
+     *
+     * @param id A valid identifier.
+     */
+    public Id(long id) {
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        this.value = id;
+    }
+
+    /**
+     * Returns true if a given number is a valid identifier.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Id otherId)) {
+            return false;
+        }
+
+        return value == otherId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.commons;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,8 +9,15 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Client}'s {@code Name} matches any of the keywords given.
+ * A keyword starting with {@value #FUZZY_MARKER} also matches words a few typing mistakes away from the rest of it.
  */
 public class NameContainsKeywordsPredicate<T extends Nameable<T>> implements Predicate<T> {
+
+    public static final String FUZZY_MARKER = "~";
+
+    /** Fuzzy keywords of at most this length may be one edit away from a word, and longer ones two edits away. */
+    private static final int MAX_LENGTH_WITHIN_ONE_EDIT = 4;
+
     protected final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -18,8 +26,32 @@ public class NameContainsKeywordsPredicate<T extends Nameable<T>> implements Pre
 
     @Override
     public boolean test(T nameable) {
+        String name = nameable.getFullName().toString();
         return keywords.stream()
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(nameable.getFullName().toString(), keyword));
+            .anyMatch(keyword -> isFuzzy(keyword)
+                    ? StringUtil.containsWordNearIgnoreCase(name, termOf(keyword), maxEditDistanceOf(keyword))
+                    : StringUtil.containsWordIgnoreCase(name, keyword));
+    }
+
+    /**
+     * Returns true if {@code keyword} also matches words that are a few edits away from it.
+     */
+    public static boolean isFuzzy(String keyword) {
+        return keyword.startsWith(FUZZY_MARKER);
+    }
+
+    /**
+     * Returns {@code keyword} without its fuzzy marker, if it has one.
+     */
+    protected static String termOf(String keyword) {
+        return isFuzzy(keyword) ? keyword.substring(FUZZY_MARKER.length()) : keyword;
+    }
+
+    /**
+     * Returns the edit distance within which the fuzzy {@code keyword} matches a word.
+     */
+    protected static int maxEditDistanceOf(String keyword) {
+        return termOf(keyword).length() <= MAX_LENGTH_WITHIN_ONE_EDIT ? 1 : 2;
     }
 
     @Override
@@ -29,13 +61,19 @@ public class NameContainsKeywordsPredicate<T extends Nameable<T>> implements Pre
         }
 
         // instanceof handles nulls
-        if (!(other instanceof NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate)) {
+        if (!(other instanceof NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate)
+                || other.getClass() != getClass()) {
             return false;
         }
 
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), keywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -2,6 +2,8 @@ package seedu.address.model.deal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 import seedu.address.model.client.ClientName;
 import seedu.address.model.commons.Price;
 import seedu.address.model.property.PropertyName;
@@ -108,6 +110,11 @@ public class Deal {
                 && status.equals(otherDeal.status);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(propertyName, buyer, seller, price, status);
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
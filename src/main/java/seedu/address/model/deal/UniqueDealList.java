@@ -3,13 +3,25 @@ package seedu.address.model.deal;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.exceptions.DealNotFoundException;
 import seedu.address.model.deal.exceptions.DuplicateDealException;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.EnumPartitionIndex;
+import seedu.address.model.util.KeyPositionIndex;
+import seedu.address.model.util.SlotOrder;
+import seedu.address.model.util.SortedLongIndex;
+import seedu.address.model.util.TokenIndex;
 
 /**
  * A list of deals that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +30,47 @@ import seedu.address.model.deal.exceptions.DuplicateDealException;
  * added or updated is unique in terms of identity in the UniqueDealList. However, the removal of a deal uses
  * Deal#equals(Object) so as to ensure that the deal with exactly the same fields will be removed.
  *
+ * The identity key of every deal is also mapped to its position so that uniqueness checks and lookups do not need to
+ * scan the list, and deals are indexed by price and by the words of their buyer, seller and property names so that
+ * price range queries and keyword searches do not need to scan the list either. Their positions are also partitioned
+ * by status, so that the deals with a status are found and counted without scanning the list.
+ * All of these indexes refer to deals by their slots in one slot order, which the list keeps in step with its
+ * insertions and removals.
+ * Each change to the list is reported to its listeners only once all of these indexes are up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Deal#isSameDeal(Deal)
  */
 public class UniqueDealList implements Iterable<Deal> {
 
-    private final ObservableList<Deal> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Deal> internalList = new BatchedObservableList<>();
     private final ObservableList<Deal> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final SlotOrder slotOrder = new SlotOrder();
+    private final KeyPositionIndex<DealKey> dealPositions = new KeyPositionIndex<>(slotOrder);
+    private final SortedLongIndex priceIndex = new SortedLongIndex(slotOrder);
+    private final TokenIndex buyerTokens = new TokenIndex(slotOrder);
+    private final TokenIndex sellerTokens = new TokenIndex(slotOrder);
+    private final TokenIndex propertyTokens = new TokenIndex(slotOrder);
+    private final EnumPartitionIndex<DealStatus> statusPartitions =
+            new EnumPartitionIndex<>(DealStatus.class, slotOrder);
 
     /**
      * Returns true if the list contains an equivalent deal as the given argument.
      */
     public boolean contains(Deal toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDeal);
+        return dealPositions.contains(DealKey.of(toCheck));
+    }
+
+    /**
+     * Returns the position of {@code deal} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Deal deal) {
+        requireNonNull(deal);
+        int index = dealPositions.positionOf(DealKey.of(deal));
+        return index != -1 && internalList.get(index).equals(deal) ? index : -1;
     }
 
     /**
@@ -45,7 +82,17 @@ public class UniqueDealList implements Iterable<Deal> {
         if (contains(toAdd)) {
             throw new DuplicateDealException();
         }
-        internalList.add(toAdd);
+        int position = internalList.size();
+        internalList.applyAsSingleChange(() -> {
+            internalList.add(toAdd);
+            slotOrder.insert(position);
+            dealPositions.insert(position, DealKey.of(toAdd));
+            priceIndex.insert(position, priceKeys(toAdd));
+            buyerTokens.insert(position, toAdd.getBuyer().fullName);
+            sellerTokens.insert(position, toAdd.getSeller().fullName);
+            propertyTokens.insert(position, toAdd.getPropertyName().fullName);
+            statusPartitions.insert(position, toAdd.getStatus());
+        });
     }
 
     /**
@@ -56,7 +103,7 @@ public class UniqueDealList implements Iterable<Deal> {
     public void setDeal(Deal target, Deal editedDeal) {
         requireAllNonNull(target, editedDeal);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DealNotFoundException();
         }
@@ -65,7 +112,15 @@ public class UniqueDealList implements Iterable<Deal> {
             throw new DuplicateDealException();
         }
 
-        internalList.set(index, editedDeal);
+        internalList.applyAsSingleChange(() -> {
+            internalList.set(index, editedDeal);
+            dealPositions.replace(index, DealKey.of(target), DealKey.of(editedDeal));
+            priceIndex.replace(index, priceKeys(target), priceKeys(editedDeal));
+            buyerTokens.replace(index, target.getBuyer().fullName, editedDeal.getBuyer().fullName);
+            sellerTokens.replace(index, target.getSeller().fullName, editedDeal.getSeller().fullName);
+            propertyTokens.replace(index, target.getPropertyName().fullName, editedDeal.getPropertyName().fullName);
+            statusPartitions.replace(index, target.getStatus(), editedDeal.getStatus());
+        });
     }
 
     /**
@@ -74,14 +129,85 @@ public class UniqueDealList implements Iterable<Deal> {
      */
     public void remove(Deal toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new DealNotFoundException();
         }
+        internalList.applyAsSingleChange(() -> {
+            internalList.remove(index);
+            dealPositions.remove(index, DealKey.of(toRemove));
+            priceIndex.remove(index, priceKeys(toRemove));
+            buyerTokens.remove(index, toRemove.getBuyer().fullName);
+            sellerTokens.remove(index, toRemove.getSeller().fullName);
+            propertyTokens.remove(index, toRemove.getPropertyName().fullName);
+            statusPartitions.remove(index, toRemove.getStatus());
+            slotOrder.remove(index);
+        });
+    }
+
+    /**
+     * Replaces each deal in the list that is a key of {@code replacements} with the deal it maps to,
+     * notifying listeners of all the replacements in a single change.
+     * The keys must be deals stored in the list, typically collected in an {@code IdentityHashMap}.
+     * The replacement deals must not have the same identity as any other deal in the list.
+     */
+    public void replaceDeals(Map<Deal, Deal> replacements) {
+        requireNonNull(replacements);
+        Set<DealKey> replacedKeys = new HashSet<>();
+        replacements.keySet().forEach(deal -> replacedKeys.add(DealKey.of(deal)));
+        Set<DealKey> replacementKeys = new HashSet<>();
+        for (Deal replacement : replacements.values()) {
+            DealKey key = DealKey.of(replacement);
+            if (!replacementKeys.add(key) || (dealPositions.contains(key) && !replacedKeys.contains(key))) {
+                throw new DuplicateDealException();
+            }
+        }
+
+        List<Deal> replaced = new ArrayList<>(replacements.keySet());
+        int[] positions = new int[replaced.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = indexOf(replaced.get(i));
+            if (positions[i] == -1) {
+                throw new DealNotFoundException();
+            }
+        }
+
+        internalList.applyAsSingleChange(() -> {
+            List<DealKey> oldKeys = new ArrayList<>(positions.length);
+            List<DealKey> newKeys = new ArrayList<>(positions.length);
+            for (int i = 0; i < positions.length; i++) {
+                int index = positions[i];
+                Deal target = replaced.get(i);
+                Deal editedDeal = replacements.get(target);
+                internalList.set(index, editedDeal);
+                oldKeys.add(DealKey.of(target));
+                newKeys.add(DealKey.of(editedDeal));
+                priceIndex.replace(index, priceKeys(target), priceKeys(editedDeal));
+                buyerTokens.replace(index, target.getBuyer().fullName, editedDeal.getBuyer().fullName);
+                sellerTokens.replace(index, target.getSeller().fullName, editedDeal.getSeller().fullName);
+                propertyTokens.replace(index, target.getPropertyName().fullName,
+                        editedDeal.getPropertyName().fullName);
+                statusPartitions.replace(index, target.getStatus(), editedDeal.getStatus());
+            }
+            dealPositions.replaceAll(positions, oldKeys, newKeys);
+        });
+    }
+
+    /**
+     * Applies {@code modifications}, which may change this list through its other methods and update state kept
+     * alongside it, and notifies listeners of all the changes to the list in one change once they have all run.
+     */
+    public void applyAsSingleChange(Runnable modifications) {
+        requireNonNull(modifications);
+        internalList.applyAsSingleChange(modifications);
     }
 
     public void setDeals(UniqueDealList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.applyAsSingleChange(() -> {
+            internalList.setAll(replacement.internalList);
+            resetIndexes();
+        });
     }
 
     /**
@@ -90,11 +216,106 @@ public class UniqueDealList implements Iterable<Deal> {
      */
     public void setDeals(List<Deal> deals) {
         requireAllNonNull(deals);
-        if (!dealsAreUnique(deals)) {
-            throw new DuplicateDealException();
+        Set<DealKey> newDealKeys = new HashSet<>();
+        for (Deal deal : deals) {
+            if (!newDealKeys.add(DealKey.of(deal))) {
+                throw new DuplicateDealException();
+            }
         }
 
-        internalList.setAll(deals);
+        internalList.applyAsSingleChange(() -> {
+            internalList.setAll(deals);
+            resetIndexes();
+        });
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the deals whose price is from {@code min} to {@code max}
+     * inclusive.
+     */
+    public int[] getPositionsWithPriceBetween(long min, long max) {
+        return priceIndex.positionsInRange(min, max);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the deals with the word {@code token} in their buyer's name,
+     * ignoring case.
+     */
+    public int[] getPositionsWithBuyerNameToken(String token) {
+        requireNonNull(token);
+        return buyerTokens.positionsWithToken(token);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the deals with the word {@code token} in their seller's name,
+     * ignoring case.
+     */
+    public int[] getPositionsWithSellerNameToken(String token) {
+        requireNonNull(token);
+        return sellerTokens.positionsWithToken(token);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the deals with the word {@code token} in their property's name,
+     * ignoring case.
+     */
+    public int[] getPositionsWithPropertyNameToken(String token) {
+        requireNonNull(token);
+        return propertyTokens.positionsWithToken(token);
+    }
+
+    /**
+     * Returns the number of deals whose price is from {@code min} to {@code max} inclusive.
+     */
+    public int countWithPriceBetween(long min, long max) {
+        return priceIndex.countInRange(min, max);
+    }
+
+    /**
+     * Returns the number of deals with the word {@code token} in their buyer's name, ignoring case.
+     */
+    public int countWithBuyerNameToken(String token) {
+        requireNonNull(token);
+        return buyerTokens.countWithToken(token);
+    }
+
+    /**
+     * Returns the number of deals with the word {@code token} in their seller's name, ignoring case.
+     */
+    public int countWithSellerNameToken(String token) {
+        requireNonNull(token);
+        return sellerTokens.countWithToken(token);
+    }
+
+    /**
+     * Returns the number of deals with the word {@code token} in their property's name, ignoring case.
+     */
+    public int countWithPropertyNameToken(String token) {
+        requireNonNull(token);
+        return propertyTokens.countWithToken(token);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the deals with status {@code status}.
+     */
+    public int[] getPositionsWithStatus(DealStatus status) {
+        requireNonNull(status);
+        return statusPartitions.positionsOf(status);
+    }
+
+    /**
+     * Returns the number of deals with status {@code status}.
+     */
+    public int countWithStatus(DealStatus status) {
+        requireNonNull(status);
+        return statusPartitions.count(status);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the list as it is now, which is only copied if the list is modified later.
+     */
+    public List<Deal> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -104,6 +325,20 @@ public class UniqueDealList implements Iterable<Deal> {
         return internalUnmodifiableList;
     }
 
+    private void resetIndexes() {
+        slotOrder.reset(internalList.size());
+        dealPositions.reset(internalList.stream().map(DealKey::of).toList());
+        priceIndex.reset(internalList.stream().map(UniqueDealList::priceKeys).toList());
+        buyerTokens.reset(internalList.stream().map(deal -> deal.getBuyer().fullName).toList());
+        sellerTokens.reset(internalList.stream().map(deal -> deal.getSeller().fullName).toList());
+        propertyTokens.reset(internalList.stream().map(deal -> deal.getPropertyName().fullName).toList());
+        statusPartitions.reset(internalList.stream().map(Deal::getStatus).toList());
+    }
+
+    private static long[] priceKeys(Deal deal) {
+        return new long[] {deal.getPrice().value};
+    }
+
     @Override
     public Iterator<Deal> iterator() {
         return internalList.iterator();
@@ -136,16 +371,11 @@ public class UniqueDealList implements Iterable<Deal> {
     }
 
     /**
-     * Returns true if {@code deals} contains only unique deals.
+     * The fields compared by {@code Deal#isSameDeal(Deal)}, usable as a hash key.
      */
-    private boolean dealsAreUnique(List<Deal> deals) {
-        for (int i = 0; i < deals.size() - 1; i++) {
-            for (int j = i + 1; j < deals.size(); j++) {
-                if (deals.get(i).isSameDeal(deals.get(j))) {
-                    return false;
-                }
-            }
+    private record DealKey(PropertyName propertyName, ClientName buyer, ClientName seller) {
+        static DealKey of(Deal deal) {
+            return new DealKey(deal.getPropertyName(), deal.getBuyer(), deal.getSeller());
         }
-        return true;
     }
 }
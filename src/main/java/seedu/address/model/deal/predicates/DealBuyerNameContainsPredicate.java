@@ -2,16 +2,23 @@ package seedu.address.model.deal.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Stream;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.util.Positions;
 
 /**
  * Tests that a {@code Deal}'s buyer name contains any of the keywords.
+ * The matching deals are found through the index of the words in deal buyer names.
  */
-public class DealBuyerNameContainsPredicate extends DealPredicate<ClientName> {
+public class DealBuyerNameContainsPredicate extends DealPredicate<ClientName>
+        implements IndexedPredicate<Deal> {
 
     /**
      * Constructs a {@code DealBuyerNameContainsPredicate}.
@@ -29,4 +36,18 @@ public class DealBuyerNameContainsPredicate extends DealPredicate<ClientName> {
         return Stream.of(keywords)
             .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(deal.getBuyer().fullName, keyword));
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(Stream.of(value.fullName.split("\\s+"))
+                .map(addressBook::getDealPositionsWithBuyerNameToken)
+                .reduce(new int[0], Positions::union));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(Stream.of(value.fullName.split("\\s+"))
+                .mapToInt(addressBook::countDealsWithBuyerNameToken)
+                .sum());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.deal.predicates;
 
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.model.deal.Deal;
@@ -26,10 +27,15 @@ public abstract class DealPredicate<T> implements Predicate<Deal> {
             return true;
         }
 
-        if (!(other instanceof DealPredicate<?> otherPredicate)) {
+        if (!(other instanceof DealPredicate<?> otherPredicate) || other.getClass() != getClass()) {
             return false;
         }
 
         return value.equals(otherPredicate.value);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), value);
+    }
 }
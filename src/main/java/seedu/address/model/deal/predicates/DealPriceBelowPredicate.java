@@ -1,12 +1,19 @@
 package seedu.address.model.deal.predicates;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.commons.Price;
 import seedu.address.model.deal.Deal;
 
 /**
  * Tests that a {@code Deal}'s {@code Price} is below the specified {@code Price}.
+ * The matching deals are found by binary search on the deal price index.
  */
-public class DealPriceBelowPredicate extends DealPredicate<Price> {
+public class DealPriceBelowPredicate extends DealPredicate<Price>
+        implements IndexedPredicate<Deal> {
 
     public DealPriceBelowPredicate(Price price) {
         super(price);
@@ -16,4 +23,14 @@ public class DealPriceBelowPredicate extends DealPredicate<Price> {
     public boolean test(Deal deal) {
         return deal.getPrice().isLessThan(value);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(addressBook.getDealPositionsWithPriceBetween(Long.MIN_VALUE, value.value - 1));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(addressBook.countDealsWithPriceBetween(Long.MIN_VALUE, value.value - 1));
+    }
 }
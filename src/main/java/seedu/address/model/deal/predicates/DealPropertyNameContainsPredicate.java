@@ -2,16 +2,23 @@ package seedu.address.model.deal.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Stream;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.deal.Deal;
 import seedu.address.model.property.PropertyName;
+import seedu.address.model.util.Positions;
 
 /**
  * Tests that a {@code Deal}'s {@code PropertyName} contains any of the keywords.
+ * The matching deals are found through the index of the words in deal property names.
  */
-public class DealPropertyNameContainsPredicate extends DealPredicate<PropertyName> {
+public class DealPropertyNameContainsPredicate extends DealPredicate<PropertyName>
+        implements IndexedPredicate<Deal> {
 
     /**
      * Constructs a {@code DealPropertyNameContainsPredicate}.
@@ -29,4 +36,18 @@ public class DealPropertyNameContainsPredicate extends DealPredicate<PropertyNam
         return Stream.of(keywords)
             .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(deal.getPropertyName().fullName, keyword));
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(Stream.of(value.fullName.split("\\s+"))
+                .map(addressBook::getDealPositionsWithPropertyNameToken)
+                .reduce(new int[0], Positions::union));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(Stream.of(value.fullName.split("\\s+"))
+                .mapToInt(addressBook::countDealsWithPropertyNameToken)
+                .sum());
+    }
 }
@@ -1,14 +1,19 @@
 package seedu.address.model.deal.predicates;
 
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.deal.Deal;
 import seedu.address.model.deal.DealStatus;
 
 /**
  * Tests that a {@code Deal}'s status matches the provided status.
+ * The matching deals are read from the partition of the deal list by status.
  */
-public class DealStatusPredicate extends DealPredicate<DealStatus> {
+public class DealStatusPredicate extends DealPredicate<DealStatus> implements IndexedPredicate<Deal> {
 
     private static final Logger logger = Logger.getLogger(DealStatusPredicate.class.getName());
 
@@ -33,6 +38,16 @@ public class DealStatusPredicate extends DealPredicate<DealStatus> {
         return result;
     }
 
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(addressBook.getDealPositionsWithStatus(value));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(addressBook.countDealsWithStatus(value));
+    }
+
     @Override
     public boolean equals(Object other) {
         return super.equals(other);
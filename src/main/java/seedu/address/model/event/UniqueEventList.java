@@ -1,17 +1,29 @@
 package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.EnumPartitionIndex;
+import seedu.address.model.util.SlotOrder;
+import seedu.address.model.util.TextIndex;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -20,22 +32,36 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * added or updated is unique in terms of identity in the UniqueEventList. However, the removal of an event uses
  * Event#equals(Object) so as to ensure that the event with exactly the same fields will be removed.
  *
+ * The identity key of every event is also kept in a hash set so that uniqueness checks do not need to scan the list.
+ * The list is kept sorted by {@code Event#compareTo(Event)}, so events are located by binary search, and the
+ * positions of the events are partitioned by event type so that events of a type are found and counted without
+ * scanning the list. The notes of the events are indexed for ranked full-text search; that index is only built when
+ * it is first searched after the whole list is replaced, unless it is restored from a saved copy first. Both indexes
+ * refer to events by their slots in one slot order, which the list keeps in step with its insertions and removals.
+ * Listeners are told of a change to the list only after the key set and the indexes have been updated for it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Event> internalList = new BatchedObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Set<EventKey> eventKeys = new HashSet<>();
+    private final SlotOrder slotOrder = new SlotOrder();
+    private final EnumPartitionIndex<EventType> typePartitions =
+        new EnumPartitionIndex<>(EventType.class, slotOrder);
+    // Null until first searched or restored, and again whenever the whole list is replaced.
+    private TextIndex noteIndex;
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return eventKeys.contains(EventKey.of(toCheck));
     }
 
     /**
@@ -47,25 +73,28 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        int index = 0;
-        while (index < internalList.size()) {
-            if (toAdd.compareTo(internalList.get(index)) < 0) {
-                break;
+        int position = insertionPoint(toAdd);
+        internalList.applyAsSingleChange(() -> {
+            internalList.add(position, toAdd);
+            slotOrder.insert(position);
+            eventKeys.add(EventKey.of(toAdd));
+            typePartitions.insert(position, toAdd.getEventType());
+            if (noteIndex != null) {
+                noteIndex.insert(position, noteOf(toAdd));
             }
-            index++;
-        }
-        internalList.add(index, toAdd);
+        });
     }
 
     /**
-     * Replaces the event {@code target} in the list with {@code editedEvent}.
+     * Replaces the event {@code target} in the list with {@code editedEvent}, moving it if its date and time
+     * has changed so that the list stays sorted. Listeners are notified of a single change.
      * {@code target} must exist in the list.
      * The event identity of {@code editedEvent} must not be the same as another existing event in the list.
      */
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -74,7 +103,31 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        internalList.applyAsSingleChange(() -> {
+            if (fitsAt(index, editedEvent)) {
+                internalList.set(index, editedEvent);
+                typePartitions.replace(index, target.getEventType(), editedEvent.getEventType());
+                if (noteIndex != null) {
+                    noteIndex.replace(index, noteOf(editedEvent));
+                }
+            } else {
+                internalList.remove(index);
+                typePartitions.remove(index, target.getEventType());
+                if (noteIndex != null) {
+                    noteIndex.remove(index);
+                }
+                slotOrder.remove(index);
+                int position = insertionPoint(editedEvent);
+                internalList.add(position, editedEvent);
+                slotOrder.insert(position);
+                typePartitions.insert(position, editedEvent.getEventType());
+                if (noteIndex != null) {
+                    noteIndex.insert(position, noteOf(editedEvent));
+                }
+            }
+            eventKeys.remove(EventKey.of(target));
+            eventKeys.add(EventKey.of(editedEvent));
+        });
     }
 
     /**
@@ -83,29 +136,200 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        internalList.applyAsSingleChange(() -> {
+            internalList.remove(index);
+            eventKeys.remove(EventKey.of(toRemove));
+            typePartitions.remove(index, toRemove.getEventType());
+            if (noteIndex != null) {
+                noteIndex.remove(index);
+            }
+            slotOrder.remove(index);
+        });
+    }
+
+    /**
+     * Replaces each event in the list that is a key of {@code replacements} with the event it maps to,
+     * notifying listeners of all the replacements in a single change.
+     * The keys must be events stored in the list, typically collected in an {@code IdentityHashMap}.
+     * Each replacement must take place at the same date and time as the event it replaces, so that the list stays
+     * sorted without moving any event, and must not have the same identity as any other event in the list.
+     */
+    public void replaceEvents(Map<Event, Event> replacements) {
+        requireNonNull(replacements);
+        Set<EventKey> replacedKeys = new HashSet<>();
+        replacements.forEach((event, replacement) -> {
+            assert event.compareTo(replacement) == 0 : "Replacing an event must not change its position";
+            replacedKeys.add(EventKey.of(event));
+        });
+        Set<EventKey> replacementKeys = new HashSet<>();
+        for (Event replacement : replacements.values()) {
+            EventKey key = EventKey.of(replacement);
+            if (!replacementKeys.add(key) || (eventKeys.contains(key) && !replacedKeys.contains(key))) {
+                throw new DuplicateEventException();
+            }
+        }
+
+        List<Event> replaced = new ArrayList<>(replacements.keySet());
+        int[] positions = new int[replaced.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = indexOf(replaced.get(i));
+            if (positions[i] == -1) {
+                throw new EventNotFoundException();
+            }
+        }
+
+        internalList.applyAsSingleChange(() -> {
+            for (int i = 0; i < positions.length; i++) {
+                int index = positions[i];
+                Event target = replaced.get(i);
+                Event editedEvent = replacements.get(target);
+                internalList.set(index, editedEvent);
+                typePartitions.replace(index, target.getEventType(), editedEvent.getEventType());
+                if (noteIndex != null) {
+                    noteIndex.replace(index, noteOf(editedEvent));
+                }
+            }
+            eventKeys.removeAll(replacedKeys);
+            eventKeys.addAll(replacementKeys);
+        });
+    }
+
+    /**
+     * Applies {@code modifications}, which may change this list through its other methods and update state kept
+     * alongside it, and notifies listeners of all the changes to the list in one change once they have all run.
+     */
+    public void applyAsSingleChange(Runnable modifications) {
+        requireNonNull(modifications);
+        internalList.applyAsSingleChange(modifications);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        internalList.applyAsSingleChange(() -> {
+            internalList.setAll(replacement.internalList);
+            eventKeys.clear();
+            eventKeys.addAll(replacement.eventKeys);
+            resetIndexes();
+        });
     }
 
     /**
      * Replaces the contents of this list with {@code events}.
-     * {@code events} must not contain duplicate events.
+     * {@code events} must not contain duplicate events. They are only sorted if they are not already in order.
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        Set<EventKey> newEventKeys = new HashSet<>();
+        boolean isSorted = true;
+        Event previous = null;
+        for (Event event : events) {
+            if (!newEventKeys.add(EventKey.of(event))) {
+                throw new DuplicateEventException();
+            }
+            isSorted = isSorted && (previous == null || previous.compareTo(event) <= 0);
+            previous = event;
+        }
+        List<Event> sortedEvents = events;
+        if (!isSorted) {
+            sortedEvents = new ArrayList<>(events);
+            Collections.sort(sortedEvents);
+        }
+        List<Event> newEvents = sortedEvents;
+        internalList.applyAsSingleChange(() -> {
+            internalList.setAll(newEvents);
+            eventKeys.clear();
+            eventKeys.addAll(newEventKeys);
+            resetIndexes();
+        });
+    }
+
+    /**
+     * Returns the position of an event equal to {@code event}, or -1 if there is none.
+     * Only the events at the same date and time as {@code event} are compared.
+     */
+    public int indexOf(Event event) {
+        requireNonNull(event);
+        int index = insertionPoint(event) - 1;
+        while (index >= 0 && internalList.get(index).compareTo(event) == 0) {
+            if (internalList.get(index).equals(event)) {
+                return index;
+            }
+            index--;
         }
-        List<Event> sortedEvents = new ArrayList<>(events);
-        Collections.sort(sortedEvents);
-        internalList.setAll(sortedEvents);
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first event in the list that takes place after {@code dateTime},
+     * or the size of the list if there is none.
+     */
+    public int indexOfFirstAfter(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return firstIndexWhere(event -> event.getDateTime().isAfter(dateTime));
+    }
+
+    /**
+     * Returns the position of the first event in the list that does not take place before {@code dateTime},
+     * or the size of the list if there is none.
+     */
+    public int indexOfFirstNotBefore(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return firstIndexWhere(event -> !event.getDateTime().isBefore(dateTime));
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the events of type {@code eventType}.
+     */
+    public int[] getPositionsOfType(EventType eventType) {
+        requireNonNull(eventType);
+        return typePartitions.positionsOf(eventType);
+    }
+
+    /**
+     * Returns the number of events of type {@code eventType}.
+     */
+    public int countOfType(EventType eventType) {
+        requireNonNull(eventType);
+        return typePartitions.count(eventType);
+    }
+
+    /**
+     * Returns the BM25 score of every event whose note contains any of the terms in {@code query}, keyed by the
+     * position of the event.
+     */
+    public Map<Integer, Double> scoreNotes(String query) {
+        requireNonNull(query);
+        return getNoteIndex().score(query);
+    }
+
+    /**
+     * Returns the number of times each term occurs in the note of the event at each position.
+     */
+    public List<Map<String, Integer>> getNoteTermCounts() {
+        return getNoteIndex().getTermCountsByPosition();
+    }
+
+    /**
+     * Restores the index of the notes from {@code termCountsByPosition}, as returned by {@link #getNoteTermCounts()}
+     * for a list with the same notes at the same positions, instead of reading every note again.
+     */
+    public void restoreNoteIndex(List<Map<String, Integer>> termCountsByPosition) {
+        requireNonNull(termCountsByPosition);
+        checkArgument(termCountsByPosition.size() == internalList.size(),
+                "There must be term counts for every event");
+        noteIndex = new TextIndex(slotOrder);
+        noteIndex.restore(termCountsByPosition);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the list as it is now, which is only copied if the list is modified later.
+     */
+    public List<Event> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -115,6 +339,24 @@ public class UniqueEventList implements Iterable<Event> {
         return internalUnmodifiableList;
     }
 
+    private void resetIndexes() {
+        slotOrder.reset(internalList.size());
+        typePartitions.reset(internalList.stream().map(Event::getEventType).toList());
+        noteIndex = null;
+    }
+
+    private TextIndex getNoteIndex() {
+        if (noteIndex == null) {
+            noteIndex = new TextIndex(slotOrder);
+            noteIndex.reset(internalList.stream().map(UniqueEventList::noteOf).toList());
+        }
+        return noteIndex;
+    }
+
+    private static String noteOf(Event event) {
+        return event.getNote().toString();
+    }
+
     @Override
     public Iterator<Event> iterator() {
         return internalList.iterator();
@@ -146,16 +388,46 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the position after every event that does not come after {@code event}, found by binary search.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private int insertionPoint(Event event) {
+        return firstIndexWhere(other -> other.compareTo(event) > 0);
+    }
+
+    /**
+     * Returns the position of the first event satisfying {@code condition}, found by binary search.
+     * {@code condition} must hold for every event after the first one that satisfies it.
+     */
+    private int firstIndexWhere(Predicate<Event> condition) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(internalList.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
             }
         }
-        return true;
+        return low;
+    }
+
+    /**
+     * Returns true if {@code event} can be put at {@code index} without breaking the order of the list.
+     */
+    private boolean fitsAt(int index, Event event) {
+        return (index == 0 || internalList.get(index - 1).compareTo(event) <= 0)
+                && (index == internalList.size() - 1 || event.compareTo(internalList.get(index + 1)) <= 0);
+    }
+
+    /**
+     * The fields compared by {@code Event#isSameEvent(Event)}, usable as a hash key.
+     */
+    private record EventKey(LocalDateTime dateTime, EventType eventType, ClientName clientName,
+                            PropertyName propertyName) {
+        static EventKey of(Event event) {
+            return new EventKey(event.getDateTime(), event.getEventType(), event.getClientName(),
+                    event.getPropertyName());
+        }
     }
 }
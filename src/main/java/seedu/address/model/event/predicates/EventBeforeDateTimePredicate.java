@@ -1,13 +1,19 @@
 package seedu.address.model.event.predicates;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalInt;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.event.Event;
 
 /**
  * Tests that an {@code Event}'s date and time is before the given date and time.
+ * As events are kept in date order, the matching events are found by binary search.
  */
-public class EventBeforeDateTimePredicate extends EventPredicate<LocalDateTime> {
+public class EventBeforeDateTimePredicate extends EventPredicate<LocalDateTime>
+        implements IndexedPredicate<Event> {
 
     public EventBeforeDateTimePredicate(LocalDateTime dateTime) {
         super(dateTime);
@@ -17,4 +23,14 @@ public class EventBeforeDateTimePredicate extends EventPredicate<LocalDateTime>
     public boolean test(Event event) {
         return event.getDateTime().isBefore(value);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(addressBook.getEventPositionsBefore(value));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(addressBook.countEventsBefore(value));
+    }
 }
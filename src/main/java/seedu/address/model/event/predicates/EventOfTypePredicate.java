@@ -1,12 +1,18 @@
 package seedu.address.model.event.predicates;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventType;
 
 /**
  * Tests that an {@code Event}'s {@code EventType} matches the {@code EventType} given.
+ * The matching events are read from the partition of the event list by type.
  */
-public class EventOfTypePredicate extends EventPredicate<EventType> {
+public class EventOfTypePredicate extends EventPredicate<EventType> implements IndexedPredicate<Event> {
 
     public EventOfTypePredicate(EventType eventType) {
         super(eventType);
@@ -16,4 +22,14 @@ public class EventOfTypePredicate extends EventPredicate<EventType> {
     public boolean test(Event event) {
         return event.getEventType().equals(value);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(addressBook.getEventPositionsOfType(value));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(addressBook.countEventsOfType(value));
+    }
 }
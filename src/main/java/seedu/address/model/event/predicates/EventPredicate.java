@@ -1,5 +1,6 @@
 package seedu.address.model.event.predicates;
 
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.model.event.Event;
@@ -21,10 +22,15 @@ public abstract class EventPredicate<T> implements Predicate<Event> {
             return true;
         }
 
-        if (!(other instanceof EventPredicate<?> otherPredicate)) {
+        if (!(other instanceof EventPredicate<?> otherPredicate) || other.getClass() != getClass()) {
             return false;
         }
 
         return value.equals(otherPredicate.value);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), value);
+    }
 }
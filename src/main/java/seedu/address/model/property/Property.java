@@ -1,5 +1,6 @@
 package seedu.address.model.property;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
@@ -8,6 +9,7 @@ import java.util.Optional;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.client.ClientName;
 import seedu.address.model.commons.Address;
+import seedu.address.model.commons.Id;
 import seedu.address.model.commons.Nameable;
 import seedu.address.model.commons.Price;
 
@@ -22,19 +24,26 @@ public class Property implements Nameable<Property> {
     private final Optional<Size> size;
     private final Optional<Description> description;
     private final ClientName owner;
+    private final Optional<Id> id;
 
     /**
      * Every field must be present and not null.
      */
     public Property(PropertyName propertyName, Address address, Price price,
                     Optional<Size> size, Optional<Description> description, ClientName owner) {
-        requireAllNonNull(propertyName, address, price, size, description, owner);
+        this(propertyName, address, price, size, description, owner, Optional.empty());
+    }
+
+    private Property(PropertyName propertyName, Address address, Price price,
+                     Optional<Size> size, Optional<Description> description, ClientName owner, Optional<Id> id) {
+        requireAllNonNull(propertyName, address, price, size, description, owner, id);
         this.propertyName = propertyName;
         this.address = address;
         this.price = price;
         this.size = size;
         this.description = description;
         this.owner = owner;
+        this.id = id;
     }
 
     @Override
@@ -61,6 +70,18 @@ public class Property implements Nameable<Property> {
         return owner;
     }
 
+    public Optional<Id> getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this property identified by {@code id}.
+     */
+    public Property withId(Id id) {
+        requireNonNull(id);
+        return new Property(propertyName, address, price, size, description, owner, Optional.of(id));
+    }
+
     /**
      * Returns true if both properties have the same propertyName and address.
      * This defines a weaker notion of equality between two properties.
@@ -77,6 +98,7 @@ public class Property implements Nameable<Property> {
     /**
      * Returns true if both properties have the same identity and data fields.
      * This defines a stronger notion of equality between two properties.
+     * The assigned {@code Id} is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -2,6 +2,8 @@ package seedu.address.model.property;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.OptionalLong;
+
 /**
  * Represents a Property's size in REconnect.
  * Guarantees: immutable; is valid as declared in {@link #isValidSize(String)}
@@ -49,6 +51,13 @@ public class Size {
         return Integer.parseInt(this.value) < Integer.parseInt(other.value);
     }
 
+    /**
+     * Returns the size in square feet, or an empty {@code OptionalLong} if the size is not given.
+     */
+    public OptionalLong getSquareFeet() {
+        return value.equals("-") ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value));
+    }
+
     /**
      * Returns true if a given string is a valid size.
      */
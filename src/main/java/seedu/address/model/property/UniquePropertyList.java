@@ -1,15 +1,29 @@
 package seedu.address.model.property;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.KeyPositionIndex;
+import seedu.address.model.util.SlotOrder;
+import seedu.address.model.util.SortedLongIndex;
+import seedu.address.model.util.TextIndex;
+import seedu.address.model.util.TokenIndex;
+import seedu.address.model.util.TrigramIndex;
 
 /**
  * A list of properties that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +32,55 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  * added or updated is unique in terms of identity in the UniquePropertyList. However, the removal of a property uses
  * Property#equals(Object) so as to ensure that the property with exactly the same fields will be removed.
  *
+ * Properties are additionally indexed by name so that uniqueness checks and lookups do not need to scan the list,
+ * by the words of their names so that keyword searches do not need to scan the list, by price and size so that
+ * range queries on them do not need to scan the list either, and by the trigrams of their addresses so that address
+ * searches only need to check a few candidates. Their descriptions are indexed for ranked full-text search, an index
+ * that is built lazily like the one over event notes in {@code UniqueEventList}. All of these indexes refer to
+ * properties by their slots in one slot order, which the list keeps in step with its insertions and removals.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Property#isSameProperty(Property)
  */
 public class UniquePropertyList implements Iterable<Property> {
 
-    private final ObservableList<Property> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Property> internalList = new BatchedObservableList<>();
     private final ObservableList<Property> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final SlotOrder slotOrder = new SlotOrder();
+    private final KeyPositionIndex<PropertyName> namePositions = new KeyPositionIndex<>(slotOrder);
+    private final TokenIndex nameTokens = new TokenIndex(slotOrder);
+    private final TrigramIndex addressTrigrams = new TrigramIndex("property address", slotOrder);
+    private final SortedLongIndex priceIndex = new SortedLongIndex(slotOrder);
+    private final SortedLongIndex sizeIndex = new SortedLongIndex(slotOrder);
+    // Null until first searched or restored, and again whenever the whole list is replaced.
+    private TextIndex descriptionIndex;
 
     /**
      * Returns true if the list contains an equivalent property as the given argument.
      */
     public boolean contains(Property toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProperty);
+        return namePositions.contains(toCheck.getFullName());
+    }
+
+    /**
+     * Returns the property in the list named {@code propertyName}, if there is one.
+     */
+    public Optional<Property> get(PropertyName propertyName) {
+        requireNonNull(propertyName);
+        int index = namePositions.positionOf(propertyName);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the position of {@code property} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Property property) {
+        requireNonNull(property);
+        int index = namePositions.positionOf(property.getFullName());
+        return index != -1 && internalList.get(index).equals(property) ? index : -1;
     }
 
     /**
@@ -45,7 +92,17 @@ public class UniquePropertyList implements Iterable<Property> {
         if (contains(toAdd)) {
             throw new DuplicatePropertyException();
         }
+        int position = internalList.size();
         internalList.add(toAdd);
+        slotOrder.insert(position);
+        namePositions.insert(position, toAdd.getFullName());
+        nameTokens.insert(position, toAdd.getFullName().fullName);
+        addressTrigrams.insert(position, toAdd.getAddress().value);
+        priceIndex.insert(position, priceKeys(toAdd));
+        sizeIndex.insert(position, sizeKeys(toAdd));
+        if (descriptionIndex != null) {
+            descriptionIndex.insert(position, descriptionOf(toAdd));
+        }
     }
 
     /**
@@ -56,7 +113,7 @@ public class UniquePropertyList implements Iterable<Property> {
     public void setProperty(Property target, Property editedProperty) {
         requireAllNonNull(target, editedProperty);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PropertyNotFoundException();
         }
@@ -66,6 +123,14 @@ public class UniquePropertyList implements Iterable<Property> {
         }
 
         internalList.set(index, editedProperty);
+        namePositions.replace(index, target.getFullName(), editedProperty.getFullName());
+        nameTokens.replace(index, target.getFullName().fullName, editedProperty.getFullName().fullName);
+        addressTrigrams.replace(index, target.getAddress().value, editedProperty.getAddress().value);
+        priceIndex.replace(index, priceKeys(target), priceKeys(editedProperty));
+        sizeIndex.replace(index, sizeKeys(target), sizeKeys(editedProperty));
+        if (descriptionIndex != null) {
+            descriptionIndex.replace(index, descriptionOf(editedProperty));
+        }
     }
 
     /**
@@ -74,14 +139,75 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public void remove(Property toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PropertyNotFoundException();
         }
+        internalList.remove(index);
+        namePositions.remove(index, toRemove.getFullName());
+        nameTokens.remove(index, toRemove.getFullName().fullName);
+        addressTrigrams.remove(index, toRemove.getAddress().value);
+        priceIndex.remove(index, priceKeys(toRemove));
+        sizeIndex.remove(index, sizeKeys(toRemove));
+        if (descriptionIndex != null) {
+            descriptionIndex.remove(index);
+        }
+        slotOrder.remove(index);
+    }
+
+    /**
+     * Replaces each property in the list that is a key of {@code replacements} with the property it maps to,
+     * notifying listeners of all the replacements in a single change.
+     * The keys must be properties stored in the list, typically collected in an {@code IdentityHashMap}.
+     * Each replacement must have the same name as the property it replaces.
+     */
+    public void replaceProperties(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+        replacements.forEach((property, replacement) -> {
+            if (!property.isSameProperty(replacement)) {
+                throw new DuplicatePropertyException();
+            }
+        });
+
+        List<Property> replaced = new ArrayList<>(replacements.keySet());
+        int[] positions = new int[replaced.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = indexOf(replaced.get(i));
+            if (positions[i] == -1) {
+                throw new PropertyNotFoundException();
+            }
+        }
+
+        // The names are unchanged, so only the indexes over the other fields need to follow the replacements.
+        internalList.applyAsSingleChange(() -> {
+            for (int i = 0; i < positions.length; i++) {
+                int index = positions[i];
+                Property target = replaced.get(i);
+                Property editedProperty = replacements.get(target);
+                internalList.set(index, editedProperty);
+                addressTrigrams.replace(index, target.getAddress().value, editedProperty.getAddress().value);
+                priceIndex.replace(index, priceKeys(target), priceKeys(editedProperty));
+                sizeIndex.replace(index, sizeKeys(target), sizeKeys(editedProperty));
+                if (descriptionIndex != null && !target.getDescription().equals(editedProperty.getDescription())) {
+                    descriptionIndex.replace(index, descriptionOf(editedProperty));
+                }
+            }
+        });
+    }
+
+    /**
+     * Applies {@code modifications}, which may change this list through its other methods and update state kept
+     * alongside it, and notifies listeners of all the changes to the list in one change once they have all run.
+     */
+    public void applyAsSingleChange(Runnable modifications) {
+        requireNonNull(modifications);
+        internalList.applyAsSingleChange(modifications);
     }
 
     public void setProperties(UniquePropertyList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        resetIndexes();
     }
 
     /**
@@ -90,11 +216,139 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public void setProperties(List<Property> properties) {
         requireAllNonNull(properties);
-        if (!propertiesAreUnique(properties)) {
-            throw new DuplicatePropertyException();
+        Set<PropertyName> newNames = new HashSet<>();
+        for (Property property : properties) {
+            if (!newNames.add(property.getFullName())) {
+                throw new DuplicatePropertyException();
+            }
         }
 
         internalList.setAll(properties);
+        resetIndexes();
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the properties with the word {@code token} in their name,
+     * ignoring case.
+     */
+    public int[] getPositionsWithNameToken(String token) {
+        requireNonNull(token);
+        return nameTokens.positionsWithToken(token);
+    }
+
+    /**
+     * Returns the number of properties with the word {@code token} in their name, ignoring case.
+     */
+    public int countWithNameToken(String token) {
+        requireNonNull(token);
+        return nameTokens.countWithToken(token);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the properties with a word in their name within an edit distance of
+     * {@code maxDistance} from {@code token}, ignoring case.
+     */
+    public int[] getPositionsWithNameTokenNear(String token, int maxDistance) {
+        requireNonNull(token);
+        return nameTokens.positionsWithTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns an upper bound on the number of properties with a word in their name within an edit distance of
+     * {@code maxDistance} from {@code token}, ignoring case.
+     */
+    public int countWithNameTokenNear(String token, int maxDistance) {
+        requireNonNull(token);
+        return nameTokens.countWithTokenNear(token, maxDistance);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the properties whose address may contain {@code substring}
+     * ignoring case, or an empty {@code Optional} if the address index cannot narrow them down.
+     */
+    public Optional<int[]> getPositionsWithAddressContaining(String substring) {
+        requireNonNull(substring);
+        return addressTrigrams.positionsContaining(substring);
+    }
+
+    /**
+     * Limits the memory taken up by the address index to {@code memoryLimit} bytes, rebuilding the index.
+     */
+    public void setAddressIndexMemoryLimit(long memoryLimit) {
+        addressTrigrams.setMemoryLimit(memoryLimit);
+        addressTrigrams.reset(internalList.stream().map(property -> property.getAddress().value).toList());
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the address index.
+     */
+    public long getAddressIndexMemoryUsage() {
+        return addressTrigrams.getMemoryUsage();
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the properties whose price is from {@code min} to {@code max}
+     * inclusive.
+     */
+    public int[] getPositionsWithPriceBetween(long min, long max) {
+        return priceIndex.positionsInRange(min, max);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the properties with a size from {@code min} to {@code max}
+     * square feet inclusive.
+     */
+    public int[] getPositionsWithSizeBetween(long min, long max) {
+        return sizeIndex.positionsInRange(min, max);
+    }
+
+    /**
+     * Returns the number of properties whose price is from {@code min} to {@code max} inclusive.
+     */
+    public int countWithPriceBetween(long min, long max) {
+        return priceIndex.countInRange(min, max);
+    }
+
+    /**
+     * Returns the number of properties with a size from {@code min} to {@code max} square feet inclusive.
+     */
+    public int countWithSizeBetween(long min, long max) {
+        return sizeIndex.countInRange(min, max);
+    }
+
+    /**
+     * Returns the BM25 score of every property whose description contains any of the terms in {@code query}, keyed by
+     * the position of the property.
+     */
+    public Map<Integer, Double> scoreDescriptions(String query) {
+        requireNonNull(query);
+        return getDescriptionIndex().score(query);
+    }
+
+    /**
+     * Returns the number of times each term occurs in the description of the property at each position.
+     */
+    public List<Map<String, Integer>> getDescriptionTermCounts() {
+        return getDescriptionIndex().getTermCountsByPosition();
+    }
+
+    /**
+     * Restores the index of the descriptions from {@code termCountsByPosition}, as returned by
+     * {@link #getDescriptionTermCounts()} for a list with the same descriptions at the same positions.
+     */
+    public void restoreDescriptionIndex(List<Map<String, Integer>> termCountsByPosition) {
+        requireNonNull(termCountsByPosition);
+        checkArgument(termCountsByPosition.size() == internalList.size(),
+                "There must be term counts for every property");
+        descriptionIndex = new TextIndex(slotOrder);
+        descriptionIndex.restore(termCountsByPosition);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the list as it is now, which is only copied if the list is modified later.
+     */
+    public List<Property> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -104,6 +358,36 @@ public class UniquePropertyList implements Iterable<Property> {
         return internalUnmodifiableList;
     }
 
+    private void resetIndexes() {
+        slotOrder.reset(internalList.size());
+        namePositions.reset(internalList.stream().map(Property::getFullName).toList());
+        nameTokens.reset(internalList.stream().map(property -> property.getFullName().fullName).toList());
+        addressTrigrams.reset(internalList.stream().map(property -> property.getAddress().value).toList());
+        priceIndex.reset(internalList.stream().map(UniquePropertyList::priceKeys).toList());
+        sizeIndex.reset(internalList.stream().map(UniquePropertyList::sizeKeys).toList());
+        descriptionIndex = null;
+    }
+
+    private TextIndex getDescriptionIndex() {
+        if (descriptionIndex == null) {
+            descriptionIndex = new TextIndex(slotOrder);
+            descriptionIndex.reset(internalList.stream().map(UniquePropertyList::descriptionOf).toList());
+        }
+        return descriptionIndex;
+    }
+
+    private static String descriptionOf(Property property) {
+        return property.getDescription().map(Description::toString).orElse("");
+    }
+
+    private static long[] priceKeys(Property property) {
+        return new long[] {property.getPrice().value};
+    }
+
+    private static long[] sizeKeys(Property property) {
+        return property.getSize().map(Size::getSquareFeet).orElse(OptionalLong.empty()).stream().toArray();
+    }
+
     @Override
     public Iterator<Property> iterator() {
         return internalList.iterator();
@@ -132,18 +416,4 @@ public class UniquePropertyList implements Iterable<Property> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code properties} contains only unique properties.
-     */
-    private boolean propertiesAreUnique(List<Property> properties) {
-        for (int i = 0; i < properties.size() - 1; i++) {
-            for (int j = i + 1; j < properties.size(); j++) {
-                if (properties.get(i).isSameProperty(properties.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
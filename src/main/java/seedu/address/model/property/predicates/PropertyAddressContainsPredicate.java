@@ -1,10 +1,17 @@
 package seedu.address.model.property.predicates;
+
+import java.util.Optional;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.property.Property;
 
 /**
  * Tests that a {@code Client}'s {@code Address} contains the specified address.
+ * The candidate properties are narrowed down through the index of the trigrams in property addresses.
  */
-public class PropertyAddressContainsPredicate extends PropertyPredicate<String> {
+public class PropertyAddressContainsPredicate extends PropertyPredicate<String>
+        implements IndexedPredicate<Property> {
 
     /**
      * Constructs a {@code ClientAddressContainsPredicate}.
@@ -19,5 +26,9 @@ public class PropertyAddressContainsPredicate extends PropertyPredicate<String>
     public boolean test(Property property) {
         return property.getAddress().toString().toLowerCase().contains(value.toLowerCase());
     }
-}
 
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return addressBook.getPropertyPositionsWithAddressContaining(value);
+    }
+}
@@ -1,14 +1,22 @@
 package seedu.address.model.property.predicates;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.commons.NameContainsKeywordsPredicate;
 import seedu.address.model.property.Property;
+import seedu.address.model.util.Positions;
 
 /**
  * Tests that a {@code Property}'s {@code Name} matches any of the keywords given.
+ * The matching properties are found through the index of the words in property names, including those near a fuzzy
+ * keyword.
  */
-public class PropertyNameContainsKeywordsPredicate extends NameContainsKeywordsPredicate<Property> {
+public class PropertyNameContainsKeywordsPredicate extends NameContainsKeywordsPredicate<Property>
+        implements IndexedPredicate<Property> {
 
     /**
      * Constructs a {@code PropertyNameContainsKeywordsPredicate}.
@@ -18,4 +26,22 @@ public class PropertyNameContainsKeywordsPredicate extends NameContainsKeywordsP
     public PropertyNameContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(keywords.stream()
+                .map(keyword -> isFuzzy(keyword)
+                        ? addressBook.getPropertyPositionsWithNameTokenNear(termOf(keyword), maxEditDistanceOf(keyword))
+                        : addressBook.getPropertyPositionsWithNameToken(keyword))
+                .reduce(new int[0], Positions::union));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(keywords.stream()
+                .mapToInt(keyword -> isFuzzy(keyword)
+                        ? addressBook.countPropertiesWithNameTokenNear(termOf(keyword), maxEditDistanceOf(keyword))
+                        : addressBook.countPropertiesWithNameToken(keyword))
+                .sum());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.property.predicates;
 
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.model.property.Property;
@@ -20,10 +21,15 @@ public abstract class PropertyPredicate<T> implements Predicate<Property> {
             return true;
         }
 
-        if (!(other instanceof PropertyPredicate otherPredicate)) {
+        if (!(other instanceof PropertyPredicate otherPredicate) || other.getClass() != getClass()) {
             return false;
         }
 
         return value.equals(otherPredicate.value);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), value);
+    }
 }
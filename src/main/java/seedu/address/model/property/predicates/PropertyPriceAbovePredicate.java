@@ -1,12 +1,19 @@
 package seedu.address.model.property.predicates;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.commons.Price;
 import seedu.address.model.property.Property;
 
 /**
  * Tests that a {@code Deal}'s {@code Price} is above the specified {@code Price}.
+ * The matching properties are found by binary search on the property price index.
  */
-public class PropertyPriceAbovePredicate extends PropertyPredicate<Price> {
+public class PropertyPriceAbovePredicate extends PropertyPredicate<Price>
+        implements IndexedPredicate<Property> {
 
     public PropertyPriceAbovePredicate(Price price) {
         super(price);
@@ -16,4 +23,14 @@ public class PropertyPriceAbovePredicate extends PropertyPredicate<Price> {
     public boolean test(Property property) {
         return property.getPrice().isMoreThan(value);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(addressBook.getPropertyPositionsWithPriceBetween(value.value + 1, Long.MAX_VALUE));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(addressBook.countPropertiesWithPriceBetween(value.value + 1, Long.MAX_VALUE));
+    }
 }
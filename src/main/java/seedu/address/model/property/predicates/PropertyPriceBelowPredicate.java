@@ -1,12 +1,19 @@
 package seedu.address.model.property.predicates;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.commons.Price;
 import seedu.address.model.property.Property;
 
 /**
  * Tests that a {@code Deal}'s {@code Price} is below the specified {@code Price}.
+ * The matching properties are found by binary search on the property price index.
  */
-public class PropertyPriceBelowPredicate extends PropertyPredicate<Price> {
+public class PropertyPriceBelowPredicate extends PropertyPredicate<Price>
+        implements IndexedPredicate<Property> {
 
     public PropertyPriceBelowPredicate(Price price) {
         super(price);
@@ -16,4 +23,14 @@ public class PropertyPriceBelowPredicate extends PropertyPredicate<Price> {
     public boolean test(Property property) {
         return property.getPrice().isLessThan(value);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        return Optional.of(addressBook.getPropertyPositionsWithPriceBetween(Long.MIN_VALUE, value.value - 1));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.of(addressBook.countPropertiesWithPriceBetween(Long.MIN_VALUE, value.value - 1));
+    }
 }
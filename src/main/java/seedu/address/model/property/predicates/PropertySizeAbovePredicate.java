@@ -1,12 +1,20 @@
 package seedu.address.model.property.predicates;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.Size;
 
 /**
  * Tests that a {@code Deal}'s {@code Size} is above the specified {@code Size}.
+ * The matching properties are found by binary search on the property size index.
  */
-public class PropertySizeAbovePredicate extends PropertyPredicate<Size> {
+public class PropertySizeAbovePredicate extends PropertyPredicate<Size>
+        implements IndexedPredicate<Property> {
 
     public PropertySizeAbovePredicate(Size size) {
         super(size);
@@ -17,4 +25,22 @@ public class PropertySizeAbovePredicate extends PropertyPredicate<Size> {
         return property.getSize().map(size -> size.isBiggerThan(value))
                 .orElse(false);
     }
+
+    @Override
+    public Optional<int[]> getCandidates(AddressBook addressBook) {
+        OptionalLong squareFeet = value.getSquareFeet();
+        if (squareFeet.isEmpty()) {
+            return Optional.of(new int[0]);
+        }
+        return Optional.of(addressBook.getPropertyPositionsWithSizeBetween(squareFeet.getAsLong() + 1, Long.MAX_VALUE));
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        OptionalLong squareFeet = value.getSquareFeet();
+        if (squareFeet.isEmpty()) {
+            return OptionalInt.of(0);
+        }
+        return OptionalInt.of(addressBook.countPropertiesWithSizeBetween(squareFeet.getAsLong() + 1, Long.MAX_VALUE));
+    }
 }
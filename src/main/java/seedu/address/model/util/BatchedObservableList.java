@@ -0,0 +1,122 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list that can report a group of modifications to its listeners as a single change.
+ * Bulk additions and removals are applied to the backing array in one step rather than element by element.
+ * Copies of its elements are taken copy-on-write: the backing array is handed out as it is, and only copied if the
+ * list is modified while a copy still shares it.
+ *
+ * @param <E> The type of the elements.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> elements = new ArrayList<>();
+    // True while the backing array is shared with a copy handed out by snapshot().
+    private boolean isShared;
+
+    /**
+     * Applies {@code modifications} to this list and notifies listeners of all of them in one change.
+     */
+    public void applyAsSingleChange(Runnable modifications) {
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of the elements of this list as they are now, which does not change as the list
+     * does and can be read from any thread.
+     * The elements are not copied until this list is next modified, so taking a copy of an unchanged list is free.
+     */
+    public List<E> snapshot() {
+        isShared = true;
+        return Collections.unmodifiableList(elements);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            modifiableElements().addAll(index, toAdd);
+            nextAdd(index, index + toAdd.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = modifiableElements().subList(fromIndex, toIndex);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            nextRemove(fromIndex, removed);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        modifiableElements().add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return modifiableElements().set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return modifiableElements().remove(index);
+    }
+
+    /**
+     * Returns the backing array, first copying it if it is shared with a copy handed out earlier.
+     */
+    private List<E> modifiableElements() {
+        if (isShared) {
+            elements = new ArrayList<>(elements);
+            isShared = false;
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree of words, which finds the words within an edit distance of a query word without comparing the query
+ * against every word.
+ * Each child of a node is keyed by its edit distance from the node, so by the triangle inequality a search only
+ * descends into the children whose key is within the search distance of the query's distance from the node.
+ * A removed word is only marked as removed, since its node may be needed to reach others; once the removed words
+ * outnumber the words in the tree, the tree is rebuilt from the words left.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+    private int removedCount;
+
+    /**
+     * Adds {@code word} to the tree, unless it is already in the tree.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removedCount--;
+                    size++;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words in the tree within an edit distance of {@code maxDistance} from {@code word}.
+     */
+    public List<String> search(String word, int maxDistance) {
+        requireNonNull(word);
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.add(node.word);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Removes {@code word} from the tree, if it is in the tree.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removedCount++;
+                    size--;
+                }
+                break;
+            }
+            node = node.children.get(distance);
+        }
+
+        if (removedCount > size) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes every word from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Builds the tree again from the words that have not been removed, dropping the nodes of removed words.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>(size);
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            node.children.values().forEach(pending::push);
+        }
+        clear();
+        words.forEach(this::add);
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean isRemoved;
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
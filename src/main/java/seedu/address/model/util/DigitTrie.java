@@ -0,0 +1,114 @@
+package seedu.address.model.util;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * A trie of the suffixes of digit strings, from which the positions in a list of the elements whose digit string
+ * contains a given run of digits can be found without scanning the list.
+ * The trie is laid out as a sorted array: each suffix is encoded as a number whose digits are the suffix's digits
+ * shifted up by one and padded with zeros, so the suffixes below a trie node, which all start with the same digits,
+ * take up one contiguous range of keys and are found by binary search.
+ * Suffixes are cut off after sixteen digits.
+ * The trie is kept in step with the list by telling it of every insertion, removal and replacement.
+ */
+public class DigitTrie {
+
+    private static final int MAX_DEPTH = 16;
+    private static final int RADIX = 11; // ten digits and the padding
+    private static final long[] POWERS = new long[MAX_DEPTH + 1];
+
+    static {
+        POWERS[0] = 1;
+        for (int i = 1; i <= MAX_DEPTH; i++) {
+            POWERS[i] = POWERS[i - 1] * RADIX;
+        }
+    }
+
+    private final SortedLongIndex suffixes;
+
+    /**
+     * Creates an empty trie with a slot order of its own.
+     */
+    public DigitTrie() {
+        suffixes = new SortedLongIndex();
+    }
+
+    /**
+     * Creates an empty trie whose suffixes refer to elements by their slots in {@code slotOrder}, shared with the
+     * other indexes of the list, which keeps it in step.
+     */
+    public DigitTrie(SlotOrder slotOrder) {
+        suffixes = new SortedLongIndex(slotOrder);
+    }
+
+    /**
+     * Records that an element whose digit string is {@code digits} was inserted into the list at {@code position}.
+     */
+    public void insert(int position, String digits) {
+        suffixes.insert(position, keysOf(digits));
+    }
+
+    /**
+     * Records that the element at {@code position}, whose digit string is {@code digits}, was removed from the list.
+     */
+    public void remove(int position, String digits) {
+        suffixes.remove(position, keysOf(digits));
+    }
+
+    /**
+     * Records that the element at {@code position} was replaced, changing its digit string from {@code oldDigits} to
+     * {@code newDigits}.
+     */
+    public void replace(int position, String oldDigits, String newDigits) {
+        suffixes.replace(position, keysOf(oldDigits), keysOf(newDigits));
+    }
+
+    /**
+     * Rebuilds the trie for a list whose element at each position has the digit string at the same position of
+     * {@code digitsByPosition}.
+     */
+    public void reset(List<String> digitsByPosition) {
+        suffixes.reset(digitsByPosition.stream().map(DigitTrie::keysOf).toList());
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the elements whose digit string contains {@code run},
+     * or an empty {@code Optional} if the trie cannot answer the query, because {@code run} is empty, longer than
+     * sixteen digits or not made up of digits only.
+     */
+    public Optional<int[]> positionsContaining(String run) {
+        if (run.isEmpty() || run.length() > MAX_DEPTH || !isDigits(run)) {
+            return Optional.empty();
+        }
+        long min = encode(run, 0, run.length());
+        return Optional.of(suffixes.positionsInRange(min, min + POWERS[MAX_DEPTH - run.length()] - 1));
+    }
+
+    private static boolean isDigits(String text) {
+        return text.chars().allMatch(c -> c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns the distinct keys of the suffixes of the digits in {@code text}.
+     */
+    private static long[] keysOf(String text) {
+        String digits = text.replaceAll("[^0-9]", "");
+        return IntStream.range(0, digits.length())
+                .mapToLong(start -> encode(digits, start, Math.min(digits.length(), start + MAX_DEPTH)))
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Returns the key of the digits of {@code digits} from {@code start} (inclusive) to {@code end} (exclusive).
+     */
+    private static long encode(String digits, int start, int end) {
+        long key = 0;
+        for (int i = start; i < end; i++) {
+            key += (digits.charAt(i) - '0' + 1) * POWERS[MAX_DEPTH - 1 - (i - start)];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An index that partitions the positions of a list by an enum field of its elements, so that the elements with a
+ * given value are found without scanning the list and counted in constant time.
+ * The index is kept in step with the list by telling it of every insertion, removal and replacement.
+ *
+ * @param <E> The type of the enum field.
+ */
+public class EnumPartitionIndex<E extends Enum<E>> {
+
+    private final SortedLongIndex partitions;
+    private final int[] counts;
+
+    /**
+     * Creates an empty index over the values of {@code enumClass}, with a slot order of its own.
+     */
+    public EnumPartitionIndex(Class<E> enumClass) {
+        requireNonNull(enumClass);
+        partitions = new SortedLongIndex();
+        counts = new int[enumClass.getEnumConstants().length];
+    }
+
+    /**
+     * Creates an empty index over the values of {@code enumClass} whose partitions refer to elements by their slots in
+     * {@code slotOrder}, shared with the other indexes of the list, which keeps it in step.
+     */
+    public EnumPartitionIndex(Class<E> enumClass, SlotOrder slotOrder) {
+        requireNonNull(enumClass);
+        partitions = new SortedLongIndex(slotOrder);
+        counts = new int[enumClass.getEnumConstants().length];
+    }
+
+    /**
+     * Records that an element whose field is {@code value} was inserted into the list at {@code position}.
+     */
+    public void insert(int position, E value) {
+        partitions.insert(position, value.ordinal());
+        counts[value.ordinal()]++;
+    }
+
+    /**
+     * Records that the element at {@code position}, whose field is {@code value}, was removed from the list.
+     */
+    public void remove(int position, E value) {
+        partitions.remove(position, value.ordinal());
+        counts[value.ordinal()]--;
+    }
+
+    /**
+     * Records that the element at {@code position} was replaced, changing its field from {@code oldValue} to
+     * {@code newValue}.
+     */
+    public void replace(int position, E oldValue, E newValue) {
+        if (oldValue == newValue) {
+            return;
+        }
+        partitions.replace(position, new long[] {oldValue.ordinal()}, new long[] {newValue.ordinal()});
+        counts[oldValue.ordinal()]--;
+        counts[newValue.ordinal()]++;
+    }
+
+    /**
+     * Rebuilds the index for a list whose element at each position has the field at the same position of
+     * {@code valuesByPosition}.
+     */
+    public void reset(List<E> valuesByPosition) {
+        partitions.reset(valuesByPosition.stream().map(value -> new long[] {value.ordinal()}).toList());
+        Arrays.fill(counts, 0);
+        valuesByPosition.forEach(value -> counts[value.ordinal()]++);
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the elements whose field is {@code value}.
+     */
+    public int[] positionsOf(E value) {
+        return partitions.positionsInRange(value.ordinal(), value.ordinal());
+    }
+
+    /**
+     * Returns the number of elements whose field is {@code value}.
+     */
+    public int count(E value) {
+        return counts[value.ordinal()];
+    }
+}
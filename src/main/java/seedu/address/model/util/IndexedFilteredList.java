@@ -0,0 +1,300 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an observable list that can be told which positions of the source list may match its
+ * predicate, so that only those elements are tested instead of the whole source list.
+ * Like {@code FilteredList}, the view follows later changes to the source list, testing only the elements that were
+ * added or updated. When at least the parallel threshold of elements are to be tested at once, they are tested in
+ * parallel against a snapshot of the source list, and the view is then changed in one go.
+ *
+ * @param <E> The type of the elements.
+ */
+public class IndexedFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate;
+    private int[] positions = new int[0];
+    private int size;
+    private long sourceVersion;
+    private int parallelThreshold = Integer.MAX_VALUE;
+
+    /**
+     * Creates a view of {@code source} that shows every element.
+     */
+    public IndexedFilteredList(ObservableList<E> source) {
+        super(source);
+        setPositions(Positions.range(0, source.size()));
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Tests elements in parallel whenever at least {@code parallelThreshold} of them are to be tested at once.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Shows the elements of the source list that satisfy {@code predicate}, or every element if it is null.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        setPredicate(predicate, Positions.range(0, getSource().size()));
+    }
+
+    /**
+     * Shows the elements of the source list that satisfy {@code predicate}, testing only the elements at
+     * {@code candidates}. {@code candidates} must be in ascending order and include the position of every element
+     * that satisfies {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super E> predicate, int[] candidates) {
+        requireNonNull(candidates);
+        this.predicate = predicate;
+        setPositions(testCandidates(candidates));
+    }
+
+    /**
+     * Shows the shown elements that satisfy {@code predicate}, testing only those at {@code candidates}.
+     * {@code predicate} must only be satisfied by elements that are already shown, and {@code candidates} must be
+     * in ascending order and include the position of every element that satisfies {@code predicate}.
+     * Listeners are only told of the elements that are no longer shown.
+     */
+    public void narrowPredicate(Predicate<? super E> predicate, int[] candidates) {
+        requireNonNull(candidates);
+        this.predicate = predicate;
+        int[] matches = testCandidates(Positions.intersect(getSourcePositions(), candidates));
+        beginChange();
+        try {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int position = positions[i];
+                if (count < matches.length && matches[count] == position) {
+                    positions[count++] = position;
+                } else {
+                    nextRemove(count, getSource().get(position));
+                }
+            }
+            size = count;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Shows the elements of the source list at {@code matches} without testing them. {@code matches} must be in
+     * ascending order and be exactly the positions of the elements that satisfy {@code predicate}.
+     */
+    public void setMatches(Predicate<? super E> predicate, int[] matches) {
+        requireNonNull(matches);
+        this.predicate = predicate;
+        setPositions(matches.clone());
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the elements of the source list that are shown.
+     */
+    public int[] getSourcePositions() {
+        return Arrays.copyOf(positions, size);
+    }
+
+    /**
+     * Returns the number of times the source list has changed since this view was created.
+     */
+    public long getSourceVersion() {
+        return sourceVersion;
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return positions[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(positions, 0, size, index);
+        return viewIndex < 0 ? -1 : viewIndex;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void sourceChanged(Change<? extends E> change) {
+        sourceVersion++;
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    refilter();
+                } else if (change.wasUpdated()) {
+                    updateRange(change.getFrom(), change.getTo());
+                } else {
+                    replaceRange(change.getFrom(), (List<E>) change.getRemoved(), change.getAddedSize());
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the shown positions with {@code newPositions} and notifies listeners that the whole view changed.
+     */
+    private void setPositions(int[] newPositions) {
+        List<E> removed = new ArrayList<>(this);
+        positions = newPositions;
+        size = newPositions.length;
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size > 0) {
+                nextAdd(0, size);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void refilter() {
+        List<E> removed = new ArrayList<>(this);
+        positions = testCandidates(Positions.range(0, getSource().size()));
+        size = positions.length;
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+    }
+
+    /**
+     * Handles the removal of {@code removed} from the source list at {@code from}
+     * and the addition of {@code addedSize} elements in their place.
+     */
+    private void replaceRange(int from, List<E> removed, int addedSize) {
+        int removedEnd = from + removed.size();
+        int low = lowerBound(from);
+        int high = lowerBound(removedEnd);
+
+        if (high > low) {
+            List<E> removedFromView = new ArrayList<>(high - low);
+            for (int i = low; i < high; i++) {
+                removedFromView.add(removed.get(positions[i] - from));
+            }
+            System.arraycopy(positions, high, positions, low, size - high);
+            size -= high - low;
+            nextRemove(low, removedFromView);
+        }
+
+        int shift = addedSize - removed.size();
+        for (int i = low; i < size; i++) {
+            positions[i] += shift;
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (matchesPredicate(getSource().get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+        if (addedCount > 0) {
+            ensureCapacity(size + addedCount);
+            System.arraycopy(positions, low, positions, low + addedCount, size - low);
+            System.arraycopy(added, 0, positions, low, addedCount);
+            size += addedCount;
+            nextAdd(low, low + addedCount);
+        }
+    }
+
+    /**
+     * Re-tests the elements of the source list from {@code from} to {@code to} after they were updated.
+     */
+    private void updateRange(int from, int to) {
+        for (int sourceIndex = from; sourceIndex < to; sourceIndex++) {
+            E element = getSource().get(sourceIndex);
+            int viewIndex = lowerBound(sourceIndex);
+            boolean isShown = viewIndex < size && positions[viewIndex] == sourceIndex;
+            boolean isMatch = matchesPredicate(element);
+            if (isShown && isMatch) {
+                nextUpdate(viewIndex);
+            } else if (isShown) {
+                System.arraycopy(positions, viewIndex + 1, positions, viewIndex, size - viewIndex - 1);
+                size--;
+                nextRemove(viewIndex, element);
+            } else if (isMatch) {
+                ensureCapacity(size + 1);
+                System.arraycopy(positions, viewIndex, positions, viewIndex + 1, size - viewIndex);
+                positions[viewIndex] = sourceIndex;
+                size++;
+                nextAdd(viewIndex, viewIndex + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the positions in {@code candidates}, which must be in ascending order, of the elements of the source
+     * list that satisfy the predicate.
+     */
+    @SuppressWarnings("unchecked")
+    private int[] testCandidates(int[] candidates) {
+        if (candidates.length < parallelThreshold) {
+            return Positions.filter(candidates, candidate -> matchesPredicate(getSource().get(candidate)),
+                    parallelThreshold);
+        }
+        Object[] snapshot = getSource().toArray();
+        return Positions.filter(candidates, candidate -> matchesPredicate((E) snapshot[candidate]), parallelThreshold);
+    }
+
+    private boolean matchesPredicate(E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    /**
+     * Returns the first view index whose source position is not less than {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (positions.length < capacity) {
+            positions = Arrays.copyOf(positions, Math.max(capacity, positions.length * 2));
+        }
+    }
+}
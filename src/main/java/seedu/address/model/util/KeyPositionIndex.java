@@ -0,0 +1,123 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index from a key identifying each element of a list to the position of the element, so that an element is found
+ * without scanning the list.
+ * Each key is mapped to the element's slot in a {@link SlotOrder}, which follows the element as others are inserted
+ * or removed before it, so a position is found in logarithmic time and no entry is renumbered. The slot order may be
+ * shared by all the indexes of a list, in which case the list keeps it in step.
+ * The index is kept in step with the list by telling it of every insertion, removal and replacement.
+ *
+ * @param <K> The type of the keys, which must be distinct for distinct elements.
+ */
+public class KeyPositionIndex<K> {
+
+    private final Map<K, Integer> slotsByKey = new HashMap<>();
+    private final SlotOrder slotOrder;
+    private final boolean isSlotOrderShared;
+
+    /**
+     * Creates an empty index with a slot order of its own.
+     */
+    public KeyPositionIndex() {
+        this.slotOrder = new SlotOrder();
+        this.isSlotOrderShared = false;
+    }
+
+    /**
+     * Creates an empty index that maps keys to slots in {@code slotOrder}, shared with the other indexes of the list.
+     * The list inserts each element into {@code slotOrder} before telling the index of the insertion, and removes it
+     * only after telling the index of the removal.
+     */
+    public KeyPositionIndex(SlotOrder slotOrder) {
+        requireNonNull(slotOrder);
+        this.slotOrder = slotOrder;
+        this.isSlotOrderShared = true;
+    }
+
+    /**
+     * Records that an element with {@code key} was inserted into the list at {@code position}.
+     */
+    public void insert(int position, K key) {
+        requireNonNull(key);
+        slotsByKey.put(key, isSlotOrderShared ? slotOrder.slotAt(position) : slotOrder.insert(position));
+    }
+
+    /**
+     * Records that the element at {@code position}, with {@code key}, was removed from the list.
+     */
+    public void remove(int position, K key) {
+        requireNonNull(key);
+        slotsByKey.remove(key);
+        if (!isSlotOrderShared) {
+            slotOrder.remove(position);
+        }
+    }
+
+    /**
+     * Records that the element at {@code position} was replaced, changing its key from {@code oldKey} to
+     * {@code newKey}.
+     */
+    public void replace(int position, K oldKey, K newKey) {
+        requireNonNull(newKey);
+        Integer slot = slotsByKey.remove(oldKey);
+        assert slot != null && slot == slotOrder.slotAt(position) : "Key must be indexed at the position";
+        slotsByKey.put(newKey, slot);
+    }
+
+    /**
+     * Records that the elements at {@code positions} were replaced, changing the key of each from the key at the
+     * same position of {@code oldKeys} to the one at the same position of {@code newKeys}.
+     * A new key may be the old key of another of the replaced elements.
+     */
+    public void replaceAll(int[] positions, List<K> oldKeys, List<K> newKeys) {
+        requireAllNonNull(positions, oldKeys, newKeys);
+        int[] slots = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            Integer slot = slotsByKey.remove(oldKeys.get(i));
+            assert slot != null && slot == slotOrder.slotAt(positions[i]) : "Key must be indexed at the position";
+            slots[i] = slot;
+        }
+        for (int i = 0; i < positions.length; i++) {
+            slotsByKey.put(newKeys.get(i), slots[i]);
+        }
+    }
+
+    /**
+     * Rebuilds the index for a list whose element at each position has the key at the same position of
+     * {@code keysByPosition}.
+     */
+    public void reset(List<K> keysByPosition) {
+        slotsByKey.clear();
+        if (isSlotOrderShared) {
+            assert slotOrder.size() == keysByPosition.size() : "Every element must be in the slot order";
+        } else {
+            slotOrder.reset(keysByPosition.size());
+        }
+        for (int position = 0; position < keysByPosition.size(); position++) {
+            slotsByKey.put(keysByPosition.get(position), slotOrder.slotAt(position));
+        }
+    }
+
+    /**
+     * Returns true if an element with {@code key} is in the list.
+     */
+    public boolean contains(K key) {
+        return slotsByKey.containsKey(key);
+    }
+
+    /**
+     * Returns the position of the element with {@code key}, or -1 if there is none.
+     */
+    public int positionOf(K key) {
+        Integer slot = slotsByKey.get(key);
+        return slot == null ? -1 : slotOrder.positionOf(slot);
+    }
+}
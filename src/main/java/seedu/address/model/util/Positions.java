@@ -0,0 +1,81 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Contains utility methods for sets of list positions, kept as arrays of ascending, distinct indices.
+ */
+public class Positions {
+
+    private Positions() {} // prevents instantiation
+
+    /**
+     * Returns the positions from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public static int[] range(int from, int to) {
+        int[] positions = new int[Math.max(0, to - from)];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = from + i;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the positions that are in both {@code first} and {@code second}.
+     */
+    public static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the positions in {@code candidates} that pass {@code test}. The candidates are tested in parallel if
+     * there are at least {@code parallelThreshold} of them, so {@code test} must then be safe to call from several
+     * threads at once.
+     */
+    public static int[] filter(int[] candidates, IntPredicate test, int parallelThreshold) {
+        IntStream stream = Arrays.stream(candidates);
+        if (candidates.length >= parallelThreshold) {
+            stream = stream.parallel();
+        }
+        return stream.filter(test).toArray();
+    }
+
+    /**
+     * Returns the positions that are in {@code first}, {@code second} or both.
+     */
+    public static int[] union(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                result[count++] = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                result[count++] = second[j++];
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A cache of the positions of the entries that matched recent filters of lists, so that filtering a list again by
+ * an equal predicate does not test any entry.
+ * Each result is kept for one version of its list, and is dropped as soon as a result for a later version of the same
+ * list is cached. The least recently used results are dropped once the results take up more than the memory limit.
+ */
+public class QueryResultCache {
+
+    private final Map<Key, BitSet> results = new LinkedHashMap<>(16, 0.75f, true);
+    private final long memoryLimit;
+    private long memoryUsage;
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Creates an empty cache whose results may take up at most {@code memoryLimit} bytes.
+     */
+    public QueryResultCache(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the entries of {@code source} that matched {@code predicate}
+     * when {@code source} was at {@code version}, or an empty {@code Optional} if they are not cached.
+     */
+    public Optional<int[]> get(Object source, long version, Predicate<?> predicate) {
+        requireNonNull(source);
+        requireNonNull(predicate);
+        BitSet matches = results.get(new Key(source, version, predicate));
+        if (matches == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(matches.stream().toArray());
+    }
+
+    /**
+     * Caches {@code matches}, the positions in ascending order of the entries of {@code source} that matched
+     * {@code predicate} when {@code source} was at {@code version}, dropping the results for other versions of
+     * {@code source}.
+     */
+    public void put(Object source, long version, Predicate<?> predicate, int[] matches) {
+        requireNonNull(source);
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        Iterator<Map.Entry<Key, BitSet>> iterator = results.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, BitSet> entry = iterator.next();
+            if (entry.getKey().source == source && entry.getKey().version != version) {
+                memoryUsage -= sizeOf(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        BitSet bitSet = new BitSet(matches.length == 0 ? 0 : matches[matches.length - 1] + 1);
+        for (int match : matches) {
+            bitSet.set(match);
+        }
+        if (sizeOf(bitSet) > memoryLimit) {
+            return;
+        }
+        BitSet previous = results.put(new Key(source, version, predicate), bitSet);
+        memoryUsage += sizeOf(bitSet) - (previous == null ? 0 : sizeOf(previous));
+
+        Iterator<BitSet> leastRecentlyUsed = results.values().iterator();
+        while (memoryUsage > memoryLimit) {
+            memoryUsage -= sizeOf(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    public void clear() {
+        results.clear();
+        memoryUsage = 0;
+    }
+
+    /**
+     * Returns the number of results cached.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the cached results.
+     */
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached result.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached result.
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    private static long sizeOf(BitSet bitSet) {
+        return bitSet.size() / Byte.SIZE;
+    }
+
+    /**
+     * Identifies a result by the list it was found in, compared by identity, the version of the list,
+     * and the predicate it matched.
+     */
+    private static class Key {
+        private final Object source;
+        private final long version;
+        private final Predicate<?> predicate;
+
+        Key(Object source, long version, Predicate<?> predicate) {
+            this.source = source;
+            this.version = version;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Key otherKey)) {
+                return false;
+            }
+
+            return source == otherKey.source
+                    && version == otherKey.version
+                    && predicate.equals(otherKey.predicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(source), version, predicate);
+        }
+    }
+}
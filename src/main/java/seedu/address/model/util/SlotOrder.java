@@ -0,0 +1,249 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The order of the elements of a list, in which each element is given a slot number that it keeps while other
+ * elements are inserted or removed before it, so that an index can refer to elements by slot instead of renumbering
+ * its entries on every change.
+ * The slots are kept in a treap ordered by position, so a slot is found from its position, and a position from its
+ * slot, in logarithmic time. The slot of a removed element is given to the next element inserted.
+ * While elements have only been added at the end since the order was last reset, every slot is the same as its
+ * position and positions are found without walking the tree.
+ */
+public class SlotOrder {
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Random random = new Random();
+
+    private int[] left = new int[INITIAL_CAPACITY];
+    private int[] right = new int[INITIAL_CAPACITY];
+    private int[] parent = new int[INITIAL_CAPACITY];
+    private int[] count = new int[INITIAL_CAPACITY];
+    private int[] priority = new int[INITIAL_CAPACITY];
+    private int root = NONE;
+
+    // Slots below slotCount that are not in use, most recently freed last.
+    private int[] freeSlots = new int[0];
+    private int freeCount;
+    private int slotCount;
+    private boolean isSlotPosition = true;
+
+    // The parts of the tree left by the last split.
+    private int splitLeft;
+    private int splitRight;
+
+    /**
+     * Records that an element was inserted into the list at {@code position}.
+     *
+     * @return the slot of the inserted element.
+     */
+    public int insert(int position) {
+        assert position >= 0 && position <= size() : "Position must be within the list";
+        if (position != size()) {
+            isSlotPosition = false;
+        }
+        int slot = claimSlot();
+        split(root, position);
+        int before = splitLeft;
+        int after = splitRight;
+        root = merge(merge(before, slot), after);
+        parent[root] = NONE;
+        return slot;
+    }
+
+    /**
+     * Records that the element at {@code position} was removed from the list.
+     *
+     * @return the slot of the removed element, which is free to be given to another element.
+     */
+    public int remove(int position) {
+        assert position >= 0 && position < size() : "Position must be within the list";
+        split(root, position);
+        int before = splitLeft;
+        split(splitRight, 1);
+        int slot = splitLeft;
+        root = merge(before, splitRight);
+        if (root != NONE) {
+            parent[root] = NONE;
+        }
+        freeSlot(slot, position);
+        return slot;
+    }
+
+    /**
+     * Forgets every slot and gives the {@code size} elements of the list the slots equal to their positions.
+     */
+    public void reset(int size) {
+        root = NONE;
+        slotCount = 0;
+        freeCount = 0;
+        isSlotPosition = true;
+        for (int position = 0; position < size; position++) {
+            insert(position);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     */
+    public int size() {
+        return root == NONE ? 0 : count[root];
+    }
+
+    /**
+     * Returns the slot of the element at {@code position}.
+     */
+    public int slotAt(int position) {
+        assert position >= 0 && position < size() : "Position must be within the list";
+        if (isSlotPosition) {
+            return position;
+        }
+        int node = root;
+        int remaining = position;
+        while (true) {
+            int leftCount = countOf(left[node]);
+            if (remaining < leftCount) {
+                node = left[node];
+            } else if (remaining == leftCount) {
+                return node;
+            } else {
+                remaining -= leftCount + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the element in {@code slot}, which must be in use.
+     */
+    public int positionOf(int slot) {
+        assert slot >= 0 && slot < slotCount : "Slot must be in use";
+        if (isSlotPosition) {
+            return slot;
+        }
+        int position = countOf(left[slot]);
+        for (int node = slot; parent[node] != NONE; node = parent[node]) {
+            if (right[parent[node]] == node) {
+                position += countOf(left[parent[node]]) + 1;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns true if every slot in use is the same as the position of its element.
+     */
+    public boolean isSlotPosition() {
+        return isSlotPosition;
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the slots.
+     */
+    public long getMemoryUsage() {
+        return (5L * left.length + freeSlots.length) * Integer.BYTES;
+    }
+
+    private int claimSlot() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = slotCount++;
+            ensureCapacity(slotCount);
+        }
+        left[slot] = NONE;
+        right[slot] = NONE;
+        parent[slot] = NONE;
+        count[slot] = 1;
+        priority[slot] = random.nextInt();
+        return slot;
+    }
+
+    private void freeSlot(int slot, int position) {
+        if (isSlotPosition && position == size()) {
+            slotCount--; // the last slot, so the slots in use still match their positions
+            return;
+        }
+        isSlotPosition = false;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(INITIAL_CAPACITY, freeCount * 2));
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (left.length < capacity) {
+            int newCapacity = Math.max(capacity, left.length * 2);
+            left = Arrays.copyOf(left, newCapacity);
+            right = Arrays.copyOf(right, newCapacity);
+            parent = Arrays.copyOf(parent, newCapacity);
+            count = Arrays.copyOf(count, newCapacity);
+            priority = Arrays.copyOf(priority, newCapacity);
+        }
+    }
+
+    private int countOf(int node) {
+        return node == NONE ? 0 : count[node];
+    }
+
+    /**
+     * Recomputes the count of {@code node} and points its children back at it.
+     */
+    private void update(int node) {
+        count[node] = 1 + countOf(left[node]) + countOf(right[node]);
+        if (left[node] != NONE) {
+            parent[left[node]] = node;
+        }
+        if (right[node] != NONE) {
+            parent[right[node]] = node;
+        }
+    }
+
+    /**
+     * Returns the root of the tree holding the elements of {@code first} followed by those of {@code second}.
+     */
+    private int merge(int first, int second) {
+        if (first == NONE) {
+            return second;
+        }
+        if (second == NONE) {
+            return first;
+        }
+        if (priority[first] > priority[second]) {
+            right[first] = merge(right[first], second);
+            update(first);
+            return first;
+        }
+        left[second] = merge(first, left[second]);
+        update(second);
+        return second;
+    }
+
+    /**
+     * Splits the tree at {@code node} into {@code splitLeft}, holding its first {@code leftCount} elements, and
+     * {@code splitRight}, holding the rest.
+     */
+    private void split(int node, int leftCount) {
+        if (node == NONE) {
+            splitLeft = NONE;
+            splitRight = NONE;
+            return;
+        }
+        if (countOf(left[node]) >= leftCount) {
+            split(left[node], leftCount);
+            left[node] = splitRight;
+            update(node);
+            splitRight = node;
+        } else {
+            split(right[node], leftCount - countOf(left[node]) - 1);
+            right[node] = splitLeft;
+            update(node);
+            splitLeft = node;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An index from the positions of a list to the {@code long} keys of the element at each position, kept sorted by key
+ * so that the positions whose keys fall in a range can be found by binary search.
+ * Each element has its own distinct keys, possibly none; elements without keys take up a position in the list but
+ * are not indexed.
+ * Entries refer to elements by their slot in a {@link SlotOrder} rather than by position, so inserting or removing an
+ * element does not renumber the entries of the elements after it; positions are worked out from the slots when the
+ * index is queried. The slot order may be shared by all the indexes of a list, in which case the list keeps it in step.
+ * The index is kept in step with the list by telling it of every insertion, removal and replacement.
+ */
+public class SortedLongIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final SlotOrder slotOrder;
+    private final boolean isSlotOrderShared;
+
+    // Entries sorted by key, then by slot.
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    /**
+     * Creates an empty index with a slot order of its own.
+     */
+    public SortedLongIndex() {
+        this.slotOrder = new SlotOrder();
+        this.isSlotOrderShared = false;
+    }
+
+    /**
+     * Creates an empty index that refers to elements by their slots in {@code slotOrder}, shared with the other
+     * indexes of the list. The list inserts each element into {@code slotOrder} before telling the index of the
+     * insertion, and removes it only after telling the index of the removal.
+     */
+    public SortedLongIndex(SlotOrder slotOrder) {
+        requireNonNull(slotOrder);
+        this.slotOrder = slotOrder;
+        this.isSlotOrderShared = true;
+    }
+
+    /**
+     * Records that an element with {@code elementKeys} was inserted into the list at {@code position},
+     * moving the elements at and after {@code position} one place back.
+     */
+    public void insert(int position, long... elementKeys) {
+        if (isSlotOrderShared) {
+            assert position >= 0 && position < size() : "Element must be in the slot order";
+            insertEntries(sorted(elementKeys), slotOrder.slotAt(position));
+        } else {
+            assert position >= 0 && position <= size() : "Position must be within the list";
+            insertEntries(sorted(elementKeys), slotOrder.insert(position));
+        }
+    }
+
+    /**
+     * Records that the element with {@code elementKeys} at {@code position} was removed from the list,
+     * moving the elements after it one place forward.
+     */
+    public void remove(int position, long... elementKeys) {
+        assert position >= 0 && position < size() : "Position must be within the list";
+        removeEntries(sorted(elementKeys), slotOrder.slotAt(position));
+        if (!isSlotOrderShared) {
+            slotOrder.remove(position);
+        }
+    }
+
+    /**
+     * Records that the element at {@code position} was replaced, changing its keys from {@code oldKeys} to
+     * {@code newKeys}.
+     */
+    public void replace(int position, long[] oldKeys, long[] newKeys) {
+        assert position >= 0 && position < size() : "Position must be within the list";
+        if (Arrays.equals(oldKeys, newKeys)) {
+            return;
+        }
+        int slot = slotOrder.slotAt(position);
+        removeEntries(sorted(oldKeys), slot);
+        insertEntries(sorted(newKeys), slot);
+    }
+
+    /**
+     * Rebuilds the index for a list whose element at each position has the keys at the same position of
+     * {@code keysByPosition}.
+     * The keys are sorted as primitives, and each entry is then placed after the entries already placed with the same
+     * key, visiting the positions in ascending order.
+     */
+    public void reset(List<long[]> keysByPosition) {
+        if (isSlotOrderShared) {
+            assert slotOrder.size() == keysByPosition.size() : "Every element must be in the slot order";
+        } else {
+            slotOrder.reset(keysByPosition.size()); // every slot starts out the same as its position
+        }
+        int count = keysByPosition.stream().mapToInt(elementKeys -> elementKeys.length).sum();
+        keys = new long[Math.max(INITIAL_CAPACITY, count)];
+        slots = new int[keys.length];
+        entryCount = 0;
+        for (long[] elementKeys : keysByPosition) {
+            System.arraycopy(elementKeys, 0, keys, entryCount, elementKeys.length);
+            entryCount += elementKeys.length;
+        }
+        Arrays.sort(keys, 0, entryCount);
+
+        int[] placedCounts = new int[entryCount]; // by the index of the first entry with each key
+        for (int position = 0; position < keysByPosition.size(); position++) {
+            int slot = slotOrder.slotAt(position);
+            for (long key : keysByPosition.get(position)) {
+                int first = lowerBound(key, Integer.MIN_VALUE); // slots are never negative
+                slots[first + placedCounts[first]++] = slot;
+            }
+        }
+        if (!slotOrder.isSlotPosition()) {
+            // slots follow positions only while they are the same, so sort each run of equal keys by slot
+            int from = 0;
+            while (from < entryCount) {
+                int to = from + placedCounts[from];
+                Arrays.sort(slots, from, to);
+                from = to;
+            }
+        }
+    }
+
+    /**
+     * Returns the positions, in ascending order and without repeats, of the elements with a key from {@code min} to
+     * {@code max} inclusive.
+     */
+    public int[] positionsInRange(long min, long max) {
+        if (min > max) {
+            return new int[0];
+        }
+        int from = lowerBound(min, Integer.MIN_VALUE); // slots are never negative
+        int to = max == Long.MAX_VALUE ? entryCount : lowerBound(max + 1, Integer.MIN_VALUE);
+        int[] result = Arrays.copyOfRange(slots, from, to);
+        if (!slotOrder.isSlotPosition()) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = slotOrder.positionOf(result[i]);
+            }
+            Arrays.sort(result);
+        } else if (min != max) {
+            Arrays.sort(result);
+        }
+        if (min == max) {
+            return result; // an element has at most one entry for each key
+        }
+        int count = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (count == 0 || result[count - 1] != result[i]) {
+                result[count++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the number of entries with a key from {@code min} to {@code max} inclusive, found by binary search
+     * without listing their positions.
+     * This is the number of positions {@link #positionsInRange(long, long)} returns when each element has at most
+     * one key in the range, and an upper bound on it otherwise.
+     */
+    public int countInRange(long min, long max) {
+        if (min > max) {
+            return 0;
+        }
+        int from = lowerBound(min, Integer.MIN_VALUE);
+        int to = max == Long.MAX_VALUE ? entryCount : lowerBound(max + 1, Integer.MIN_VALUE);
+        return to - from;
+    }
+
+    /**
+     * Returns the number of positions in the list, including those of elements without a key.
+     */
+    public int size() {
+        return slotOrder.size();
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the entries of the index, and by its slot order unless that
+     * is shared.
+     */
+    public long getMemoryUsage() {
+        return (long) keys.length * Long.BYTES + (long) slots.length * Integer.BYTES
+                + (isSlotOrderShared ? 0 : slotOrder.getMemoryUsage());
+    }
+
+    /**
+     * Adds an entry for each of {@code newKeys}, which must be in ascending order, for {@code slot}.
+     * All the entries are added in one pass over the arrays, moving each existing entry at most once.
+     */
+    private void insertEntries(long[] newKeys, int slot) {
+        if (entryCount + newKeys.length > keys.length) {
+            int capacity = Math.max(entryCount + newKeys.length, keys.length * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+        }
+        int end = entryCount;
+        for (int i = newKeys.length - 1; i >= 0; i--) {
+            int start = lowerBound(newKeys[i], slot, end);
+            System.arraycopy(keys, start, keys, start + i + 1, end - start);
+            System.arraycopy(slots, start, slots, start + i + 1, end - start);
+            keys[start + i] = newKeys[i];
+            slots[start + i] = slot;
+            end = start;
+        }
+        entryCount += newKeys.length;
+    }
+
+    /**
+     * Removes the entry for each of {@code oldKeys}, which must be in ascending order, for {@code slot}.
+     * All the entries are removed in one pass over the arrays, moving each remaining entry at most once.
+     */
+    private void removeEntries(long[] oldKeys, int slot) {
+        if (oldKeys.length == 0) {
+            return;
+        }
+        int[] indices = new int[oldKeys.length];
+        for (int i = 0; i < oldKeys.length; i++) {
+            indices[i] = lowerBound(oldKeys[i], slot, entryCount);
+            assert indices[i] < entryCount && keys[indices[i]] == oldKeys[i] && slots[indices[i]] == slot
+                    : "Entry must be indexed";
+        }
+        int write = indices[0];
+        for (int i = 0; i < indices.length; i++) {
+            int from = indices[i] + 1;
+            int to = i + 1 < indices.length ? indices[i + 1] : entryCount;
+            System.arraycopy(keys, from, keys, write, to - from);
+            System.arraycopy(slots, from, slots, write, to - from);
+            write += to - from;
+        }
+        entryCount -= oldKeys.length;
+    }
+
+    private static long[] sorted(long[] elementKeys) {
+        long[] sortedKeys = elementKeys.clone();
+        Arrays.sort(sortedKeys);
+        return sortedKeys;
+    }
+
+    /**
+     * Returns the index of the first entry that is not before the entry ({@code key}, {@code slot}).
+     */
+    private int lowerBound(long key, int slot) {
+        return lowerBound(key, slot, entryCount);
+    }
+
+    /**
+     * Returns the index of the first of the first {@code end} entries that is not before the entry
+     * ({@code key}, {@code slot}), or {@code end} if there is none.
+     */
+    private int lowerBound(long key, int slot, int end) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key || (keys[mid] == key && slots[mid] < slot)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index over a free-text field of the elements of a list, which ranks the elements by how well their
+ * field matches a set of terms using Okapi BM25.
+ * Terms are the runs of letters and digits of the field, matched ignoring case. The number of times each term occurs
+ * in each field is kept with the field's position, so that the index can be saved and restored without reading the
+ * fields again. Each term counts the elements whose field contains it, and is dropped from the index once none does.
+ * The index is kept in step with the list by telling it of every insertion, removal and replacement.
+ */
+public class TextIndex {
+
+    /** How quickly the score of an element stops growing as a term occurs more often in its field. */
+    private static final double TERM_SATURATION = 1.2;
+    /** How much the score of an element is scaled down for a field longer than average. */
+    private static final double LENGTH_NORMALISATION = 0.75;
+
+    private final Map<String, Term> terms = new HashMap<>();
+    private final SortedLongIndex postings;
+    private final List<Map<String, Integer>> termCounts = new ArrayList<>();
+    private final List<Integer> lengths = new ArrayList<>();
+    private long totalLength;
+    private long nextKey;
+
+    /**
+     * Creates an empty index with a slot order of its own.
+     */
+    public TextIndex() {
+        postings = new SortedLongIndex();
+    }
+
+    /**
+     * Creates an empty index whose postings refer to elements by their slots in {@code slotOrder}, shared with the
+     * other indexes of the list, which keeps it in step.
+     */
+    public TextIndex(SlotOrder slotOrder) {
+        postings = new SortedLongIndex(slotOrder);
+    }
+
+    /**
+     * Records that an element whose field is {@code text} was inserted into the list at {@code position}.
+     */
+    public void insert(int position, String text) {
+        Map<String, Integer> counts = countTerms(text);
+        termCounts.add(position, counts);
+        lengths.add(position, lengthOf(counts));
+        totalLength += lengthOf(counts);
+        postings.insert(position, acquireKeys(counts));
+    }
+
+    /**
+     * Records that the element at {@code position} was removed from the list.
+     */
+    public void remove(int position) {
+        Map<String, Integer> removedCounts = termCounts.remove(position);
+        totalLength -= lengths.remove(position);
+        postings.remove(position, keysOf(removedCounts));
+        release(removedCounts);
+    }
+
+    /**
+     * Records that the element at {@code position} was replaced by one whose field is {@code newText}.
+     */
+    public void replace(int position, String newText) {
+        Map<String, Integer> newCounts = countTerms(newText);
+        Map<String, Integer> oldCounts = termCounts.set(position, newCounts);
+        int newLength = lengthOf(newCounts);
+        totalLength += newLength - lengths.set(position, newLength);
+        postings.replace(position, keysOf(oldCounts), acquireKeys(newCounts));
+        release(oldCounts);
+    }
+
+    /**
+     * Rebuilds the index for a list whose element at each position has the field at the same position of
+     * {@code textsByPosition}.
+     */
+    public void reset(List<String> textsByPosition) {
+        restore(textsByPosition.stream().map(TextIndex::countTerms).toList());
+    }
+
+    /**
+     * Rebuilds the index from {@code termCountsByPosition}, the number of times each term occurs in the field of the
+     * element at each position, as returned by {@link #getTermCountsByPosition()}.
+     */
+    public void restore(List<Map<String, Integer>> termCountsByPosition) {
+        requireNonNull(termCountsByPosition);
+        terms.clear();
+        nextKey = 0;
+        termCounts.clear();
+        lengths.clear();
+        totalLength = 0;
+        for (Map<String, Integer> counts : termCountsByPosition) {
+            Map<String, Integer> copiedCounts = Map.copyOf(counts);
+            termCounts.add(copiedCounts);
+            lengths.add(lengthOf(copiedCounts));
+            totalLength += lengthOf(copiedCounts);
+        }
+        postings.reset(termCounts.stream().map(this::acquireKeys).toList());
+    }
+
+    /**
+     * Returns the number of times each term occurs in the field of the element at each position.
+     */
+    public List<Map<String, Integer>> getTermCountsByPosition() {
+        return Collections.unmodifiableList(new ArrayList<>(termCounts));
+    }
+
+    /**
+     * Returns the number of elements indexed.
+     */
+    public int size() {
+        return termCounts.size();
+    }
+
+    /**
+     * Returns the number of distinct terms in the fields of the elements of the list.
+     */
+    public int termCount() {
+        return terms.size();
+    }
+
+    /**
+     * Returns the BM25 score of every element whose field contains any of the terms in {@code query}, keyed by the
+     * position of the element.
+     */
+    public Map<Integer, Double> score(String query) {
+        requireNonNull(query);
+        Map<Integer, Double> scores = new HashMap<>();
+        if (totalLength == 0) {
+            return scores;
+        }
+        double averageLength = (double) totalLength / termCounts.size();
+        for (String term : countTerms(query).keySet()) {
+            Term entry = terms.get(term);
+            if (entry == null) {
+                continue;
+            }
+            int[] positions = postings.positionsInRange(entry.key, entry.key);
+            double inverseFrequency = Math.log(1 + (termCounts.size() - positions.length + 0.5)
+                    / (positions.length + 0.5));
+            for (int position : positions) {
+                int count = termCounts.get(position).get(term);
+                double lengthRatio = lengths.get(position) / averageLength;
+                double weight = count * (TERM_SATURATION + 1) / (count + TERM_SATURATION
+                        * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+                scores.merge(position, inverseFrequency * weight, Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns a fingerprint of {@code textsByPosition} that changes if any field changes or moves, so that a saved
+     * index can be checked against the list it is restored for.
+     * It holds the number of fields and a CRC-32 checksum of their UTF-8 encodings, each preceded by its length.
+     */
+    public static long fingerprintOf(List<String> textsByPosition) {
+        CRC32 checksum = new CRC32();
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        for (String text : textsByPosition) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            checksum.update(length.clear().putInt(bytes.length).array());
+            checksum.update(bytes);
+        }
+        return ((long) textsByPosition.size() << Integer.SIZE) | checksum.getValue();
+    }
+
+    /**
+     * Returns the number of times each case-folded term occurs in {@code text}.
+     */
+    static Map<String, Integer> countTerms(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                counts.merge(StringUtil.foldCase(term), 1, Integer::sum);
+            }
+        }
+        return Map.copyOf(counts);
+    }
+
+    private static int lengthOf(Map<String, Integer> counts) {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the distinct keys of the terms in {@code counts}, in ascending order, counting one more element for each
+     * term and giving a new key to each term not seen before.
+     */
+    private long[] acquireKeys(Map<String, Integer> counts) {
+        return counts.keySet().stream()
+                .mapToLong(term -> {
+                    Term entry = terms.computeIfAbsent(term, unused -> new Term(nextKey++));
+                    entry.elementCount++;
+                    return entry.key;
+                })
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Returns the distinct keys of the terms in {@code counts}, all of which must be in the index, in ascending order.
+     */
+    private long[] keysOf(Map<String, Integer> counts) {
+        return counts.keySet().stream()
+                .mapToLong(term -> terms.get(term).key)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Counts one fewer element for each term in {@code counts}, dropping the terms no element contains any more.
+     */
+    private void release(Map<String, Integer> counts) {
+        for (String term : counts.keySet()) {
+            Term entry = terms.get(term);
+            if (--entry.elementCount == 0) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    /**
+     * The key of a term and the number of elements whose field contains it.
+     */
+    private static class Term {
+        private final long key;
+        private int elementCount;
+
+        Term(long key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of a text field to the positions in a list of the elements whose
+ * field contains them, so that a keyword search reads only the postings of its keywords.
+ * Words are the runs of non-whitespace characters of the field, and are matched ignoring case as
+ * {@link String#equalsIgnoreCase(String)} does. Every word seen is also kept in a BK-tree, so that the words near a
+ * misspelt keyword are found without comparing it against every word.
+ * Each word counts the elements whose field contains it, and is dropped from the index and the tree once no element
+ * does.
+ * The index is kept in step with the list by telling it of every insertion, removal and replacement.
+ */
+public class TokenIndex {
+
+    private final Map<String, Token> tokens = new HashMap<>();
+    private final SortedLongIndex postings;
+    private final BkTree words = new BkTree();
+    private long nextKey;
+
+    /**
+     * Creates an empty index with a slot order of its own.
+     */
+    public TokenIndex() {
+        postings = new SortedLongIndex();
+    }
+
+    /**
+     * Creates an empty index whose postings refer to elements by their slots in {@code slotOrder}, shared with the
+     * other indexes of the list, which keeps it in step.
+     */
+    public TokenIndex(SlotOrder slotOrder) {
+        postings = new SortedLongIndex(slotOrder);
+    }
+
+    /**
+     * Records that an element whose field is {@code text} was inserted into the list at {@code position}.
+     */
+    public void insert(int position, String text) {
+        postings.insert(position, acquireKeys(text));
+    }
+
+    /**
+     * Records that the element at {@code position}, whose field is {@code text}, was removed from the list.
+     */
+    public void remove(int position, String text) {
+        postings.remove(position, keysOf(text));
+        release(text);
+    }
+
+    /**
+     * Records that the element at {@code position} was replaced, changing its field from {@code oldText} to
+     * {@code newText}.
+     */
+    public void replace(int position, String oldText, String newText) {
+        postings.replace(position, keysOf(oldText), acquireKeys(newText));
+        release(oldText);
+    }
+
+    /**
+     * Rebuilds the index for a list whose element at each position has the field at the same position of
+     * {@code textsByPosition}.
+     */
+    public void reset(List<String> textsByPosition) {
+        tokens.clear();
+        words.clear();
+        nextKey = 0;
+        postings.reset(textsByPosition.stream().map(this::acquireKeys).toList());
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the elements whose field contains the word {@code token},
+     * ignoring case.
+     */
+    public int[] positionsWithToken(String token) {
+        Token entry = tokens.get(StringUtil.foldCase(token.trim()));
+        return entry == null ? new int[0] : postings.positionsInRange(entry.key, entry.key);
+    }
+
+    /**
+     * Returns the number of elements whose field contains the word {@code token}, ignoring case, without listing
+     * their positions.
+     */
+    public int countWithToken(String token) {
+        Token entry = tokens.get(StringUtil.foldCase(token.trim()));
+        return entry == null ? 0 : entry.elementCount;
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the elements whose field contains a word within an edit distance
+     * of {@code maxDistance} from {@code token}, ignoring case.
+     */
+    public int[] positionsWithTokenNear(String token, int maxDistance) {
+        return words.search(StringUtil.foldCase(token.trim()), maxDistance).stream()
+                .map(this::positionsWithToken)
+                .reduce(new int[0], Positions::union);
+    }
+
+    /**
+     * Returns the sum, over the words within an edit distance of {@code maxDistance} from {@code token}, of the number
+     * of elements whose field contains the word, ignoring case.
+     * This is an upper bound on the number of positions {@link #positionsWithTokenNear(String, int)} returns.
+     */
+    public int countWithTokenNear(String token, int maxDistance) {
+        return words.search(StringUtil.foldCase(token.trim()), maxDistance).stream()
+                .mapToInt(this::countWithToken)
+                .sum();
+    }
+
+    /**
+     * Returns the number of distinct words, ignoring case, in the fields of the elements of the list.
+     */
+    public int wordCount() {
+        return tokens.size();
+    }
+
+    /**
+     * Returns the distinct keys of the words in {@code text}, in ascending order, counting one more element for each
+     * word and giving a new key to each word not seen before.
+     */
+    private long[] acquireKeys(String text) {
+        return wordsOf(text).stream()
+                .mapToLong(word -> {
+                    Token entry = tokens.computeIfAbsent(word, this::newToken);
+                    entry.elementCount++;
+                    return entry.key;
+                })
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Returns the distinct keys of the words in {@code text}, all of which must be in the index, in ascending order.
+     */
+    private long[] keysOf(String text) {
+        return wordsOf(text).stream()
+                .mapToLong(word -> tokens.get(word).key)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Counts one fewer element for each word in {@code text}, dropping the words no element contains any more.
+     */
+    private void release(String text) {
+        for (String word : wordsOf(text)) {
+            Token entry = tokens.get(word);
+            if (--entry.elementCount == 0) {
+                tokens.remove(word);
+                words.remove(word);
+            }
+        }
+    }
+
+    private Token newToken(String word) {
+        words.add(word);
+        return new Token(nextKey++);
+    }
+
+    /**
+     * Returns the distinct case-folded words of {@code text}.
+     */
+    private static List<String> wordsOf(String text) {
+        return Arrays.stream(text.trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(StringUtil::foldCase)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * The key of a word and the number of elements whose field contains it.
+     */
+    private static class Token {
+        private final long key;
+        private int elementCount;
+
+        Token(long key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.LongStream;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * An index from the three-character substrings (trigrams) of a lowercased text field to the positions in a list of
+ * the elements whose field contains them.
+ * A substring search intersects the postings of the trigrams of the searched text, leaving only a few candidates to
+ * verify, which all include the searched text whatever their case.
+ * The memory taken up by the index is bounded: if the index would need more than its memory limit, it is dropped and
+ * substring searches fall back to scanning the list until the index is next rebuilt.
+ * The index is kept in step with the list by telling it of every insertion, removal and replacement.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final Logger logger = LogsCenter.getLogger(TrigramIndex.class);
+
+    private final String description;
+    private final SlotOrder slotOrder;
+    private SortedLongIndex postings;
+    private long memoryLimit = Long.MAX_VALUE;
+    private boolean isEnabled = true;
+
+    /**
+     * Creates an empty index of the field named {@code description}, which is used in log messages.
+     */
+    public TrigramIndex(String description) {
+        this.description = description;
+        this.slotOrder = null;
+        this.postings = new SortedLongIndex();
+    }
+
+    /**
+     * Creates an empty index of the field named {@code description} whose postings refer to elements by their slots
+     * in {@code slotOrder}, shared with the other indexes of the list, which keeps it in step.
+     */
+    public TrigramIndex(String description, SlotOrder slotOrder) {
+        requireNonNull(slotOrder);
+        this.description = description;
+        this.slotOrder = slotOrder;
+        this.postings = new SortedLongIndex(slotOrder);
+    }
+
+    /**
+     * Records that an element whose field is {@code text} was inserted into the list at {@code position}.
+     */
+    public void insert(int position, String text) {
+        if (isEnabled) {
+            postings.insert(position, keysOf(text));
+            checkMemoryUsage();
+        }
+    }
+
+    /**
+     * Records that the element at {@code position}, whose field is {@code text}, was removed from the list.
+     */
+    public void remove(int position, String text) {
+        if (isEnabled) {
+            postings.remove(position, keysOf(text));
+        }
+    }
+
+    /**
+     * Records that the element at {@code position} was replaced, changing its field from {@code oldText} to
+     * {@code newText}.
+     */
+    public void replace(int position, String oldText, String newText) {
+        if (isEnabled) {
+            postings.replace(position, keysOf(oldText), keysOf(newText));
+            checkMemoryUsage();
+        }
+    }
+
+    /**
+     * Rebuilds the index for a list whose element at each position has the field at the same position of
+     * {@code textsByPosition}, unless the index would take up more than its memory limit.
+     */
+    public void reset(List<String> textsByPosition) {
+        List<long[]> keysByPosition = textsByPosition.stream().map(TrigramIndex::keysOf).toList();
+        long entryCount = keysByPosition.stream().mapToLong(keys -> keys.length).sum();
+        postings = newPostings();
+        isEnabled = entryCount * (Long.BYTES + Integer.BYTES) <= memoryLimit;
+        if (!isEnabled) {
+            logger.warning(String.format("Index of %s would need about %d bytes, more than the limit of %d bytes; "
+                    + "searches will scan the list", description, entryCount * (Long.BYTES + Integer.BYTES),
+                    memoryLimit));
+            return;
+        }
+        postings.reset(keysByPosition);
+        logger.fine(String.format("Indexed %d %s trigrams using %d bytes", entryCount, description,
+                getMemoryUsage()));
+    }
+
+    /**
+     * Returns the positions, in ascending order, of the elements whose field may contain {@code substring} ignoring
+     * case, or an empty {@code Optional} if the index cannot narrow down the elements to search, because
+     * {@code substring} is shorter than a trigram or the index was dropped.
+     */
+    public Optional<int[]> positionsContaining(String substring) {
+        String lowercased = substring.toLowerCase();
+        if (!isEnabled || lowercased.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+        int[] candidates = null;
+        for (long key : keysOf(lowercased)) {
+            int[] positions = postings.positionsInRange(key, key);
+            candidates = candidates == null ? positions : Positions.intersect(candidates, positions);
+            if (candidates.length == 0) {
+                break;
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Sets the number of bytes the index may take up to {@code memoryLimit}.
+     * The new limit applies from the next time the index is rebuilt.
+     */
+    public void setMemoryLimit(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the index.
+     */
+    public long getMemoryUsage() {
+        return isEnabled ? postings.getMemoryUsage() : 0;
+    }
+
+    private void checkMemoryUsage() {
+        if (postings.getMemoryUsage() > memoryLimit) {
+            logger.warning(String.format("Index of %s exceeded the limit of %d bytes; searches will scan the list "
+                    + "until it is rebuilt", description, memoryLimit));
+            postings = newPostings();
+            isEnabled = false;
+        }
+    }
+
+    private SortedLongIndex newPostings() {
+        return slotOrder == null ? new SortedLongIndex() : new SortedLongIndex(slotOrder);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text} lowercased, each packed into a {@code long}.
+     */
+    private static long[] keysOf(String text) {
+        String lowercased = text.toLowerCase();
+        return LongStream.range(0, Math.max(0, lowercased.length() - GRAM_LENGTH + 1))
+                .map(i -> ((long) lowercased.charAt((int) i) << 32)
+                        | ((long) lowercased.charAt((int) i + 1) << 16)
+                        | lowercased.charAt((int) i + 2))
+                .distinct()
+                .toArray();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TextIndexSnapshot;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +31,21 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Starts keeping track of the changes made to {@code addressBook}, the address book that will be saved to this
+     * storage, so that later saves need only write what changed.
+     * @param addressBook cannot be null.
+     */
+    void trackAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns a copy of {@code addressBook} as it is now, which can be given to
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} later, from any thread, while {@code addressBook} goes on changing.
+     * Must be called on the thread that changes {@code addressBook}.
+     * @param addressBook cannot be null.
+     */
+    ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook);
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +58,26 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the whole of the given {@link ReadOnlyAddressBook} to the data file, so that it can be read without
+     * replaying any changes saved since.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void checkpointAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns the saved full-text indexes of {@code addressBook}, the address book read from this storage.
+     * Returns {@code Optional.empty()} if no indexes were saved, or if they were saved for different data.
+     *
+     * @throws DataLoadingException if loading the indexes from storage failed.
+     */
+    Optional<TextIndexSnapshot> readTextIndexes(ReadOnlyAddressBook addressBook) throws DataLoadingException;
+
+    /**
+     * Saves {@code snapshot}, the full-text indexes of {@code addressBook}, beside the data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveTextIndexes(ReadOnlyAddressBook addressBook, TextIndexSnapshot snapshot) throws IOException;
+
 }
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book on a background thread a short delay after it is asked to, so that the commands changing
+ * the address book do not wait for it to be written.
+ * Saves asked for while another is still waiting are coalesced into one: only the latest snapshot is written, once
+ * no save has been asked for during the whole delay, or once the first of them has waited for the maximum delay, so
+ * that a steady stream of changes is still saved regularly.
+ */
+public class BackgroundSaver {
+
+    /** How many times the delay a save may be put off by the saves asked for after it. */
+    private static final long MAX_DELAY_MULTIPLE = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final long delay;
+    private final long maxDelay;
+    private final Executor resultExecutor;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "BackgroundSaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The save waiting to be written, if any, guarded by the lock on this saver.
+    private SaveRequest pendingRequest;
+    private ScheduledFuture<?> pendingWrite;
+    private long pendingSinceNanos;
+
+    /**
+     * Creates a saver writing to {@code storage} {@code delay} milliseconds after the last save asked for, and at
+     * most five times that long after the first save that is still waiting.
+     * The results of the saves are completed through {@code resultExecutor}, such as on the UI thread.
+     */
+    public BackgroundSaver(Storage storage, long delay, Executor resultExecutor) {
+        this(storage, delay, delay * MAX_DELAY_MULTIPLE, resultExecutor);
+    }
+
+    /**
+     * Creates a saver writing to {@code storage} {@code delay} milliseconds after the last save asked for, and at
+     * most {@code maxDelay} milliseconds after the first save that is still waiting.
+     * The results of the saves are completed through {@code resultExecutor}, such as on the UI thread.
+     */
+    public BackgroundSaver(Storage storage, long delay, long maxDelay, Executor resultExecutor) {
+        requireNonNull(storage);
+        requireNonNull(resultExecutor);
+        assert delay >= 0 : "The delay cannot be negative";
+        assert maxDelay >= 0 : "The maximum delay cannot be negative";
+        this.storage = storage;
+        this.delay = delay;
+        this.maxDelay = maxDelay;
+        this.resultExecutor = resultExecutor;
+    }
+
+    /**
+     * Saves {@code addressBook} after the delay.
+     * The address book is snapshotted at once, on the calling thread, which must be the thread that changes it.
+     * Its full-text indexes are not saved, as they are only written when the application stops.
+     *
+     * @return the result of the write that will include the address book as it is now, which completes
+     *     exceptionally with the {@code IOException} thrown if the address book could not be saved.
+     */
+    public synchronized CompletableFuture<Void> requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+
+        long now = System.nanoTime();
+        if (pendingRequest == null) {
+            pendingSinceNanos = now;
+        }
+        CompletableFuture<Void> result = pendingRequest == null ? new CompletableFuture<>() : pendingRequest.result;
+        pendingRequest = new SaveRequest(snapshot, result);
+        if (pendingWrite != null) {
+            pendingWrite.cancel(false);
+        }
+        long waited = TimeUnit.NANOSECONDS.toMillis(now - pendingSinceNanos);
+        pendingWrite = executor.schedule(() -> {
+            writePendingRequest();
+            return null;
+        }, Math.max(0, Math.min(delay, maxDelay - waited)), TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    /**
+     * Writes the save waiting, if any, without waiting for the delay to pass, and stops the saver once it is written.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    public void shutdown() throws IOException {
+        synchronized (this) {
+            if (pendingWrite != null) {
+                pendingWrite.cancel(false);
+                pendingWrite = null;
+            }
+        }
+        try {
+            executor.submit(() -> {
+                writePendingRequest();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ioe ? ioe : new IOException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Writes the save waiting, if any, and completes its result.
+     */
+    private void writePendingRequest() throws IOException {
+        SaveRequest request;
+        synchronized (this) {
+            request = pendingRequest;
+            pendingRequest = null;
+        }
+        if (request == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(request.addressBook);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not save the address book: " + e.getMessage());
+            resultExecutor.execute(() -> request.result.completeExceptionally(e));
+            throw e;
+        }
+        resultExecutor.execute(() -> request.result.complete(null));
+    }
+
+    /**
+     * A snapshot of the address book waiting to be saved, with the result shared by every save it coalesces.
+     */
+    private record SaveRequest(ReadOnlyAddressBook addressBook, CompletableFuture<Void> result) {}
+}
@@ -0,0 +1,338 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, that saves the changes made to the data
+ * by appending them to a journal beside the data file instead of rewriting the whole file.
+ * After a number of saves, the whole address book is written to the data file again as a checkpoint, and the journal
+ * is started afresh. The journal begins with a checksum of the data file it continues, so a journal left behind by a
+ * checkpoint that did not finish, or by a data file edited by hand, is ignored rather than replayed.
+ * The changes are collected when a snapshot of the address book is taken, on the thread that changes it, and are
+ * written when the snapshot, or a later one, is saved, which may happen on another thread.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    /** Saves adding more entries than this are checkpointed rather than journaled. */
+    private static final int MAX_JOURNALED_ADDITIONS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final int checkpointInterval;
+
+    // The state of the files, which is only used while holding the lock on this storage.
+    private long dataFileChecksum;
+    private boolean isJournalStarted;
+    private boolean canAppend;
+    private int journalLength;
+
+    // Changes collected by snapshots that have not been written yet, in the order taken.
+    private final List<UnsavedChanges> unsavedChanges = new ArrayList<>();
+
+    // Only used on the thread that changes the tracked address book.
+    // The address book last read from the data file, kept only until it is compared with the one tracked.
+    private ReadOnlyAddressBook lastReadAddressBook;
+    private JsonSerializableAddressBook lastReadJsonAddressBook;
+    private boolean isLastReadInStoredOrder;
+    private ReadOnlyAddressBook trackedAddressBook;
+    private ListChangeRecorder<Client> clientRecorder;
+    private ListChangeRecorder<Property> propertyRecorder;
+    private ListChangeRecorder<Deal> dealRecorder;
+    private ListChangeRecorder<Event> eventRecorder;
+    private boolean isCheckpointDue;
+    private long snapshotCount;
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that writes a checkpoint after every
+     * {@code checkpointInterval} journaled saves.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(filePath, checkpointInterval, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that writes a checkpoint after every
+     * {@code checkpointInterval} journaled saves, indented over many lines if {@code isPrettyPrinted}.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval, boolean isPrettyPrinted) {
+        super(filePath, isPrettyPrinted);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the path of the journal of changes made since the data file was last written, beside the data file.
+     */
+    public Path getJournalFilePath() {
+        Path filePath = getAddressBookFilePath();
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return filePath.resolveSibling(baseName + ".journal");
+    }
+
+    /**
+     * Returns the number of saves journaled since the data file was last written.
+     */
+    public synchronized int getJournalLength() {
+        return journalLength;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        lastReadJsonAddressBook = null;
+        Optional<ReadOnlyAddressBook> addressBook = super.readAddressBook(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            lastReadAddressBook = addressBook.orElse(null);
+            isLastReadInStoredOrder = lastReadJsonAddressBook != null && lastReadJsonAddressBook.isModelInStoredOrder();
+        }
+        lastReadJsonAddressBook = null;
+        return addressBook;
+    }
+
+    @Override
+    synchronized Optional<JsonSerializableAddressBook> readJsonAddressBook(Path filePath) throws DataLoadingException {
+        Optional<JsonSerializableAddressBook> jsonAddressBook = super.readJsonAddressBook(filePath);
+        if (jsonAddressBook.isPresent() && filePath.equals(getAddressBookFilePath())) {
+            replayJournal(jsonAddressBook.get());
+            lastReadJsonAddressBook = jsonAddressBook.get();
+        }
+        return jsonAddressBook;
+    }
+
+    /**
+     * Makes the changes in the journal to {@code jsonAddressBook}, the data just read from the data file, if the
+     * journal continues that file.
+     */
+    private void replayJournal(JsonSerializableAddressBook jsonAddressBook) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath();
+        List<String> lines;
+        try {
+            dataFileChecksum = checksumOf(getAddressBookFilePath());
+            lines = Files.exists(journalFilePath) ? Files.readAllLines(journalFilePath) : List.of();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        journalLength = 0;
+        canAppend = true;
+        isJournalStarted = !lines.isEmpty() && lines.get(0).equals(Long.toString(dataFileChecksum));
+        if (!isJournalStarted) {
+            if (!lines.isEmpty()) {
+                logger.info("Ignoring journal " + journalFilePath + " as it does not continue the data file.");
+            }
+            return;
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            JsonJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonJournalEntry.class);
+            } catch (IOException e) {
+                // Only the last entry can be incomplete, if the app stopped while appending it.
+                logger.warning("Ignoring incomplete entry at the end of journal " + journalFilePath);
+                canAppend = false;
+                return;
+            }
+            try {
+                jsonAddressBook.applyJournalEntry(entry);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal changes found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            journalLength++;
+        }
+        logger.info("Replayed " + journalLength + " journaled saves from " + journalFilePath);
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        recorders().forEach(ListChangeRecorder::stop);
+        trackedAddressBook = addressBook;
+        clientRecorder = new ListChangeRecorder<>(addressBook.getClientList());
+        propertyRecorder = new ListChangeRecorder<>(addressBook.getPropertyList());
+        dealRecorder = new ListChangeRecorder<>(addressBook.getDealList());
+        eventRecorder = new ListChangeRecorder<>(addressBook.getEventList());
+        // Unless the data file and journal hold the same data at the same positions, they must be written afresh
+        // before any changes can be appended, as the changes are journaled by position. They do not when the files
+        // could not be read, or when reading them sorted the events or gave new ids to clients or properties.
+        isCheckpointDue = !isLastReadInStoredOrder || !addressBook.equals(lastReadAddressBook);
+        lastReadAddressBook = null; // not needed again, so it is not kept alive beside the tracked copy
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook != trackedAddressBook) {
+            trackAddressBook(addressBook);
+        }
+        boolean needsCheckpoint = isCheckpointDue || recorders().anyMatch(recorder -> recorder.isReordered()
+                || recorder.getAddedCount() > MAX_JOURNALED_ADDITIONS);
+        JsonJournalEntry changes = JsonJournalEntry.fromChanges(clientRecorder.drain(), propertyRecorder.drain(),
+                dealRecorder.drain(), eventRecorder.drain());
+        isCheckpointDue = false;
+
+        Snapshot snapshot = new Snapshot(addressBook, ++snapshotCount);
+        synchronized (unsavedChanges) {
+            unsavedChanges.add(new UnsavedChanges(snapshot.number, changes, needsCheckpoint));
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        saveSnapshot(toOwnSnapshot(addressBook));
+    }
+
+    private synchronized void saveSnapshot(Snapshot snapshot) throws IOException {
+        List<UnsavedChanges> changes = takeUnsavedChanges(snapshot);
+        boolean shouldCheckpoint = !canAppend || journalLength >= checkpointInterval
+                || changes.stream().anyMatch(UnsavedChanges::needsCheckpoint);
+        if (shouldCheckpoint) {
+            writeCheckpoint(snapshot);
+            return;
+        }
+
+        if (changes.isEmpty()) {
+            return;
+        }
+        JsonJournalEntry entry = changes.get(0).changes();
+        changes.subList(1, changes.size()).forEach(unsaved -> entry.append(unsaved.changes()));
+        if (entry.isEmpty()) {
+            return;
+        }
+        appendToJournal(entry);
+    }
+
+    @Override
+    public void checkpointAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        checkpointSnapshot(toOwnSnapshot(addressBook));
+    }
+
+    private synchronized void checkpointSnapshot(Snapshot snapshot) throws IOException {
+        List<UnsavedChanges> changes = takeUnsavedChanges(snapshot);
+        boolean isDataFileUpToDate = canAppend && journalLength == 0
+                && changes.stream().allMatch(unsaved -> !unsaved.needsCheckpoint() && unsaved.changes().isEmpty());
+        if (isDataFileUpToDate) {
+            return;
+        }
+        writeCheckpoint(snapshot);
+    }
+
+    private void writeCheckpoint(Snapshot snapshot) throws IOException {
+        canAppend = false;
+        super.saveAddressBook(snapshot, getAddressBookFilePath());
+
+        dataFileChecksum = checksumOf(getAddressBookFilePath());
+        FileUtil.writeToFile(getJournalFilePath(), dataFileChecksum + "\n");
+        isJournalStarted = true;
+        journalLength = 0;
+        canAppend = true;
+    }
+
+    private void appendToJournal(JsonJournalEntry entry) throws IOException {
+        canAppend = false;
+        if (!isJournalStarted) {
+            FileUtil.writeToFile(getJournalFilePath(), dataFileChecksum + "\n");
+            isJournalStarted = true;
+        }
+        FileUtil.appendToFile(getJournalFilePath(), JsonUtil.toCompactJsonString(entry) + "\n");
+        journalLength++;
+        canAppend = true;
+    }
+
+    /**
+     * Returns {@code addressBook} if it is a snapshot taken by this storage, or else a snapshot of it.
+     */
+    private Snapshot toOwnSnapshot(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof Snapshot snapshot && snapshot.isTakenBy(this)) {
+            return snapshot;
+        }
+        return (Snapshot) snapshotAddressBook(addressBook);
+    }
+
+    /**
+     * Removes and returns the changes collected by {@code snapshot} and the snapshots taken before it.
+     */
+    private List<UnsavedChanges> takeUnsavedChanges(Snapshot snapshot) {
+        synchronized (unsavedChanges) {
+            List<UnsavedChanges> taken = new ArrayList<>();
+            while (!unsavedChanges.isEmpty() && unsavedChanges.get(0).snapshotNumber() <= snapshot.number) {
+                taken.add(unsavedChanges.remove(0));
+            }
+            return taken;
+        }
+    }
+
+    /**
+     * Returns the recorders of the changes made to the lists of the tracked address book, if any.
+     */
+    private Stream<ListChangeRecorder<?>> recorders() {
+        return trackedAddressBook == null
+                ? Stream.empty()
+                : Stream.of(clientRecorder, propertyRecorder, dealRecorder, eventRecorder);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of {@code file}.
+     */
+    private static long checksumOf(Path file) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+
+    /**
+     * The changes collected when the snapshot numbered {@code snapshotNumber} was taken, made since the snapshot
+     * before it.
+     */
+    private record UnsavedChanges(long snapshotNumber, JsonJournalEntry changes, boolean needsCheckpoint) {}
+
+    /**
+     * A snapshot taken by a journaled storage, numbered in the order taken.
+     */
+    private class Snapshot extends AddressBookSnapshot {
+
+        private final long number;
+
+        Snapshot(ReadOnlyAddressBook addressBook, long number) {
+            super(addressBook);
+            this.number = number;
+        }
+
+        boolean isTakenBy(JournaledAddressBookStorage storage) {
+            return storage == JournaledAddressBookStorage.this;
+        }
+    }
+}
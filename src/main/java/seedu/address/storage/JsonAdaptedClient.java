@@ -21,17 +21,27 @@ public class JsonAdaptedClient {
     private final String phone;
     private final String email;
     private final String address;
+    private final Long id;
 
     /**
      * Constructs a {@code JsonAdaptedClient} with the given client details.
      */
     @JsonCreator
     public JsonAdaptedClient(@JsonProperty("clientName") String clientName, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address) {
+            @JsonProperty("email") String email, @JsonProperty("address") String address,
+            @JsonProperty("id") Long id) {
         this.clientName = clientName;
         this.phone = phone;
         this.email = email;
         this.address = address;
+        this.id = id;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedClient} with the given client details and no stored id.
+     */
+    public JsonAdaptedClient(String clientName, String phone, String email, String address) {
+        this(clientName, phone, email, address, null);
     }
 
     /**
@@ -42,6 +52,7 @@ public class JsonAdaptedClient {
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
+        id = JsonReferenceUtil.toJsonId(source.getId());
     }
 
     /**
@@ -83,7 +94,8 @@ public class JsonAdaptedClient {
         }
         final Address modelAddress = new Address(address);
 
-        return new Client(modelClientName, modelPhone, modelEmail, modelAddress);
+        final Client modelClient = new Client(modelClientName, modelPhone, modelEmail, modelAddress);
+        return JsonReferenceUtil.toModelId(id).map(modelClient::withId).orElse(modelClient);
     }
 
 }
@@ -25,6 +25,9 @@ public class JsonAdaptedDeal {
     private final String seller;
     private final Long price;
     private final String status;
+    private final Long propertyId;
+    private final Long buyerId;
+    private final Long sellerId;
 
     /**
      * Constructs a {@code JsonAdaptedDeal} with the given deal details.
@@ -34,23 +37,47 @@ public class JsonAdaptedDeal {
                           @JsonProperty("buyer") String buyer,
                           @JsonProperty("seller") String seller,
                           @JsonProperty("price") Long price,
-                          @JsonProperty("status") String status) {
+                          @JsonProperty("status") String status,
+                          @JsonProperty("propertyId") Long propertyId,
+                          @JsonProperty("buyerId") Long buyerId,
+                          @JsonProperty("sellerId") Long sellerId) {
         this.propertyName = propertyName;
         this.buyer = buyer;
         this.seller = seller;
         this.price = price;
         this.status = status;
+        this.propertyId = propertyId;
+        this.buyerId = buyerId;
+        this.sellerId = sellerId;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedDeal} with the given deal details and no stored ids.
+     */
+    public JsonAdaptedDeal(String propertyName, String buyer, String seller, Long price, String status) {
+        this(propertyName, buyer, seller, price, status, null, null, null);
     }
 
     /**
      * Converts a given {@code Deal} into this class for Jackson use.
      */
     public JsonAdaptedDeal(Deal source) {
+        this(source, null, null, null);
+    }
+
+    /**
+     * Converts a given {@code Deal}, whose property, buyer and seller are identified by the given ids,
+     * into this class for Jackson use.
+     */
+    public JsonAdaptedDeal(Deal source, Long propertyId, Long buyerId, Long sellerId) {
         propertyName = source.getPropertyName().toString();
         buyer = source.getBuyer().toString();
         seller = source.getSeller().toString();
         price = source.getPrice().value;
         status = source.getStatus().name();
+        this.propertyId = propertyId;
+        this.buyerId = buyerId;
+        this.sellerId = sellerId;
     }
 
     /**
@@ -59,6 +86,17 @@ public class JsonAdaptedDeal {
      * @throws IllegalValueException if there were any data constraints violated in the adapted deal.
      */
     public Deal toModelType() throws IllegalValueException {
+        return toModelType(new JsonReferences());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted deal object into the model's {@code Deal} object,
+     * taking the names of the property, buyer and seller from the entries in {@code references}
+     * with the stored ids, where there are such entries.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted deal.
+     */
+    public Deal toModelType(JsonReferences references) throws IllegalValueException {
         // Property Name
         if (propertyName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Property Name"));
@@ -66,7 +104,7 @@ public class JsonAdaptedDeal {
         if (!PropertyName.isValidPropertyName(propertyName)) {
             throw new IllegalValueException(INVALID_NAME_MESSAGE);
         }
-        PropertyName modelPropertyName = new PropertyName(propertyName);
+        PropertyName modelPropertyName = references.resolvePropertyName(propertyId, new PropertyName(propertyName));
 
         // Buyer
         if (buyer == null) {
@@ -75,7 +113,7 @@ public class JsonAdaptedDeal {
         if (!ClientName.isValidClientName(buyer)) {
             throw new IllegalValueException(INVALID_NAME_MESSAGE);
         }
-        ClientName modelBuyer = new ClientName(buyer);
+        ClientName modelBuyer = references.resolveClientName(buyerId, new ClientName(buyer));
 
         // Seller
         if (seller == null) {
@@ -84,7 +122,7 @@ public class JsonAdaptedDeal {
         if (!ClientName.isValidClientName(seller)) {
             throw new IllegalValueException(INVALID_NAME_MESSAGE);
         }
-        ClientName modelSeller = new ClientName(seller);
+        ClientName modelSeller = references.resolveClientName(sellerId, new ClientName(seller));
 
         // Price
         if (price == null) {
@@ -131,6 +169,9 @@ public class JsonAdaptedDeal {
                 && java.util.Objects.equals(buyer, otherDeal.buyer)
                 && java.util.Objects.equals(seller, otherDeal.seller)
                 && java.util.Objects.equals(price, otherDeal.price)
-                && java.util.Objects.equals(status, otherDeal.status);
+                && java.util.Objects.equals(status, otherDeal.status)
+                && java.util.Objects.equals(propertyId, otherDeal.propertyId)
+                && java.util.Objects.equals(buyerId, otherDeal.buyerId)
+                && java.util.Objects.equals(sellerId, otherDeal.sellerId);
     }
 }
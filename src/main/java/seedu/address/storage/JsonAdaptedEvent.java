@@ -24,6 +24,8 @@ public class JsonAdaptedEvent {
     private final String propertyName;
     private final String clientName;
     private final String note;
+    private final Long propertyId;
+    private final Long clientId;
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
@@ -33,23 +35,44 @@ public class JsonAdaptedEvent {
                             @JsonProperty("eventType") String eventType,
                             @JsonProperty("propertyName") String propertyName,
                             @JsonProperty("clientName") String clientName,
-                            @JsonProperty("note") String note) {
+                            @JsonProperty("note") String note,
+                            @JsonProperty("propertyId") Long propertyId,
+                            @JsonProperty("clientId") Long clientId) {
         this.dateTime = dateTime;
         this.eventType = eventType;
         this.propertyName = propertyName;
         this.clientName = clientName;
         this.note = note;
+        this.propertyId = propertyId;
+        this.clientId = clientId;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given event details and no stored ids.
+     */
+    public JsonAdaptedEvent(String dateTime, String eventType, String propertyName, String clientName, String note) {
+        this(dateTime, eventType, propertyName, clientName, note, null, null);
     }
 
     /**
      * Converts a given {@code Event} into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        this(source, null, null);
+    }
+
+    /**
+     * Converts a given {@code Event}, whose property and client are identified by the given ids,
+     * into this class for Jackson use.
+     */
+    public JsonAdaptedEvent(Event source, Long propertyId, Long clientId) {
         dateTime = source.getDateTime().toString();
         eventType = source.getEventType().toString();
         propertyName = source.getPropertyName().toString();
         clientName = source.getClientName().toString();
         note = source.getNote().toString();
+        this.propertyId = propertyId;
+        this.clientId = clientId;
     }
 
     /**
@@ -58,6 +81,17 @@ public class JsonAdaptedEvent {
      * @throws IllegalValueException if any data constraints were violated in the adapted event.
      */
     public Event toModelType() throws IllegalValueException {
+        return toModelType(new JsonReferences());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object,
+     * taking the names of the client and property from the entries in {@code references}
+     * with the stored ids, where there are such entries.
+     *
+     * @throws IllegalValueException if any data constraints were violated in the adapted event.
+     */
+    public Event toModelType(JsonReferences references) throws IllegalValueException {
         if (dateTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Date & Time"));
         }
@@ -82,14 +116,14 @@ public class JsonAdaptedEvent {
         if (!ClientName.isValidClientName(clientName)) {
             throw new IllegalValueException(ClientName.MESSAGE_CONSTRAINTS);
         }
-        ClientName modelClientName = new ClientName(clientName);
+        ClientName modelClientName = references.resolveClientName(clientId, new ClientName(clientName));
         if (propertyName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Property Name"));
         }
         if (!PropertyName.isValidPropertyName(propertyName)) {
             throw new IllegalValueException(PropertyName.MESSAGE_CONSTRAINTS);
         }
-        PropertyName modelPropertyName = new PropertyName(propertyName);
+        PropertyName modelPropertyName = references.resolvePropertyName(propertyId, new PropertyName(propertyName));
         if (note == null || note.isEmpty()) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Note"));
         }
@@ -27,6 +27,8 @@ public class JsonAdaptedProperty {
     private final String size;
     private final String description;
     private final String owner;
+    private final Long id;
+    private final Long ownerId;
 
     /**
      * Constructs a {@code JsonAdaptedProperty} with the given property details.
@@ -36,25 +38,45 @@ public class JsonAdaptedProperty {
                                @JsonProperty("address") String address,
                                @JsonProperty("price") Long price, @JsonProperty("size") String size,
                                @JsonProperty("description") String description,
-                               @JsonProperty("owner") String owner) {
+                               @JsonProperty("owner") String owner,
+                               @JsonProperty("id") Long id, @JsonProperty("ownerId") Long ownerId) {
         this.propertyName = propertyName;
         this.address = address;
         this.price = price;
         this.size = size;
         this.description = description;
         this.owner = owner;
+        this.id = id;
+        this.ownerId = ownerId;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedProperty} with the given property details and no stored ids.
+     */
+    public JsonAdaptedProperty(String propertyName, String address, Long price, String size, String description,
+                               String owner) {
+        this(propertyName, address, price, size, description, owner, null, null);
     }
 
     /**
      * Converts a given {@code Property} into this class for Jackson use.
      */
     public JsonAdaptedProperty(Property source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Property}, whose owner is identified by {@code ownerId}, into this class for Jackson use.
+     */
+    public JsonAdaptedProperty(Property source, Long ownerId) {
         propertyName = source.getFullName().fullName;
         address = source.getAddress().value;
         price = source.getPrice().value;
         size = source.getSize().map(s -> s.value).orElse(null);
         description = source.getDescription().map(d -> d.description).orElse(null);
         owner = source.getOwner().fullName;
+        id = JsonReferenceUtil.toJsonId(source.getId());
+        this.ownerId = ownerId;
     }
 
     /**
@@ -63,6 +85,16 @@ public class JsonAdaptedProperty {
      * @throws IllegalValueException if there were any data constraints violated in the adapted property.
      */
     public Property toModelType() throws IllegalValueException {
+        return toModelType(new JsonReferences());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted property object into the model's {@code Property} object,
+     * taking the owner's name from the client in {@code references} with the stored owner id, if there is one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted property.
+     */
+    public Property toModelType(JsonReferences references) throws IllegalValueException {
         if (propertyName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     PropertyName.class.getSimpleName()));
@@ -101,8 +133,10 @@ public class JsonAdaptedProperty {
         if (!ClientName.isValidClientName(owner)) {
             throw new IllegalValueException(ClientName.MESSAGE_CONSTRAINTS);
         }
-        final ClientName modelClientName = new ClientName(owner);
+        final ClientName modelClientName = references.resolveClientName(ownerId, new ClientName(owner));
 
-        return new Property(modelPropertyName, modelAddress, modelPrice, modelSize, modelDescription, modelClientName);
+        final Property modelProperty = new Property(modelPropertyName, modelAddress, modelPrice, modelSize,
+                modelDescription, modelClientName);
+        return JsonReferenceUtil.toModelId(id).map(modelProperty::withId).orElse(modelProperty);
     }
 }
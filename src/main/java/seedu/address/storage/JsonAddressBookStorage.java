@@ -10,27 +10,50 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TextIndexSnapshot;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The full-text indexes of the data are kept in a sidecar file beside it, so that they need not be rebuilt every time
+ * the data is read.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private volatile boolean isDataFileCurrent;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which is indented over many lines for easier editing
+     * if {@code isPrettyPrinted}, or else written on a single line, which is smaller and faster to save.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the sidecar file holding the full-text indexes, beside the data file.
+     */
+    public Path getTextIndexFilePath() {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return filePath.resolveSibling(baseName + ".textindex.json");
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,8 +68,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
+        Optional<JsonSerializableAddressBook> jsonAddressBook = readJsonAddressBook(filePath);
         if (!jsonAddressBook.isPresent()) {
             return Optional.empty();
         }
@@ -59,11 +81,40 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    /**
+     * Returns the data at {@code filePath} as read from JSON, before it is converted to the model.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     */
+    Optional<JsonSerializableAddressBook> readJsonAddressBook(Path filePath) throws DataLoadingException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class);
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // The whole address book is written on every save, so there are no changes to keep track of.
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        isDataFileCurrent = false;
+        return new AddressBookSnapshot(addressBook);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void checkpointAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        // Every save already writes the whole address book, so only a book that has changed since needs writing.
+        if (!isDataFileCurrent) {
+            saveAddressBook(addressBook, filePath);
+        }
+    }
+
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
      *
@@ -73,8 +124,36 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        boolean isDataFile = filePath.equals(this.filePath);
+        if (isDataFile) {
+            isDataFileCurrent = false;
+        }
+        JsonUtil.saveJsonFile(new JsonWritableAddressBook(addressBook), filePath, isPrettyPrinted);
+        if (isDataFile) {
+            isDataFileCurrent = true;
+        }
+    }
+
+    @Override
+    public Optional<TextIndexSnapshot> readTextIndexes(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        requireNonNull(addressBook);
+
+        Path textIndexFilePath = getTextIndexFilePath();
+        Optional<TextIndexSnapshot> snapshot = JsonUtil.readJsonFile(textIndexFilePath,
+                JsonSerializableTextIndexes.class).flatMap(jsonTextIndexes -> jsonTextIndexes.toModelType(addressBook));
+        if (snapshot.isEmpty()) {
+            logger.info("No up-to-date full-text indexes found in " + textIndexFilePath);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void saveTextIndexes(ReadOnlyAddressBook addressBook, TextIndexSnapshot snapshot) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(snapshot);
+
+        Path textIndexFilePath = getTextIndexFilePath();
+        JsonUtil.saveJsonFile(new JsonSerializableTextIndexes(addressBook, snapshot), textIndexFilePath, false);
     }
 
 }
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * Jackson-friendly record of the changes made to the lists of an AddressBook between two saves, in the order they
+ * were made.
+ * References to clients and properties are stored by name only, as the entries named are changed in the same order
+ * when the record is replayed.
+ */
+class JsonJournalEntry {
+
+    private final List<JsonListSplice<JsonAdaptedClient>> clients = new ArrayList<>();
+    private final List<JsonListSplice<JsonAdaptedProperty>> properties = new ArrayList<>();
+    private final List<JsonListSplice<JsonAdaptedDeal>> deals = new ArrayList<>();
+    private final List<JsonListSplice<JsonAdaptedEvent>> events = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given changes to each list.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("clients") List<JsonListSplice<JsonAdaptedClient>> clients,
+            @JsonProperty("properties") List<JsonListSplice<JsonAdaptedProperty>> properties,
+            @JsonProperty("deals") List<JsonListSplice<JsonAdaptedDeal>> deals,
+            @JsonProperty("events") List<JsonListSplice<JsonAdaptedEvent>> events) {
+        if (clients != null) {
+            this.clients.addAll(clients);
+        }
+        if (properties != null) {
+            this.properties.addAll(properties);
+        }
+        if (deals != null) {
+            this.deals.addAll(deals);
+        }
+        if (events != null) {
+            this.events.addAll(events);
+        }
+    }
+
+    /**
+     * Converts the given changes to the model's lists into this class for Jackson use.
+     */
+    public static JsonJournalEntry fromChanges(List<JsonListSplice<Client>> clientChanges,
+            List<JsonListSplice<Property>> propertyChanges, List<JsonListSplice<Deal>> dealChanges,
+            List<JsonListSplice<Event>> eventChanges) {
+        return new JsonJournalEntry(
+                clientChanges.stream().map(change -> change.map(JsonAdaptedClient::new)).toList(),
+                propertyChanges.stream().map(change -> change.map(JsonAdaptedProperty::new)).toList(),
+                dealChanges.stream().map(change -> change.map(JsonAdaptedDeal::new)).toList(),
+                eventChanges.stream().map(change -> change.map(JsonAdaptedEvent::new)).toList());
+    }
+
+    /**
+     * Returns true if no changes were recorded.
+     */
+    public boolean isEmpty() {
+        return clients.isEmpty() && properties.isEmpty() && deals.isEmpty() && events.isEmpty();
+    }
+
+    /**
+     * Adds the changes recorded in {@code laterEntry}, which were made after those recorded here, to this record.
+     */
+    public void append(JsonJournalEntry laterEntry) {
+        clients.addAll(laterEntry.clients);
+        properties.addAll(laterEntry.properties);
+        deals.addAll(laterEntry.deals);
+        events.addAll(laterEntry.events);
+    }
+
+    /**
+     * Makes the recorded changes to the given lists of an address book read from JSON.
+     *
+     * @throws IllegalValueException if some change does not fit within its list.
+     */
+    public void applyTo(List<JsonAdaptedClient> clientList, List<JsonAdaptedProperty> propertyList,
+            List<JsonAdaptedDeal> dealList, List<JsonAdaptedEvent> eventList) throws IllegalValueException {
+        applyAll(clients, clientList);
+        applyAll(properties, propertyList);
+        applyAll(deals, dealList);
+        applyAll(events, eventList);
+    }
+
+    private static <T> void applyAll(List<JsonListSplice<T>> changes, List<T> list) throws IllegalValueException {
+        for (JsonListSplice<T> change : changes) {
+            change.applyTo(list);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of one change to a list: {@code removed} elements taken out at {@code from}, and
+ * {@code added} put in their place.
+ *
+ * @param <T> The type of the elements added.
+ */
+class JsonListSplice<T> {
+
+    public static final String MESSAGE_OUT_OF_BOUNDS = "Journaled change at %1$d removing %2$d entries does not fit a "
+            + "list of %3$d entries.";
+
+    private final int from;
+    private final int removed;
+    private final List<T> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonListSplice} with the given details.
+     */
+    @JsonCreator
+    public JsonListSplice(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<T> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Returns this change with every added element converted by {@code converter}.
+     */
+    public <R> JsonListSplice<R> map(Function<? super T, ? extends R> converter) {
+        requireNonNull(converter);
+        return new JsonListSplice<>(from, removed, added.stream().<R>map(converter).toList());
+    }
+
+    /**
+     * Returns the number of elements added.
+     */
+    public int getAddedCount() {
+        return added.size();
+    }
+
+    /**
+     * Makes this change to {@code list}.
+     *
+     * @throws IllegalValueException if the change does not fit within {@code list}.
+     */
+    public void applyTo(List<T> list) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_BOUNDS, from, removed, list.size()));
+        }
+        list.subList(from, from + removed).clear();
+        list.addAll(from, added);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.commons.Id;
+
+/**
+ * Converts the {@code Id}s of clients and properties to and from their JSON form.
+ * Files written before identifiers were stored have no ids.
+ */
+class JsonReferenceUtil {
+
+    private JsonReferenceUtil() {} // prevents instantiation
+
+    /**
+     * Returns the stored form of {@code id}, or null if there is none.
+     */
+    static Long toJsonId(Optional<Id> id) {
+        return id.map(value -> value.value).orElse(null);
+    }
+
+    /**
+     * Converts a stored identifier into an {@code Id}, or an empty {@code Optional} if none was stored.
+     *
+     * @throws IllegalValueException if the stored identifier is not valid.
+     */
+    static Optional<Id> toModelId(Long id) throws IllegalValueException {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (!Id.isValidId(id)) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
+        return Optional.of(new Id(id));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.commons.Id;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+
+/**
+ * The names of the clients and properties read so far from a data file, by their stored ids,
+ * used to resolve the id references of the entries read after them.
+ * It only lives while a file is converted to the model; the model itself refers to clients and properties by name.
+ */
+class JsonReferences {
+
+    private final Map<Id, ClientName> clientNames = new HashMap<>();
+    private final Map<Id, PropertyName> propertyNames = new HashMap<>();
+
+    /**
+     * Records the name of {@code client} under its id, if it has one.
+     * Returns false if another client was already recorded under that id.
+     */
+    boolean addClient(Client client) {
+        return client.getId().map(id -> clientNames.putIfAbsent(id, client.getFullName()) == null).orElse(true);
+    }
+
+    /**
+     * Records the name of {@code property} under its id, if it has one.
+     * Returns false if another property was already recorded under that id.
+     */
+    boolean addProperty(Property property) {
+        return property.getId().map(id -> propertyNames.putIfAbsent(id, property.getFullName()) == null)
+                .orElse(true);
+    }
+
+    /**
+     * Returns the name of the client recorded under {@code clientId}, or {@code storedName} if there is none.
+     *
+     * @throws IllegalValueException if {@code clientId} is not valid.
+     */
+    ClientName resolveClientName(Long clientId, ClientName storedName) throws IllegalValueException {
+        return JsonReferenceUtil.toModelId(clientId).map(clientNames::get).orElse(storedName);
+    }
+
+    /**
+     * Returns the name of the property recorded under {@code propertyId}, or {@code storedName} if there is none.
+     *
+     * @throws IllegalValueException if {@code propertyId} is not valid.
+     */
+    PropertyName resolvePropertyName(Long propertyId, PropertyName storedName) throws IllegalValueException {
+        return JsonReferenceUtil.toModelId(propertyId).map(propertyNames::get).orElse(storedName);
+    }
+}
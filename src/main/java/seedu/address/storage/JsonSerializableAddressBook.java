@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -11,12 +14,15 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
 import seedu.address.model.event.Event;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 
 /**
- * An Immutable AddressBook that is serializable to JSON format.
+ * An AddressBook that is serializable to JSON format, to which journaled changes can be replayed before it is
+ * converted to the model.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -25,11 +31,15 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PROPERTY = "Property list contains duplicate properties.";
     public static final String MESSAGE_DUPLICATE_DEAL = "Deal list contains duplicate deal(s).";
     public static final String MESSAGE_DUPLICATE_EVENT = "Event list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_CLIENT_ID = "Client list contains duplicate id(s).";
+    public static final String MESSAGE_DUPLICATE_PROPERTY_ID = "Property list contains duplicate id(s).";
 
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
     private final List<JsonAdaptedProperty> properties = new ArrayList<>();
     private final List<JsonAdaptedDeal> deals = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    @JsonIgnore
+    private boolean isModelInStoredOrder;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given clients, properties, deals and events.
@@ -51,56 +61,107 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * References to clients and properties are stored with the ids of the entries they name.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        Map<ClientName, Long> clientIds = new HashMap<>();
+        for (Client client : source.getClientList()) {
+            clientIds.put(client.getFullName(), JsonReferenceUtil.toJsonId(client.getId()));
+        }
+        Map<PropertyName, Long> propertyIds = new HashMap<>();
+        for (Property property : source.getPropertyList()) {
+            propertyIds.put(property.getFullName(), JsonReferenceUtil.toJsonId(property.getId()));
+        }
+
         clients.addAll(source.getClientList().stream().map(JsonAdaptedClient::new).toList());
-        properties.addAll(source.getPropertyList().stream().map(JsonAdaptedProperty::new).toList());
-        deals.addAll(source.getDealList().stream().map(JsonAdaptedDeal::new).toList());
-        events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).toList());
+        properties.addAll(source.getPropertyList().stream()
+                .map(property -> new JsonAdaptedProperty(property, clientIds.get(property.getOwner())))
+                .toList());
+        deals.addAll(source.getDealList().stream()
+                .map(deal -> new JsonAdaptedDeal(deal, propertyIds.get(deal.getPropertyName()),
+                        clientIds.get(deal.getBuyer()), clientIds.get(deal.getSeller())))
+                .toList());
+        events.addAll(source.getEventList().stream()
+                .map(event -> new JsonAdaptedEvent(event, propertyIds.get(event.getPropertyName()),
+                        clientIds.get(event.getClientName())))
+                .toList());
+    }
+
+    /**
+     * Makes the changes recorded in {@code entry} to the lists of this address book.
+     *
+     * @throws IllegalValueException if some change does not fit within its list.
+     */
+    void applyJournalEntry(JsonJournalEntry entry) throws IllegalValueException {
+        entry.applyTo(clients, properties, deals, events);
+    }
+
+    /**
+     * Returns true if the last conversion by {@link #toModelType()} kept every entry at its stored position and every
+     * client and property with its stored id, so that the model's lists line up with this address book's.
+     */
+    boolean isModelInStoredOrder() {
+        return isModelInStoredOrder;
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Clients and properties without a stored id, as written by earlier versions, are given a new one.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        JsonReferences references = new JsonReferences();
+        boolean isInStoredOrder = true;
 
         for (JsonAdaptedClient jsonAdaptedClient : clients) {
             Client client = jsonAdaptedClient.toModelType();
             if (addressBook.hasClient(client)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
             }
+            if (!references.addClient(client)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT_ID);
+            }
+            isInStoredOrder &= client.getId().isPresent();
             addressBook.addClient(client);
         }
 
         for (JsonAdaptedProperty jsonAdaptedProperty : properties) {
-            Property property = jsonAdaptedProperty.toModelType();
+            Property property = jsonAdaptedProperty.toModelType(references);
             if (addressBook.hasProperty(property)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PROPERTY);
             }
+            if (!references.addProperty(property)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PROPERTY_ID);
+            }
+            isInStoredOrder &= property.getId().isPresent();
             addressBook.addProperty(property);
         }
 
         for (JsonAdaptedDeal jsonAdaptedDeal : deals) {
-            Deal deal = jsonAdaptedDeal.toModelType();
+            Deal deal = jsonAdaptedDeal.toModelType(references);
             if (addressBook.hasDeal(deal)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_DEAL);
             }
             addressBook.addDeal(deal);
         }
 
+        Event previous = null;
         for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
+            Event event = jsonAdaptedEvent.toModelType(references);
             if (addressBook.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
             }
             addressBook.addEvent(event);
+            // An event earlier than the one before it is sorted into place, away from its stored position.
+            isInStoredOrder &= previous == null || previous.compareTo(event) <= 0;
+            previous = event;
         }
 
+        isModelInStoredOrder = isInStoredOrder;
         return addressBook;
     }
 }
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TextIndexSnapshot;
+import seedu.address.model.property.Description;
+import seedu.address.model.util.TextIndex;
+
+/**
+ * The full-text indexes of an AddressBook, serializable to JSON format, along with fingerprints of the notes and
+ * descriptions they were taken of.
+ */
+@JsonRootName(value = "textindexes")
+class JsonSerializableTextIndexes {
+
+    private final long eventNoteFingerprint;
+    private final List<Map<String, Integer>> eventNoteTermCounts = new ArrayList<>();
+    private final long propertyDescriptionFingerprint;
+    private final List<Map<String, Integer>> propertyDescriptionTermCounts = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableTextIndexes} with the given fingerprints and term counts.
+     */
+    @JsonCreator
+    public JsonSerializableTextIndexes(@JsonProperty("eventNoteFingerprint") long eventNoteFingerprint,
+            @JsonProperty("eventNoteTermCounts") List<Map<String, Integer>> eventNoteTermCounts,
+            @JsonProperty("propertyDescriptionFingerprint") long propertyDescriptionFingerprint,
+            @JsonProperty("propertyDescriptionTermCounts") List<Map<String, Integer>> propertyDescriptionTermCounts) {
+        this.eventNoteFingerprint = eventNoteFingerprint;
+        this.propertyDescriptionFingerprint = propertyDescriptionFingerprint;
+        if (eventNoteTermCounts != null) {
+            this.eventNoteTermCounts.addAll(eventNoteTermCounts);
+        }
+        if (propertyDescriptionTermCounts != null) {
+            this.propertyDescriptionTermCounts.addAll(propertyDescriptionTermCounts);
+        }
+    }
+
+    /**
+     * Converts {@code snapshot}, the contents of the full-text indexes of {@code addressBook}, for Jackson use.
+     */
+    public JsonSerializableTextIndexes(ReadOnlyAddressBook addressBook, TextIndexSnapshot snapshot) {
+        eventNoteFingerprint = eventNoteFingerprintOf(addressBook);
+        eventNoteTermCounts.addAll(snapshot.getEventNoteTermCounts());
+        propertyDescriptionFingerprint = propertyDescriptionFingerprintOf(addressBook);
+        propertyDescriptionTermCounts.addAll(snapshot.getPropertyDescriptionTermCounts());
+    }
+
+    /**
+     * Converts these indexes into the model's {@code TextIndexSnapshot} object, or returns an empty {@code Optional}
+     * if they were not taken of the notes and descriptions of {@code addressBook}.
+     */
+    public Optional<TextIndexSnapshot> toModelType(ReadOnlyAddressBook addressBook) {
+        boolean isWellFormed = isWellFormed(eventNoteTermCounts) && isWellFormed(propertyDescriptionTermCounts)
+                && eventNoteTermCounts.size() == addressBook.getEventList().size()
+                && propertyDescriptionTermCounts.size() == addressBook.getPropertyList().size();
+        if (!isWellFormed
+                || eventNoteFingerprint != eventNoteFingerprintOf(addressBook)
+                || propertyDescriptionFingerprint != propertyDescriptionFingerprintOf(addressBook)) {
+            return Optional.empty();
+        }
+        return Optional.of(new TextIndexSnapshot(eventNoteTermCounts, propertyDescriptionTermCounts));
+    }
+
+    private static boolean isWellFormed(List<Map<String, Integer>> termCountsByPosition) {
+        return termCountsByPosition.stream().allMatch(counts -> counts != null && counts.entrySet().stream()
+                .allMatch(entry -> entry.getKey() != null && entry.getValue() != null && entry.getValue() > 0));
+    }
+
+    private static long eventNoteFingerprintOf(ReadOnlyAddressBook addressBook) {
+        return TextIndex.fingerprintOf(addressBook.getEventList().stream()
+                .map(event -> event.getNote().toString())
+                .toList());
+    }
+
+    private static long propertyDescriptionFingerprintOf(ReadOnlyAddressBook addressBook) {
+        return TextIndex.fingerprintOf(addressBook.getPropertyList().stream()
+                .map(property -> property.getDescription().map(Description::toString).orElse(""))
+                .toList());
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.commons.Id;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+
+/**
+ * An AddressBook to be written to JSON straight from the lists of the model, without first converting every entry
+ * into a Jackson-friendly object.
+ * It is written in exactly the format of a {@link JsonSerializableAddressBook}, which is used to read it back, so the
+ * names and order of the fields here must be kept the same as in the {@code JsonAdapted} classes.
+ */
+@JsonSerialize(using = JsonWritableAddressBook.Serializer.class)
+class JsonWritableAddressBook {
+
+    private final ReadOnlyAddressBook source;
+
+    /**
+     * Creates a writable form of {@code source}, which must not change until it is written.
+     */
+    public JsonWritableAddressBook(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Writes the fields of each entry in turn, so that nothing is kept for an entry once it is written.
+     */
+    static class Serializer extends StdSerializer<JsonWritableAddressBook> {
+
+        Serializer() {
+            super(JsonWritableAddressBook.class);
+        }
+
+        @Override
+        public void serialize(JsonWritableAddressBook value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            ReadOnlyAddressBook source = value.source;
+            // References are stored with the ids of the entries they name, which are looked up by name.
+
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("clients");
+            for (Client client : source.getClientList()) {
+                writeClient(client, generator);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("properties");
+            for (Property property : source.getPropertyList()) {
+                writeProperty(property, clientIdOf(source, property.getOwner()), generator);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("deals");
+            for (Deal deal : source.getDealList()) {
+                writeDeal(deal, propertyIdOf(source, deal.getPropertyName()), clientIdOf(source, deal.getBuyer()),
+                        clientIdOf(source, deal.getSeller()), generator);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("events");
+            for (Event event : source.getEventList()) {
+                writeEvent(event, propertyIdOf(source, event.getPropertyName()),
+                        clientIdOf(source, event.getClientName()), generator);
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes {@code client} as a {@link JsonAdaptedClient}.
+         */
+        private static void writeClient(Client client, JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("clientName", client.getFullName().fullName);
+            generator.writeStringField("phone", client.getPhone().value);
+            generator.writeStringField("email", client.getEmail().value);
+            generator.writeStringField("address", client.getAddress().value);
+            writeIdField("id", client.getId(), generator);
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes {@code property}, whose owner has the id {@code ownerId} if it is in the address book, as a
+         * {@link JsonAdaptedProperty}.
+         */
+        private static void writeProperty(Property property, Optional<Id> ownerId, JsonGenerator generator)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("propertyName", property.getFullName().fullName);
+            generator.writeStringField("address", property.getAddress().value);
+            generator.writeNumberField("price", property.getPrice().value);
+            generator.writeStringField("size", property.getSize().map(size -> size.value).orElse(null));
+            generator.writeStringField("description",
+                    property.getDescription().map(description -> description.description).orElse(null));
+            generator.writeStringField("owner", property.getOwner().fullName);
+            writeIdField("id", property.getId(), generator);
+            writeIdField("ownerId", ownerId, generator);
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes {@code deal}, with the ids of its property, buyer and seller where they are in the address book, as a
+         * {@link JsonAdaptedDeal}.
+         */
+        private static void writeDeal(Deal deal, Optional<Id> propertyId, Optional<Id> buyerId,
+                Optional<Id> sellerId, JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("propertyName", deal.getPropertyName().toString());
+            generator.writeStringField("buyer", deal.getBuyer().toString());
+            generator.writeStringField("seller", deal.getSeller().toString());
+            generator.writeNumberField("price", deal.getPrice().value);
+            generator.writeStringField("status", deal.getStatus().name());
+            writeIdField("propertyId", propertyId, generator);
+            writeIdField("buyerId", buyerId, generator);
+            writeIdField("sellerId", sellerId, generator);
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes {@code event}, with the ids of its property and client where they are in the address book, as a
+         * {@link JsonAdaptedEvent}.
+         */
+        private static void writeEvent(Event event, Optional<Id> propertyId, Optional<Id> clientId,
+                JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("dateTime", event.getDateTime().toString());
+            generator.writeStringField("eventType", event.getEventType().toString());
+            generator.writeStringField("propertyName", event.getPropertyName().toString());
+            generator.writeStringField("clientName", event.getClientName().toString());
+            generator.writeStringField("note", event.getNote().toString());
+            writeIdField("propertyId", propertyId, generator);
+            writeIdField("clientId", clientId, generator);
+            generator.writeEndObject();
+        }
+
+        private static Optional<Id> clientIdOf(ReadOnlyAddressBook source, ClientName clientName) {
+            return source.getClient(clientName).flatMap(Client::getId);
+        }
+
+        private static Optional<Id> propertyIdOf(ReadOnlyAddressBook source, PropertyName propertyName) {
+            return source.getProperty(propertyName).flatMap(Property::getId);
+        }
+
+        /**
+         * Writes {@code id} as its stored form, or null if there is none, as {@link JsonReferenceUtil#toJsonId} does.
+         */
+        private static void writeIdField(String fieldName, Optional<Id> id, JsonGenerator generator)
+                throws IOException {
+            if (id.isPresent()) {
+                generator.writeNumberField(fieldName, id.get().value);
+            } else {
+                generator.writeNullField(fieldName);
+            }
+        }
+    }
+}
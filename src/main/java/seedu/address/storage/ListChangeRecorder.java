@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Records the changes made to an observable list since it was last drained, in the order they were made, so that
+ * they can be journaled instead of saving the whole list.
+ * Reorderings cannot be journaled; they are only noted, so that the whole list is saved instead.
+ *
+ * @param <T> The type of the elements of the list.
+ */
+class ListChangeRecorder<T> implements ListChangeListener<T> {
+
+    private final ObservableList<T> list;
+    private final List<JsonListSplice<T>> changes = new ArrayList<>();
+    private int addedCount;
+    private boolean isReordered;
+
+    /**
+     * Creates a recorder of the changes made to {@code list} from now on.
+     */
+    ListChangeRecorder(ObservableList<T> list) {
+        this.list = list;
+        list.addListener(this);
+    }
+
+    @Override
+    public void onChanged(Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                isReordered = true;
+            } else if (!change.wasUpdated()) {
+                changes.add(new JsonListSplice<>(change.getFrom(), change.getRemovedSize(),
+                        List.copyOf(change.getAddedSubList())));
+                addedCount += change.getAddedSize();
+            }
+        }
+    }
+
+    /**
+     * Returns true if the list has not changed since the changes were last drained.
+     */
+    boolean isEmpty() {
+        return changes.isEmpty() && !isReordered;
+    }
+
+    /**
+     * Returns the number of elements added by the changes recorded.
+     */
+    int getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * Returns true if the list was reordered since the changes were last drained.
+     */
+    boolean isReordered() {
+        return isReordered;
+    }
+
+    /**
+     * Returns the changes recorded, and forgets them.
+     */
+    List<JsonListSplice<T>> drain() {
+        List<JsonListSplice<T>> drainedChanges = List.copyOf(changes);
+        changes.clear();
+        addedCount = 0;
+        isReordered = false;
+        return drainedChanges;
+    }
+
+    /**
+     * Stops recording the changes made to the list.
+     */
+    void stop() {
+        list.removeListener(this);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TextIndexSnapshot;
 import seedu.address.model.UserPrefs;
 
 /**
@@ -26,7 +27,19 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
+    @Override
+    void trackAddressBook(ReadOnlyAddressBook addressBook);
+
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void checkpointAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    @Override
+    Optional<TextIndexSnapshot> readTextIndexes(ReadOnlyAddressBook addressBook) throws DataLoadingException;
+
+    @Override
+    void saveTextIndexes(ReadOnlyAddressBook addressBook, TextIndexSnapshot snapshot) throws IOException;
+
 }
@@ -9,6 +9,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TextIndexSnapshot;
 import seedu.address.model.UserPrefs;
 
 /**
@@ -64,6 +65,16 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.trackAddressBook(addressBook);
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.snapshotAddressBook(addressBook);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -75,4 +86,22 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void checkpointAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to write the whole address book to data file: " + getAddressBookFilePath());
+        addressBookStorage.checkpointAddressBook(addressBook);
+    }
+
+    @Override
+    public Optional<TextIndexSnapshot> readTextIndexes(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        logger.fine("Attempting to read full-text indexes");
+        return addressBookStorage.readTextIndexes(addressBook);
+    }
+
+    @Override
+    public void saveTextIndexes(ReadOnlyAddressBook addressBook, TextIndexSnapshot snapshot) throws IOException {
+        logger.fine("Attempting to write full-text indexes");
+        addressBookStorage.saveTextIndexes(addressBook, snapshot);
+    }
+
 }
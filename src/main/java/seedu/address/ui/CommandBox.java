@@ -3,6 +3,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
@@ -16,12 +17,14 @@ import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import javafx.util.Pair;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BackgroundSearch;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -33,6 +36,7 @@ public class CommandBox extends UiPart<Region> {
 
     private static final Map<String, List<Prefix>> AVAILABLE_COMMANDS = Command.COMMAND_WORDS;
     private final CommandExecutor commandExecutor;
+    private final LiveSearchRunner liveSearchRunner;
 
     // Context menus for suggestions and command history.
     private ContextMenu suggestionsPopup = new ContextMenu();
@@ -48,12 +52,27 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, null, 0);
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that also shows the results of searches
+     * while they are typed, preparing them with {@code searchPreparer} once the user has stopped typing for
+     * {@code liveSearchDelay} milliseconds. Live search is turned off if {@code searchPreparer} is null.
+     */
+    public CommandBox(CommandExecutor commandExecutor, SearchPreparer searchPreparer, int liveSearchDelay) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        liveSearchRunner = searchPreparer == null
+                ? null
+                : new LiveSearchRunner(searchPreparer, Duration.millis(liveSearchDelay));
         // calls #setStyleToDefault() and updates suggestions whenever there is a change.
         commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
             setStyleToDefault();
             showSuggestions(newText);
+            if (liveSearchRunner != null) {
+                liveSearchRunner.searchAfterDelay(newText);
+            }
         });
         // Add key event filter to display command history only on UP/DOWN key press when caret is at position 0.
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
@@ -77,6 +96,9 @@ public class CommandBox extends UiPart<Region> {
         }
 
         suggestionsPopup.hide();
+        if (liveSearchRunner != null) {
+            liveSearchRunner.cancel();
+        }
         try {
             // Add to command history.
             commandHistory.add(new Pair<>(commandText, false));
@@ -258,4 +280,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
 
     }
+
+    /**
+     * Represents a function that prepares the search typed so far.
+     */
+    @FunctionalInterface
+    public interface SearchPreparer {
+        /**
+         * Returns the search for {@code commandText}, or an empty {@code Optional} if it is not a search.
+         *
+         * @see seedu.address.logic.Logic#prepareLiveSearch(String)
+         */
+        Optional<BackgroundSearch> prepare(String commandText);
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.BackgroundSearch;
+import seedu.address.ui.CommandBox.SearchPreparer;
+
+/**
+ * Searches as the user types. A search starts once the user has stopped typing for the given delay, and runs on a
+ * single background thread; starting another search, or cancelling, stops the one before it, so only the result of
+ * the latest search is ever shown.
+ * All methods must be called on the application thread.
+ */
+class LiveSearchRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearchRunner.class);
+
+    private final SearchPreparer searchPreparer;
+    private final PauseTransition debounce;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private String pendingText = "";
+    private BackgroundSearch latestSearch;
+
+    /**
+     * Creates a runner that prepares its searches with {@code searchPreparer}, waiting {@code delay} after the last
+     * keystroke before starting one.
+     */
+    LiveSearchRunner(SearchPreparer searchPreparer, Duration delay) {
+        requireNonNull(searchPreparer);
+        requireNonNull(delay);
+        this.searchPreparer = searchPreparer;
+        debounce = new PauseTransition(delay);
+        debounce.setOnFinished(unused -> startSearch());
+    }
+
+    /**
+     * Searches for {@code commandText} once the user stops typing, cancelling any earlier search.
+     */
+    void searchAfterDelay(String commandText) {
+        requireNonNull(commandText);
+        cancel();
+        pendingText = commandText;
+        debounce.playFromStart();
+    }
+
+    /**
+     * Cancels the pending search and the one in progress, if any.
+     */
+    void cancel() {
+        debounce.stop();
+        if (latestSearch != null) {
+            latestSearch.cancel();
+            latestSearch = null;
+        }
+    }
+
+    private void startSearch() {
+        Optional<BackgroundSearch> preparedSearch = searchPreparer.prepare(pendingText);
+        if (preparedSearch.isEmpty()) {
+            return;
+        }
+        BackgroundSearch search = preparedSearch.get();
+        latestSearch = search;
+        executor.execute(() -> {
+            try {
+                search.run();
+            } catch (CancellationException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.warning("Live search failed: " + e);
+                return;
+            }
+            Platform.runLater(() -> showResult(search));
+        });
+    }
+
+    private void showResult(BackgroundSearch search) {
+        if (search != latestSearch) {
+            return;
+        }
+        latestSearch = null;
+        if (!search.apply() && !search.isCancelled()) {
+            // The list changed while searching, so the result may be missing or showing entries.
+            startSearch();
+        }
+    }
+}
@@ -55,6 +55,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane statusBarPlaceholder;
+
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
      */
@@ -137,9 +140,17 @@ public class MainWindow extends UiPart<Stage> {
         assert resultDisplayPlaceholder != null : "Result display placeholder must be present";
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = logic.isLiveSearchEnabled()
+                ? new CommandBox(this::executeCommand, logic::prepareLiveSearch, logic.getLiveSearchDelay())
+                : new CommandBox(this::executeCommand);
         assert commandBoxPlaceholder != null : "Command box placeholder must be present";
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.setSaveFailureHandler(resultDisplay::setFeedbackToUser);
+
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic);
+        assert statusBarPlaceholder != null : "Status bar placeholder must be present";
+        statusBarPlaceholder.getChildren().add(statusBarFooter.getRoot());
     }
 
     /**
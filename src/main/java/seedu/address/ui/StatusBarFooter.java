@@ -0,0 +1,68 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import javafx.beans.binding.Bindings;
+import javafx.collections.ListChangeListener;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.logic.Logic;
+import seedu.address.model.deal.DealStatus;
+import seedu.address.model.event.EventType;
+
+/**
+ * A ui for the status bar that is displayed at the footer of the application, showing how many deals have each
+ * status, how many events have each type, and whether the changes made have been saved.
+ */
+public class StatusBarFooter extends UiPart<Region> {
+
+    private static final String FXML = "StatusBarFooter.fxml";
+    private static final String SAVED_MESSAGE = "All changes saved";
+    private static final String UNSAVED_MESSAGE = "Unsaved changes";
+
+    private final Logic logic;
+
+    @FXML
+    private Label dealStatusCounts;
+
+    @FXML
+    private Label eventTypeCounts;
+
+    @FXML
+    private Label saveState;
+
+    /**
+     * Creates a {@code StatusBarFooter} showing the counts kept by {@code logic}, refreshed whenever the deals or
+     * events of the address book change, and whether the address book has been saved.
+     */
+    public StatusBarFooter(Logic logic) {
+        super(FXML);
+        requireNonNull(logic);
+        this.logic = logic;
+
+        ListChangeListener<Object> refresher = change -> refresh();
+        logic.getAddressBook().getDealList().addListener(refresher);
+        logic.getAddressBook().getEventList().addListener(refresher);
+        refresh();
+
+        saveState.textProperty().bind(Bindings.when(logic.addressBookSavedProperty())
+                .then(SAVED_MESSAGE)
+                .otherwise(UNSAVED_MESSAGE));
+    }
+
+    /**
+     * Shows the current counts, which are read from the indexes of the address book rather than counted here.
+     */
+    private void refresh() {
+        dealStatusCounts.setText("Deals: " + Arrays.stream(DealStatus.values())
+                .map(status -> logic.countDealsWithStatus(status) + " " + status.name().toLowerCase())
+                .collect(Collectors.joining(", ")));
+        eventTypeCounts.setText("Events: " + Arrays.stream(EventType.values())
+                .map(type -> logic.countEventsOfType(type) + " " + type.name().toLowerCase())
+                .collect(Collectors.joining(", ")));
+    }
+}
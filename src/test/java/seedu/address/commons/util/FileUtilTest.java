@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,24 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_newFile_writtenInFull() throws Exception {
+        Path file = testFolder.resolve("dir").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("failed part of the way");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,35 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordNearIgnoreCase ----------------------------------
+
+    @Test
+    public void containsWordNearIgnoreCase_emptyWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.containsWordNearIgnoreCase("typical sentence", "  ", 1));
+    }
+
+    @Test
+    public void containsWordNearIgnoreCase_validInputs_correctResult() {
+        assertFalse(StringUtil.containsWordNearIgnoreCase("", "abc", 1)); // Empty sentence
+        assertTrue(StringUtil.containsWordNearIgnoreCase("aaa bBb ccc", "BBB", 0)); // Exact word, different case
+        assertTrue(StringUtil.containsWordNearIgnoreCase("aaa bbb ccc", "bbd", 1)); // One substitution
+        assertTrue(StringUtil.containsWordNearIgnoreCase("aaa bbb ccc", "bb", 1)); // One deletion
+        assertFalse(StringUtil.containsWordNearIgnoreCase("aaa bbb ccc", "bdd", 1)); // Two edits away
+        assertTrue(StringUtil.containsWordNearIgnoreCase("aaa bbb ccc", "bdd", 2));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(0, StringUtil.editDistance("kitten", "kitten"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(2, StringUtil.editDistance("alice", "alcie")); // Transposition counts as two edits
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,18 +1,24 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.CLIENT_NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORDS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,14 +27,17 @@ import org.junit.jupiter.api.io.TempDir;
 // import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.client.AddClientCommand;
+import seedu.address.logic.commands.client.FindClientCommand;
 import seedu.address.logic.commands.client.ListClientCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
+import seedu.address.storage.BackgroundSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -37,6 +46,8 @@ import seedu.address.testutil.ClientBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_COMMAND = AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
 
     @TempDir
     public Path temporaryFolder;
@@ -83,6 +94,70 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_notSaved() throws Exception {
+        logic = new LogicManager(model, storageThrowing(DUMMY_IO_EXCEPTION));
+        assertCommandSuccess(ListClientCommand.COMMAND_WORD, ListClientCommand.MESSAGE_SUCCESS, model);
+        assertTrue(logic.addressBookSavedProperty().get());
+    }
+
+    @Test
+    public void execute_modifyingCommand_saved() throws Exception {
+        logic.execute(ADD_COMMAND);
+        assertTrue(logic.addressBookSavedProperty().get());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void execute_backgroundSaver_savedAfterCommand() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundSaver saver = new BackgroundSaver(storage, 60_000, Runnable::run);
+        logic = new LogicManager(model, storage, saver);
+
+        logic.execute(ADD_COMMAND);
+        assertFalse(logic.addressBookSavedProperty().get());
+        saver.shutdown();
+        assertTrue(logic.addressBookSavedProperty().get());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_failureReported() throws Exception {
+        StorageManager storage = storageThrowing(DUMMY_IO_EXCEPTION);
+        BackgroundSaver saver = new BackgroundSaver(storage, 0, Runnable::run);
+        logic = new LogicManager(model, storage, saver);
+        CompletableFuture<String> reportedMessage = new CompletableFuture<>();
+        logic.setSaveFailureHandler(reportedMessage::complete);
+
+        logic.execute(ADD_COMMAND);
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                reportedMessage.get(10, TimeUnit.SECONDS));
+        assertFalse(logic.addressBookSavedProperty().get());
+        saver.shutdown();
+    }
+
+    @Test
+    public void prepareLiveSearch() {
+        model.addClient(AMY);
+
+        // search of one list -> returns search
+        BackgroundSearch search = logic.prepareLiveSearch(FindClientCommand.COMMAND_WORD + " "
+                + PREFIX_KEYWORDS + "Bob").get();
+        search.run();
+        assertTrue(search.apply());
+        assertEquals(List.of(), logic.getFilteredClientList());
+
+        // not a search -> returns empty Optional
+        assertTrue(logic.prepareLiveSearch(ListClientCommand.COMMAND_WORD).isEmpty());
+
+        // search not fully typed -> returns empty Optional
+        assertTrue(logic.prepareLiveSearch(FindClientCommand.COMMAND_WORD + " " + PREFIX_KEYWORDS).isEmpty());
+        assertTrue(logic.prepareLiveSearch("find_cli").isEmpty());
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
@@ -148,9 +223,23 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, storageThrowing(e));
+
+        // Triggers the saveAddressBook method by executing an add command
+        Client expectedClient = new ClientBuilder(AMY).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addClient(expectedClient);
+        assertCommandFailure(ADD_COMMAND, CommandException.class, expectedMessage, expectedModel);
+        assertFalse(logic.addressBookSavedProperty().get());
+    }
+
+    /**
+     * Returns a Storage component that throws {@code e} when saving the address book.
+     */
+    private StorageManager storageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        // An AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -161,16 +250,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
-        Client expectedClient = new ClientBuilder(AMY).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addClient(expectedClient);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.QueryPlan;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.predicates.DealBuyerNameContainsPredicate;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.predicates.EventWithClientPredicate;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.predicates.PropertyOwnerContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindAllCommand}.
+ */
+public class FindAllCommandTest {
+
+    private final Predicate<Client> clientPredicate = new ClientNameContainsKeywordsPredicate(List.of("Alice"));
+    private final Predicate<Property> propertyPredicate = new PropertyOwnerContainsKeywordsPredicate(List.of("Alice"));
+    private final Predicate<Deal> dealPredicate = new DealBuyerNameContainsPredicate(new ClientName("Alice"));
+    private final Predicate<Event> eventPredicate = new EventWithClientPredicate(new ClientName("Alice"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindAllCommand findAllCommand =
+                new FindAllCommand(clientPredicate, propertyPredicate, dealPredicate, eventPredicate);
+
+        // same object -> returns true
+        assertTrue(findAllCommand.equals(findAllCommand));
+
+        // same values -> returns true
+        assertTrue(findAllCommand.equals(
+                new FindAllCommand(clientPredicate, propertyPredicate, dealPredicate, eventPredicate)));
+
+        // different types -> returns false
+        assertFalse(findAllCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findAllCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(findAllCommand.equals(new FindAllCommand(clientPredicate, propertyPredicate, dealPredicate,
+                new EventWithClientPredicate(new ClientName("Bob")))));
+    }
+
+    @Test
+    public void execute_keyword_filtersEveryList() {
+        expectedModel.updateFilteredClientList(clientPredicate);
+        expectedModel.updateFilteredPropertyList(propertyPredicate);
+        expectedModel.updateFilteredDealList(dealPredicate);
+        expectedModel.updateFilteredEventList(eventPredicate);
+        String expectedMessage = String.format(FindAllCommand.MESSAGE_SUCCESS,
+                expectedModel.getFilteredClientList().size(), expectedModel.getFilteredPropertyList().size(),
+                expectedModel.getFilteredDealList().size(), expectedModel.getFilteredEventList().size());
+
+        assertCommandSuccess(new FindAllCommand(clientPredicate, propertyPredicate, dealPredicate, eventPredicate),
+                model, expectedMessage, expectedModel);
+        assertEquals(QueryPlan.Operation.PARALLEL, model.getLastQueryPlan().get().getOperation());
+        assertEquals(4, model.getLastQueryPlan().get().getSteps().size());
+    }
+
+    @Test
+    public void execute_repeatedSearch_reusesCachedResults() {
+        FindAllCommand command = new FindAllCommand(clientPredicate, propertyPredicate, dealPredicate,
+                eventPredicate);
+        command.execute(model);
+        command.execute(model);
+        assertTrue(model.getLastQueryPlan().get().getSteps().stream()
+                .allMatch(step -> step.getOperation() == QueryPlan.Operation.CACHE_HIT));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindAllCommand findAllCommand =
+                new FindAllCommand(clientPredicate, propertyPredicate, dealPredicate, eventPredicate);
+        String expected = FindAllCommand.class.getCanonicalName() + "{clientPredicate=" + clientPredicate
+                + ", propertyPredicate=" + propertyPredicate + ", dealPredicate=" + dealPredicate
+                + ", eventPredicate=" + eventPredicate + "}";
+        assertEquals(expected, findAllCommand.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalProperties.JURONG;
+import static seedu.address.testutil.TypicalProperties.MAPLE;
+import static seedu.address.testutil.TypicalProperties.ORCHID;
+import static seedu.address.testutil.TypicalProperties.PUNGGOL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindTextCommand}.
+ */
+public class FindTextCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindTextCommand findTextCommand = new FindTextCommand("sea view");
+
+        // same object -> returns true
+        assertTrue(findTextCommand.equals(findTextCommand));
+
+        // same values -> returns true
+        assertTrue(findTextCommand.equals(new FindTextCommand("sea view")));
+
+        // different types -> returns false
+        assertFalse(findTextCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findTextCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findTextCommand.equals(new FindTextCommand("garden")));
+    }
+
+    @Test
+    public void execute_matchingNote_listsMatchWithScore() {
+        double score = expectedModel.findText("photos", FindTextCommand.MAX_RESULTS).get(0).getScore();
+        String expectedMessage = String.format(FindTextCommand.MESSAGE_SUCCESS, 1)
+                + String.format("\n1. Event: %s (score %.2f)", Messages.formatEvent(EVENT2), score);
+        expectedModel.updateFilteredEventList(event -> event.equals(EVENT2));
+        expectedModel.updateFilteredPropertyList(property -> false);
+        assertCommandSuccess(new FindTextCommand("photos"), model, expectedMessage, expectedModel);
+        assertEquals(List.of(EVENT2), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_equalScores_listsInListOrder() {
+        new FindTextCommand("spacious").execute(model);
+        assertEquals(List.of(MAPLE, ORCHID, JURONG, PUNGGOL), model.getFilteredPropertyList());
+        assertEquals(List.of(), model.getFilteredEventList());
+
+        String message = new FindTextCommand("spacious").execute(model).getFeedbackToUser();
+        assertTrue(message.indexOf(MAPLE.getFullName().toString()) < message.indexOf(PUNGGOL.getFullName().toString()));
+    }
+
+    @Test
+    public void execute_noMatches_listsNothing() {
+        expectedModel.updateFilteredEventList(event -> false);
+        expectedModel.updateFilteredPropertyList(property -> false);
+        assertCommandSuccess(new FindTextCommand("garden"), model, FindTextCommand.MESSAGE_NO_MATCHES, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindTextCommand findTextCommand = new FindTextCommand("sea view");
+        String expected = FindTextCommand.class.getCanonicalName() + "{query=sea view}";
+        assertEquals(expected, findTextCommand.toString());
+    }
+}
@@ -1,18 +1,28 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.BackgroundSearch;
 import seedu.address.model.Model;
+import seedu.address.model.QueryPlan;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TextIndexSnapshot;
+import seedu.address.model.TextMatch;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 
 /**
  * A default model stub that have all the methods failing.
@@ -177,4 +187,115 @@ public class ModelStub implements Model {
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateAllFilteredLists(Predicate<Client> clientPredicate, Predicate<Property> propertyPredicate,
+            Predicate<Deal> dealPredicate, Predicate<Event> eventPredicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public BackgroundSearch prepareClientSearch(Predicate<Client> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public BackgroundSearch preparePropertySearch(Predicate<Property> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public BackgroundSearch prepareDealSearch(Predicate<Deal> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public BackgroundSearch prepareEventSearch(Predicate<Event> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<QueryPlan> getLastQueryPlan() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countDealsWithStatus(DealStatus status) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countEventsOfType(EventType type) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<TextMatch> findText(String query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public TextIndexSnapshot getTextIndexSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void restoreTextIndexes(TextIndexSnapshot snapshot) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void renameClient(ClientName oldName, ClientName newName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void renameProperty(PropertyName oldName, PropertyName newName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Deal> getDealsInvolving(ClientName clientName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Deal> getDealsInvolving(PropertyName propertyName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsInvolving(ClientName clientName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsInvolving(PropertyName propertyName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Property> getPropertiesOwnedBy(ClientName clientName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getFilteredDealIndex(Deal deal) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getFilteredEventIndex(Event event) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getFilteredPropertyIndex(Property property) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -99,7 +99,8 @@ public class FindClientCommandTest {
         ClientNameContainsKeywordsPredicate predicate =
             new ClientNameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindClientCommand findCommand = new FindClientCommand(predicate);
-        String expected = FindClientCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindClientCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", shouldExplain=false}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -247,6 +248,11 @@ public class AddDealCommandTest {
             return this.deal.isSameDeal(deal);
         }
 
+        @Override
+        public List<Deal> getDealsInvolving(PropertyName propertyName) {
+            return deal.getPropertyName().equals(propertyName) ? List.of(deal) : List.of();
+        }
+
         @Override
         public ObservableList<Deal> getFilteredDealList() {
             ArrayList<Deal> deals = new ArrayList<>();
@@ -254,6 +260,11 @@ public class AddDealCommandTest {
             return FXCollections.observableList(deals);
         }
 
+        @Override
+        public int getFilteredDealIndex(Deal deal) {
+            return this.deal.equals(deal) ? 0 : -1;
+        }
+
         public void addClient(Client client) {
             clients.add(client);
         }
@@ -288,11 +299,21 @@ public class AddDealCommandTest {
             properties.add(property);
         }
 
+        @Override
+        public List<Deal> getDealsInvolving(PropertyName propertyName) {
+            return List.of();
+        }
+
         @Override
         public ObservableList<Deal> getFilteredDealList() {
             return FXCollections.observableList(new ArrayList<>());
         }
 
+        @Override
+        public int getFilteredDealIndex(Deal deal) {
+            return -1;
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             return FXCollections.observableList(properties);
@@ -331,6 +352,11 @@ public class AddDealCommandTest {
             return this.deal.isSameDeal(deal);
         }
 
+        @Override
+        public List<Deal> getDealsInvolving(PropertyName propertyName) {
+            return deal.getPropertyName().equals(propertyName) ? List.of(deal) : List.of();
+        }
+
         @Override
         public ObservableList<Deal> getFilteredDealList() {
             ArrayList<Deal> deals = new ArrayList<>();
@@ -338,6 +364,11 @@ public class AddDealCommandTest {
             return FXCollections.observableList(deals);
         }
 
+        @Override
+        public int getFilteredDealIndex(Deal deal) {
+            return this.deal.equals(deal) ? 0 : -1;
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             return FXCollections.observableList(properties);
@@ -377,11 +408,21 @@ public class AddDealCommandTest {
             properties.add(property);
         }
 
+        @Override
+        public List<Deal> getDealsInvolving(PropertyName propertyName) {
+            return dealsAdded.stream().filter(d -> d.getPropertyName().equals(propertyName)).toList();
+        }
+
         @Override
         public ObservableList<Deal> getFilteredDealList() {
             return FXCollections.observableList(dealsAdded);
         }
 
+        @Override
+        public int getFilteredDealIndex(Deal deal) {
+            return dealsAdded.indexOf(deal);
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             return FXCollections.observableList(properties);
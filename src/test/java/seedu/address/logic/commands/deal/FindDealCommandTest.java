@@ -60,6 +60,9 @@ public class FindDealCommandTest {
 
         // different predicate -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different explain flag -> returns false
+        assertFalse(findFirstCommand.equals(new FindDealCommand(firstPredicate, true)));
     }
 
     @Test
@@ -153,11 +156,23 @@ public class FindDealCommandTest {
         assertEquals(Arrays.asList(DEAL1), model.getFilteredDealList());
     }
 
+    @Test
+    public void execute_explain_showsPlan() {
+        DealStatusPredicate statusPredicate = new DealStatusPredicate(DealStatus.PENDING);
+        FindDealCommand command = new FindDealCommand(statusPredicate, true);
+        expectedModel.updateFilteredDealList(statusPredicate);
+        String expectedMessage = String.format(MESSAGE_DEALS_LISTED_OVERVIEW, 2) + "\n"
+                + expectedModel.getLastQueryPlan().get();
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertTrue(expectedMessage.endsWith("actual rows: 2"));
+    }
+
     @Test
     public void toStringMethod() {
         DealPropertyNameContainsPredicate predicate = preparePropertyNamePredicate("Villa");
         FindDealCommand command = new FindDealCommand(predicate);
-        String expected = FindDealCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindDealCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", shouldExplain=false}";
         assertEquals(expected, command.toString());
     }
 
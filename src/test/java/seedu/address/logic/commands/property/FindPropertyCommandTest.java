@@ -79,7 +79,8 @@ public class FindPropertyCommandTest {
         PropertyNameContainsKeywordsPredicate predicate = new PropertyNameContainsKeywordsPredicate(Arrays
                 .asList("Maple"));
         FindPropertyCommand findPropertyCommand = new FindPropertyCommand(predicate);
-        String expected = FindPropertyCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindPropertyCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", shouldExplain=false}";
         assertEquals(expected, findPropertyCommand.toString());
     }
 
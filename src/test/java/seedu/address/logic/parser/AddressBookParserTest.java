@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindAllCommand;
+import seedu.address.logic.commands.FindTextCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAllCommand;
 import seedu.address.logic.commands.client.AddClientCommand;
@@ -77,6 +79,17 @@ public class AddressBookParserTest {
         assertEquals(new FindClientCommand(new ClientNameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findAll() throws Exception {
+        assertTrue(parser.parseCommand(FindAllCommand.COMMAND_WORD + " alice") instanceof FindAllCommand);
+    }
+
+    @Test
+    public void parseCommand_findText() throws Exception {
+        assertEquals(new FindTextCommand("sea view"),
+                parser.parseCommand(FindTextCommand.COMMAND_WORD + " sea view"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
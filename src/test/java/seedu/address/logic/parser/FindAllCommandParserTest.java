@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindAllCommand;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
+import seedu.address.model.commons.CombinedPredicate;
+import seedu.address.model.commons.CombinedPredicate.Connective;
+import seedu.address.model.deal.predicates.DealBuyerNameContainsPredicate;
+import seedu.address.model.deal.predicates.DealPropertyNameContainsPredicate;
+import seedu.address.model.deal.predicates.DealSellerNameContainsPredicate;
+import seedu.address.model.event.predicates.EventAboutPropertyPredicate;
+import seedu.address.model.event.predicates.EventWithClientPredicate;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.property.predicates.PropertyNameContainsKeywordsPredicate;
+import seedu.address.model.property.predicates.PropertyOwnerContainsKeywordsPredicate;
+
+public class FindAllCommandParserTest {
+
+    private final FindAllCommandParser parser = new FindAllCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAllCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidKeywords_throwsParseException() {
+        // neither a client name nor a property name
+        assertParseFailure(parser, "alice#",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAllCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindAllCommand() {
+        List<String> keywords = List.of("Alice", "Maple");
+        ClientName clientName = new ClientName("Alice Maple");
+        PropertyName propertyName = new PropertyName("Alice Maple");
+        FindAllCommand expectedCommand = new FindAllCommand(
+                new ClientNameContainsKeywordsPredicate(keywords),
+                new CombinedPredicate<>(Connective.OR, List.of(new PropertyNameContainsKeywordsPredicate(keywords),
+                        new PropertyOwnerContainsKeywordsPredicate(keywords))),
+                new CombinedPredicate<>(Connective.OR, List.of(new DealBuyerNameContainsPredicate(clientName),
+                        new DealSellerNameContainsPredicate(clientName),
+                        new DealPropertyNameContainsPredicate(propertyName))),
+                new CombinedPredicate<>(Connective.OR, List.of(new EventWithClientPredicate(clientName),
+                        new EventAboutPropertyPredicate(propertyName))));
+
+        assertParseSuccess(parser, "Alice Maple", expectedCommand);
+        assertParseSuccess(parser, " \n Alice \n \t Maple  \t", expectedCommand);
+    }
+
+    @Test
+    public void parse_keywordsOnlyValidAsClientName_skipsPropertyNamePredicates() {
+        List<String> keywords = List.of("O'Brien");
+        ClientName clientName = new ClientName("O'Brien");
+        FindAllCommand expectedCommand = new FindAllCommand(
+                new ClientNameContainsKeywordsPredicate(keywords),
+                new CombinedPredicate<>(Connective.OR, List.of(new PropertyNameContainsKeywordsPredicate(keywords),
+                        new PropertyOwnerContainsKeywordsPredicate(keywords))),
+                new CombinedPredicate<>(Connective.OR, List.of(new DealBuyerNameContainsPredicate(clientName),
+                        new DealSellerNameContainsPredicate(clientName))),
+                new EventWithClientPredicate(clientName));
+
+        assertParseSuccess(parser, "O'Brien", expectedCommand);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindTextCommand;
+
+public class FindTextCommandParserTest {
+
+    private final FindTextCommandParser parser = new FindTextCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTextCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_noLettersOrDigits_throwsParseException() {
+        assertParseFailure(parser, " !! --",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTextCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindTextCommand() {
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n sea \n \t view  \t", new FindTextCommand("sea view"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser.client;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EMPTY_FUZZY_KEYWORD;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -68,6 +69,11 @@ public class FindClientCommandParserTest {
         assertTrue(expectedPredicate.test(testClient));
     }
 
+    @Test
+    public void parse_emptyFuzzyKeyword_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_KEYWORDS + "Alice ~", MESSAGE_EMPTY_FUZZY_KEYWORD);
+    }
+
     @Test
     public void parse_emptyAddressPrefix_throwsParseException() {
         // Test that supplying PREFIX_ADDRESS with an empty value throws an exception.
@@ -19,6 +19,7 @@ import seedu.address.logic.commands.deal.FindDealCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.commons.Price; // new import
 import seedu.address.model.deal.DealStatus;
+import seedu.address.model.deal.predicates.DealStatusPredicate;
 
 public class FindDealCommandParserTest {
 
@@ -83,6 +84,14 @@ public class FindDealCommandParserTest {
                 + "John " + PREFIX_SELLER.getAndPrefix() + "Jane");
     }
 
+    @Test
+    public void parse_explainPreamble_returnsExplainedFindDealCommand() throws ParseException {
+        assertEquals(new FindDealCommand(new DealStatusPredicate(DealStatus.PENDING), true),
+                parser.parse(" explain " + PREFIX_STATUS + "PENDING"));
+        assertEquals(new FindDealCommand(new DealStatusPredicate(DealStatus.PENDING), false),
+                parser.parse(" " + PREFIX_STATUS + "PENDING"));
+    }
+
     @Test
     public void parse_invalidStatusArg_throwsParseException() {
         assertParseFailure(parser, " " + PREFIX_STATUS + "INVALID",
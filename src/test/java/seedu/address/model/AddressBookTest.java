@@ -1,28 +1,49 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BOB;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalDeals.DEAL1;
+import static seedu.address.testutil.TypicalDeals.DEAL4;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+import static seedu.address.testutil.TypicalProperties.JURONG;
+import static seedu.address.testutil.TypicalProperties.MAPLE;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.commons.Id;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.exceptions.DuplicateDealException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Note;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.DealBuilder;
+import seedu.address.testutil.PropertyBuilder;
 
 public class AddressBookTest {
 
@@ -55,6 +76,22 @@ public class AddressBookTest {
         assertThrows(DuplicateClientException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getModificationVersion_growsOnlyWhenChanged() {
+        long version = addressBook.getModificationVersion();
+        addressBook.hasClient(ALICE);
+        addressBook.getClientPositionsWithNameToken("alice");
+        assertEquals(version, addressBook.getModificationVersion());
+
+        addressBook.addClient(ALICE);
+        long versionAfterAdd = addressBook.getModificationVersion();
+        assertTrue(versionAfterAdd > version);
+
+        addressBook.addEvent(EVENT1);
+        addressBook.removeClient(ALICE);
+        assertTrue(addressBook.getModificationVersion() > versionAfterAdd);
+    }
+
     @Test
     public void hasClient_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasClient(null));
@@ -83,6 +120,225 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getClientList().remove(0));
     }
 
+    @Test
+    public void getDealsInvolving_afterAddSetRemove_tracksReferences() {
+        addressBook.addDeal(DEAL1);
+        addressBook.addDeal(DEAL4);
+        assertEquals(List.of(DEAL4), addressBook.getDealsInvolving(ALICE.getFullName()));
+        assertEquals(List.of(DEAL1), addressBook.getDealsInvolving(DEAL1.getPropertyName()));
+
+        Deal editedDeal = new DealBuilder(DEAL4).withBuyer("John Doe").build();
+        addressBook.setDeal(DEAL4, editedDeal);
+        assertEquals(List.of(), addressBook.getDealsInvolving(ALICE.getFullName()));
+        assertEquals(List.of(DEAL1, editedDeal), addressBook.getDealsInvolving(DEAL1.getBuyer()));
+
+        addressBook.removeDeal(DEAL1);
+        assertEquals(List.of(editedDeal), addressBook.getDealsInvolving(DEAL1.getBuyer()));
+        assertEquals(List.of(), addressBook.getDealsInvolving(DEAL1.getPropertyName()));
+    }
+
+    @Test
+    public void getDealsInvolving_readByListener_seesChange() {
+        List<List<Deal>> seenByListener = new ArrayList<>();
+        addressBook.getDealList().addListener((ListChangeListener<Deal>) change ->
+                seenByListener.add(addressBook.getDealsInvolving(DEAL1.getPropertyName())));
+
+        addressBook.addDeal(DEAL1);
+        addressBook.removeDeal(DEAL1);
+        assertEquals(List.of(List.of(DEAL1), List.of()), seenByListener);
+    }
+
+    @Test
+    public void addDeal_duplicateDeal_referencesUnchanged() {
+        addressBook.addDeal(DEAL1);
+        assertThrows(DuplicateDealException.class, () -> addressBook.addDeal(DEAL1));
+        assertEquals(List.of(DEAL1), addressBook.getDealsInvolving(DEAL1.getPropertyName()));
+    }
+
+    @Test
+    public void getEventsInvolving_afterAddRemove_tracksReferences() {
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(EVENT4);
+        assertEquals(List.of(EVENT1, EVENT4), addressBook.getEventsInvolving(ALICE.getFullName()));
+        assertEquals(List.of(EVENT1), addressBook.getEventsInvolving(EVENT1.getPropertyName()));
+
+        addressBook.removeEvent(EVENT1);
+        assertEquals(List.of(EVENT4), addressBook.getEventsInvolving(ALICE.getFullName()));
+        assertEquals(List.of(), addressBook.getEventsInvolving(EVENT1.getPropertyName()));
+    }
+
+    @Test
+    public void getPropertiesOwnedBy_afterSetProperty_tracksNewOwner() {
+        addressBook.addProperty(MAPLE);
+        Property editedMaple = new PropertyBuilder(MAPLE).withOwner("Alice Pauline").build();
+        addressBook.setProperty(MAPLE, editedMaple);
+        assertEquals(List.of(), addressBook.getPropertiesOwnedBy(MAPLE.getOwner()));
+        assertEquals(List.of(editedMaple), addressBook.getPropertiesOwnedBy(new ClientName("Alice Pauline")));
+    }
+
+    @Test
+    public void resetData_withReferences_rebuildsReferences() {
+        AddressBook newData = new AddressBook();
+        newData.addDeal(DEAL4);
+        newData.addEvent(EVENT4);
+        addressBook.addDeal(DEAL1);
+        addressBook.resetData(newData);
+        assertEquals(List.of(), addressBook.getDealsInvolving(DEAL1.getPropertyName()));
+        assertEquals(List.of(DEAL4), addressBook.getDealsInvolving(ALICE.getFullName()));
+        assertEquals(List.of(EVENT4), addressBook.getEventsInvolving(ALICE.getFullName()));
+    }
+
+    @Test
+    public void renameClient_referencedClient_renamesAllReferences() {
+        addressBook.addDeal(DEAL4);
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(EVENT4);
+        Property aliceMaple = new PropertyBuilder(MAPLE).withOwner("Alice Pauline").build();
+        addressBook.addProperty(aliceMaple);
+
+        ClientName newName = new ClientName("Alice Tan");
+        addressBook.renameClient(ALICE.getFullName(), newName);
+
+        Deal renamedDeal = new DealBuilder(DEAL4).withBuyer("Alice Tan").build();
+        assertEquals(List.of(renamedDeal), addressBook.getDealList());
+        assertEquals(List.of(renamedDeal), addressBook.getDealsInvolving(newName));
+        assertEquals(List.of(), addressBook.getDealsInvolving(ALICE.getFullName()));
+        assertEquals(2, addressBook.getEventsInvolving(newName).size());
+        assertEquals(List.of(), addressBook.getEventsInvolving(ALICE.getFullName()));
+        assertTrue(addressBook.getEventList().stream().allMatch(event -> event.getClientName().equals(newName)));
+        assertEquals(List.of(new PropertyBuilder(MAPLE).withOwner("Alice Tan").build()),
+                addressBook.getPropertiesOwnedBy(newName));
+        assertEquals(List.of(), addressBook.getPropertiesOwnedBy(ALICE.getFullName()));
+    }
+
+    @Test
+    public void renameProperty_referencedProperty_renamesAllReferences() {
+        addressBook.addDeal(DEAL4);
+        addressBook.addEvent(EVENT4);
+        addressBook.addEvent(EVENT1);
+
+        PropertyName newName = new PropertyName("Marina Heights");
+        addressBook.renameProperty(DEAL4.getPropertyName(), newName);
+
+        assertEquals(List.of(new DealBuilder(DEAL4).withPropertyName("Marina Heights").build()),
+                addressBook.getDealsInvolving(newName));
+        assertEquals(List.of(), addressBook.getDealsInvolving(DEAL4.getPropertyName()));
+        assertEquals(1, addressBook.getEventsInvolving(newName).size());
+        assertEquals(List.of(EVENT1), addressBook.getEventsInvolving(EVENT1.getPropertyName()));
+        assertEquals(newName, addressBook.getEventList().get(0).getPropertyName());
+    }
+
+    @Test
+    public void addClient_thenSetClient_keepsAssignedId() {
+        addressBook.addClient(ALICE);
+        Client storedAlice = addressBook.getClientList().get(0);
+        Id id = storedAlice.getId().get();
+
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setClient(storedAlice, editedAlice);
+        assertEquals(editedAlice, addressBook.getClientList().get(0));
+        assertEquals(Optional.of(id), addressBook.getClientList().get(0).getId());
+    }
+
+    @Test
+    public void addClient_idOfExistingClient_assignsFreshId() {
+        addressBook.addClient(ALICE);
+        Id id = addressBook.getClientList().get(0).getId().get();
+        addressBook.addClient(new ClientBuilder(BOB).build().withId(id));
+        assertNotEquals(id, addressBook.getClientList().get(1).getId().get());
+
+        addressBook.removeClient(ALICE);
+        addressBook.addClient(new ClientBuilder(ALICE).build().withId(id));
+        assertEquals(Optional.of(id), addressBook.getClientList().get(1).getId());
+    }
+
+    @Test
+    public void addProperty_idOfExistingProperty_assignsFreshId() {
+        addressBook.addProperty(MAPLE);
+        Id id = addressBook.getPropertyList().get(0).getId().get();
+        addressBook.addProperty(JURONG.withId(id));
+        assertNotEquals(id, addressBook.getPropertyList().get(1).getId().get());
+    }
+
+    @Test
+    public void renameClient_ownedProperty_keepsPropertyId() {
+        addressBook.addProperty(new PropertyBuilder(MAPLE).withOwner("Alice Pauline").build());
+        Id id = addressBook.getPropertyList().get(0).getId().get();
+        addressBook.renameClient(ALICE.getFullName(), new ClientName("Alice Tan"));
+        Property renamedProperty = addressBook.getPropertyList().get(0);
+        assertEquals(new ClientName("Alice Tan"), renamedProperty.getOwner());
+        assertEquals(Optional.of(id), renamedProperty.getId());
+    }
+
+    @Test
+    public void getPositionsWithNameToken_afterModifications_followsLists() {
+        addressBook.addClient(ALICE);
+        addressBook.addClient(new ClientBuilder().withClientName("Benson Pauline").withPhone("98765432").build());
+        addressBook.addDeal(new DealBuilder().withBuyer("Alice Pauline").withSeller("Benson Pauline").build());
+        assertArrayEquals(new int[] {0, 1}, addressBook.getClientPositionsWithNameToken("pauline"));
+        assertArrayEquals(new int[] {0}, addressBook.getDealPositionsWithBuyerNameToken("ALICE"));
+
+        addressBook.removeClient(ALICE);
+        addressBook.renameClient(ALICE.getFullName(), new ClientName("Alice Tan"));
+        assertArrayEquals(new int[] {0}, addressBook.getClientPositionsWithNameToken("pauline"));
+        assertArrayEquals(new int[] {0}, addressBook.getDealPositionsWithBuyerNameToken("tan"));
+        assertArrayEquals(new int[] {0}, addressBook.getDealPositionsWithSellerNameToken("Pauline"));
+        assertArrayEquals(new int[] {}, addressBook.getDealPositionsWithBuyerNameToken("Pauline"));
+    }
+
+    @Test
+    public void getEventPositions_dateBounds_returnsContiguousRange() {
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(EVENT4);
+        LocalDateTime between = EVENT4.getDateTime().plusDays(1);
+        assertArrayEquals(new int[] {1}, addressBook.getEventPositionsAfter(between));
+        assertArrayEquals(new int[] {0}, addressBook.getEventPositionsBefore(between));
+        assertArrayEquals(new int[] {}, addressBook.getEventPositionsAfter(EVENT1.getDateTime()));
+        assertArrayEquals(new int[] {0, 1}, addressBook.getEventPositionsBefore(EVENT1.getDateTime().plusDays(1)));
+    }
+
+    @Test
+    public void findText_notesAndDescriptions_ranksBestFirst() {
+        Property seaviewProperty = new PropertyBuilder(JURONG).withDescription("Seaview, seaview and more seaview")
+                .build();
+        Event seaviewEvent = new Event(EVENT1.getDateTime(), EVENT1.getEventType(), EVENT1.getClientName(),
+                EVENT1.getPropertyName(), new Note("Client wants a seaview"));
+        addressBook.addProperty(MAPLE);
+        addressBook.addProperty(seaviewProperty);
+        addressBook.addEvent(EVENT2);
+        addressBook.addEvent(seaviewEvent);
+
+        List<TextMatch> matches = addressBook.findText("SEAVIEW", 10);
+        assertEquals(2, matches.size());
+        assertEquals(Optional.of(seaviewProperty), matches.get(0).getProperty());
+        assertEquals(Optional.of(seaviewEvent), matches.get(1).getEvent());
+        assertTrue(matches.get(0).getScore() > matches.get(1).getScore());
+
+        // limited to the best matches
+        assertEquals(matches.subList(0, 1), addressBook.findText("seaview", 1));
+
+        // no matching terms
+        assertEquals(List.of(), addressBook.findText("garden", 10));
+
+        // later changes are searched
+        addressBook.removeEvent(seaviewEvent);
+        addressBook.setProperty(MAPLE, new PropertyBuilder(MAPLE).withDescription("Photos of the seaview").build());
+        assertEquals(2, addressBook.findText("seaview", 10).size());
+        assertEquals(2, addressBook.findText("photos", 10).size());
+    }
+
+    @Test
+    public void restoreTextIndexes_snapshotOfSameData_searchesSameMatches() {
+        addressBook.addProperty(MAPLE);
+        addressBook.addEvent(EVENT2);
+        AddressBook copy = new AddressBook(addressBook);
+        copy.restoreTextIndexes(addressBook.getTextIndexSnapshot());
+        assertEquals(addressBook.findText("spacious photos", 10), copy.findText("spacious photos", 10));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBook().restoreTextIndexes(addressBook.getTextIndexSnapshot()));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{clients=" + addressBook.getClientList()
@@ -125,6 +381,16 @@ public class AddressBookTest {
         public ObservableList<Event> getEventList() {
             return events;
         }
+
+        @Override
+        public Optional<Client> getClient(ClientName clientName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Property> getProperty(PropertyName propertyName) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -7,16 +7,30 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
+import seedu.address.model.commons.CombinedPredicate;
+import seedu.address.model.commons.CombinedPredicate.Connective;
+import seedu.address.model.commons.Price;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.predicates.PropertyNameContainsKeywordsPredicate;
+import seedu.address.model.property.predicates.PropertyPriceAbovePredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.TypicalProperties;
 
 public class ModelManagerTest {
 
@@ -93,6 +107,109 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredClientList().remove(0));
     }
 
+    @Test
+    public void updateFilteredClientList_samePredicateUnchangedList_reusesCachedResult() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        ClientNameContainsKeywordsPredicate predicate = new ClientNameContainsKeywordsPredicate(List.of("Alice"));
+
+        modelManager.updateFilteredClientList(predicate);
+        assertEquals(QueryPlan.Operation.INDEX_LOOKUP, modelManager.getLastQueryPlan().get().getOperation());
+
+        // equal predicate -> reuses cached result
+        modelManager.updateFilteredClientList(new ClientNameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(QueryPlan.Operation.CACHE_HIT, modelManager.getLastQueryPlan().get().getOperation());
+        assertEquals(List.of(ALICE), modelManager.getFilteredClientList());
+
+        // list changed -> filters the shown clients again
+        modelManager.deleteClient(BENSON);
+        modelManager.updateFilteredClientList(predicate);
+        assertEquals(QueryPlan.Operation.NARROW, modelManager.getLastQueryPlan().get().getOperation());
+    }
+
+    @Test
+    public void updateFilteredPropertyList_addedConjunct_narrowsShownProperties() {
+        modelManager = new ModelManager(TypicalProperties.getTypicalAddressBook(), new UserPrefs());
+        Predicate<Property> nameHdb = new PropertyNameContainsKeywordsPredicate(List.of("HDB"));
+        modelManager.updateFilteredPropertyList(nameHdb);
+        assertEquals(List.of(TypicalProperties.JURONG, TypicalProperties.PUNGGOL),
+                modelManager.getFilteredPropertyList());
+
+        modelManager.updateFilteredPropertyList(new CombinedPredicate<>(Connective.AND,
+                List.of(nameHdb, new PropertyPriceAbovePredicate(new Price(800L)))));
+        assertEquals(QueryPlan.Operation.NARROW, modelManager.getLastQueryPlan().get().getOperation());
+        assertEquals(List.of(TypicalProperties.PUNGGOL), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void prepareClientSearch_run_showsMatchesOnlyWhenApplied() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        BackgroundSearch search = modelManager.prepareClientSearch(
+                new ClientNameContainsKeywordsPredicate(List.of("Alice")));
+
+        search.run();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredClientList());
+        assertTrue(search.apply());
+        assertEquals(List.of(ALICE), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void prepareClientSearch_cancelledBeforeRun_throwsCancellationException() {
+        modelManager.addClient(ALICE);
+        BackgroundSearch search = modelManager.prepareClientSearch(client -> false);
+        search.cancel();
+
+        assertTrue(search.isCancelled());
+        assertThrows(CancellationException.class, search::run);
+        assertFalse(search.apply());
+        assertEquals(List.of(ALICE), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void prepareClientSearch_cancelledWhileRunning_stopsTesting() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        modelManager.addClient(CARL);
+        AtomicReference<BackgroundSearch> search = new AtomicReference<>();
+        AtomicInteger testCount = new AtomicInteger();
+        search.set(modelManager.prepareClientSearch(client -> {
+            testCount.incrementAndGet();
+            search.get().cancel();
+            return true;
+        }));
+
+        assertThrows(CancellationException.class, search.get()::run);
+        assertEquals(1, testCount.get());
+    }
+
+    @Test
+    public void prepareClientSearch_listChangedBeforeApply_leavesListUnchanged() {
+        modelManager.addClient(ALICE);
+        BackgroundSearch search = modelManager.prepareClientSearch(
+                new ClientNameContainsKeywordsPredicate(List.of("Alice")));
+        search.run();
+
+        modelManager.addClient(BENSON);
+        assertFalse(search.apply());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void updateAllFilteredLists_aboveParallelThreshold_filtersEveryList() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        AddressBook addressBook = getTypicalAddressBook();
+        modelManager = new ModelManager(addressBook, userPrefs);
+
+        modelManager.updateAllFilteredLists(new ClientNameContainsKeywordsPredicate(List.of("Alice")),
+                property -> false, deal -> true, event -> true);
+        assertEquals(List.of(ALICE), modelManager.getFilteredClientList());
+        assertEquals(List.of(), modelManager.getFilteredPropertyList());
+        assertEquals(addressBook.getDealList(), modelManager.getFilteredDealList());
+        assertEquals(addressBook.getEventList(), modelManager.getFilteredEventList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withClient(ALICE).withClient(BENSON).build();
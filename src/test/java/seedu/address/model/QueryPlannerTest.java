@@ -0,0 +1,210 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalProperties.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.QueryPlan.Operation;
+import seedu.address.model.commons.CombinedPredicate;
+import seedu.address.model.commons.CombinedPredicate.Connective;
+import seedu.address.model.commons.Price;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Size;
+import seedu.address.model.property.predicates.PropertyNameContainsKeywordsPredicate;
+import seedu.address.model.property.predicates.PropertyOwnerContainsKeywordsPredicate;
+import seedu.address.model.property.predicates.PropertyPriceAbovePredicate;
+import seedu.address.model.property.predicates.PropertySizeBelowPredicate;
+import seedu.address.model.util.Positions;
+
+public class QueryPlannerTest {
+
+    private static final int ROW_COUNT = 4;
+
+    // Matches JURONG and PUNGGOL, at positions 2 and 3
+    private final Predicate<Property> nameHdb = new PropertyNameContainsKeywordsPredicate(List.of("HDB"));
+    // Matches every typical property
+    private final Predicate<Property> priceAboveLow = new PropertyPriceAbovePredicate(new Price(500L));
+    // Matches MAPLE, at position 0
+    private final Predicate<Property> priceAboveHigh = new PropertyPriceAbovePredicate(new Price(2000L));
+    // Matches ORCHID and JURONG, at positions 1 and 2
+    private final Predicate<Property> sizeBelow = new PropertySizeBelowPredicate(new Size("700"));
+    private final Predicate<Property> owner = new PropertyOwnerContainsKeywordsPredicate(List.of("John"));
+
+    private final QueryPlanner planner = new QueryPlanner(getTypicalAddressBook());
+
+    @Test
+    public void plan_indexedPredicate_looksUpIndex() {
+        QueryPlan plan = planner.plan(nameHdb, ROW_COUNT);
+        assertEquals(Operation.INDEX_LOOKUP, plan.getOperation());
+        assertArrayEquals(new int[] {2, 3}, plan.getCandidates().get());
+        assertEquals(2, plan.getEstimatedRows());
+    }
+
+    @Test
+    public void plan_unindexedPredicate_scans() {
+        QueryPlan plan = planner.plan(owner, ROW_COUNT);
+        assertEquals(Operation.SCAN, plan.getOperation());
+        assertFalse(plan.getCandidates().isPresent());
+        assertEquals(ROW_COUNT, plan.getEstimatedRows());
+    }
+
+    @Test
+    public void plan_and_looksUpMostSelectiveAndVerifiesRest() {
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.AND,
+                List.of(owner, priceAboveLow, nameHdb)), ROW_COUNT);
+        assertEquals(Operation.INTERSECT, plan.getOperation());
+        assertArrayEquals(new int[] {2, 3}, plan.getCandidates().get());
+        assertEquals(List.of(Operation.INDEX_LOOKUP, Operation.VERIFY, Operation.VERIFY),
+                plan.getSteps().stream().map(QueryPlan::getOperation).toList());
+        assertEquals("PropertyNameContainsKeywordsPredicate", plan.getSteps().get(0).getSubject());
+    }
+
+    @Test
+    public void plan_and_intersectsSelectiveLookups() {
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.AND,
+                List.of(sizeBelow, nameHdb)), ROW_COUNT);
+        assertArrayEquals(new int[] {2}, plan.getCandidates().get());
+        assertEquals(List.of(Operation.INDEX_LOOKUP, Operation.INDEX_LOOKUP),
+                plan.getSteps().stream().map(QueryPlan::getOperation).toList());
+    }
+
+    @Test
+    public void plan_andWithNoMatches_stopsLookingUp() {
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.AND,
+                List.of(nameHdb, sizeBelow, priceAboveHigh)), ROW_COUNT);
+        assertArrayEquals(new int[] {}, plan.getCandidates().get());
+        assertEquals(List.of(Operation.INDEX_LOOKUP, Operation.INDEX_LOOKUP, Operation.VERIFY),
+                plan.getSteps().stream().map(QueryPlan::getOperation).toList());
+    }
+
+    @Test
+    public void plan_andWithUnselectiveConjunct_doesNotLookItUp() {
+        CountingPredicate unselective = new CountingPredicate(ROW_COUNT);
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.AND,
+                List.of(unselective, nameHdb)), ROW_COUNT);
+        assertArrayEquals(new int[] {2, 3}, plan.getCandidates().get());
+        assertEquals(List.of(Operation.INDEX_LOOKUP, Operation.VERIFY),
+                plan.getSteps().stream().map(QueryPlan::getOperation).toList());
+        assertEquals(0, unselective.lookupCount);
+    }
+
+    @Test
+    public void plan_orWithUnindexedPredicate_doesNotLookUpLaterDisjuncts() {
+        CountingPredicate indexed = new CountingPredicate(1);
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.OR, List.of(owner, indexed)), ROW_COUNT);
+        assertEquals(Operation.SCAN, plan.getOperation());
+        assertEquals(0, indexed.lookupCount);
+    }
+
+    @Test
+    public void plan_andWithoutIndexedPredicates_scans() {
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.AND, List.of(owner, owner)), ROW_COUNT);
+        assertEquals(Operation.SCAN, plan.getOperation());
+        assertFalse(plan.getCandidates().isPresent());
+    }
+
+    @Test
+    public void plan_or_unitesWhenEveryPredicateIndexed() {
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.OR,
+                List.of(nameHdb, priceAboveHigh)), ROW_COUNT);
+        assertEquals(Operation.UNION, plan.getOperation());
+        assertArrayEquals(new int[] {0, 2, 3}, plan.getCandidates().get());
+
+        plan = planner.plan(new CombinedPredicate<>(Connective.OR, List.of(nameHdb, owner)), ROW_COUNT);
+        assertEquals(Operation.SCAN, plan.getOperation());
+        assertFalse(plan.getCandidates().isPresent());
+    }
+
+    @Test
+    public void isNarrowing() {
+        Predicate<Property> nameAndPrice = new CombinedPredicate<>(Connective.AND, List.of(nameHdb, priceAboveLow));
+        Predicate<Property> nameOrPrice = new CombinedPredicate<>(Connective.OR, List.of(nameHdb, priceAboveLow));
+
+        // conjuncts added -> returns true
+        assertTrue(QueryPlanner.isNarrowing(nameHdb, nameAndPrice));
+        assertTrue(QueryPlanner.isNarrowing(nameAndPrice, new CombinedPredicate<>(Connective.AND,
+                List.of(priceAboveLow, owner, nameHdb))));
+
+        // same predicate -> returns true
+        assertTrue(QueryPlanner.isNarrowing(nameHdb, new PropertyNameContainsKeywordsPredicate(List.of("HDB"))));
+
+        // conjuncts removed or replaced -> returns false
+        assertFalse(QueryPlanner.isNarrowing(nameAndPrice, nameHdb));
+        assertFalse(QueryPlanner.isNarrowing(nameHdb, new CombinedPredicate<>(Connective.AND,
+                List.of(priceAboveLow, owner))));
+
+        // disjuncts added -> returns false
+        assertFalse(QueryPlanner.isNarrowing(nameHdb, nameOrPrice));
+
+        // no current predicate -> returns false
+        assertFalse(QueryPlanner.isNarrowing(null, nameHdb));
+    }
+
+    @Test
+    public void planNarrowing_indexedPredicate_testsShownCandidates() {
+        QueryPlan plan = planner.planNarrowing(nameHdb, new int[] {0, 3}, ROW_COUNT);
+        assertEquals(Operation.NARROW, plan.getOperation());
+        assertArrayEquals(new int[] {3}, plan.getCandidates().get());
+
+        plan = planner.planNarrowing(owner, new int[] {0, 3}, ROW_COUNT);
+        assertArrayEquals(new int[] {0, 3}, plan.getCandidates().get());
+    }
+
+    @Test
+    public void planNarrowing_moreCandidatesThanShown_testsShownRows() {
+        CountingPredicate unselective = new CountingPredicate(ROW_COUNT);
+        QueryPlan plan = planner.planNarrowing(unselective, new int[] {0, 3}, ROW_COUNT);
+        assertArrayEquals(new int[] {0, 3}, plan.getCandidates().get());
+        assertEquals(Operation.VERIFY, plan.getSteps().get(0).getOperation());
+        assertEquals(0, unselective.lookupCount);
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryPlan plan = planner.plan(new CombinedPredicate<>(Connective.AND,
+                List.of(owner, nameHdb)), ROW_COUNT);
+        plan.setActualRows(1);
+        String expected = "Intersect AND (~2 rows)\n"
+                + "  Index lookup PropertyNameContainsKeywordsPredicate (~2 rows)\n"
+                + "  Verify PropertyOwnerContainsKeywordsPredicate\n"
+                + "Estimated rows: 2, actual rows: 1";
+        assertEquals(expected, plan.toString());
+    }
+
+    /**
+     * An indexed predicate with a fixed estimate that counts how often its candidates are looked up.
+     */
+    private static class CountingPredicate implements IndexedPredicate<Property> {
+        private final int estimate;
+        private int lookupCount;
+
+        CountingPredicate(int estimate) {
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean test(Property property) {
+            return true;
+        }
+
+        @Override
+        public Optional<int[]> getCandidates(AddressBook addressBook) {
+            lookupCount++;
+            return Optional.of(Positions.range(0, estimate));
+        }
+
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return OptionalInt.of(estimate);
+        }
+    }
+}
@@ -4,16 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLIENT_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.testutil.ClientBuilder;
@@ -45,6 +50,22 @@ public class UniqueClientListTest {
         assertTrue(uniqueClientList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_clientWithSamePhoneInList_returnsTrue() {
+        uniqueClientList.add(ALICE);
+        Client samePhone = new ClientBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniqueClientList.contains(samePhone));
+    }
+
+    @Test
+    public void contains_clientAtExcludedIndex_returnsFalse() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertFalse(uniqueClientList.contains(editedAlice, Index.fromZeroBased(0)));
+        assertTrue(uniqueClientList.contains(editedAlice, Index.fromZeroBased(1)));
+    }
+
     @Test
     public void add_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.add(null));
@@ -106,6 +127,23 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClient(ALICE, BOB));
     }
 
+    @Test
+    public void setClient_editedClientHasPhoneOfOtherClient_throwsDuplicateClientException() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        Client editedAlice = new ClientBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClient(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setClient_renamedClient_oldNameNoLongerContained() {
+        uniqueClientList.add(ALICE);
+        Client renamedAlice = new ClientBuilder(ALICE).withClientName(VALID_CLIENT_NAME_BOB).build();
+        uniqueClientList.setClient(ALICE, renamedAlice);
+        assertTrue(uniqueClientList.contains(renamedAlice));
+        assertFalse(uniqueClientList.contains(new ClientBuilder(ALICE).withPhone(VALID_PHONE_BOB).build()));
+    }
+
     @Test
     public void remove_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.remove(null));
@@ -159,6 +197,28 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
     }
 
+    @Test
+    public void setClients_listWithDuplicatePhones_throwsDuplicateClientException() {
+        Client samePhone = new ClientBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Client> listWithDuplicatePhones = Arrays.asList(ALICE, samePhone);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicatePhones));
+        assertFalse(uniqueClientList.contains(ALICE));
+    }
+
+    @Test
+    public void get_readByListener_seesChange() {
+        List<Boolean> hasBob = new ArrayList<>();
+        uniqueClientList.asUnmodifiableObservableList().addListener((ListChangeListener<Client>) change ->
+                hasBob.add(uniqueClientList.get(BOB.getFullName()).isPresent()
+                        && uniqueClientList.getPositionsWithNameToken("bob").length == 1));
+
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(ALICE, BOB);
+        uniqueClientList.remove(BOB);
+        uniqueClientList.setClients(List.of(BOB));
+        assertEquals(List.of(false, true, false, true), hasBob);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,8 +1,11 @@
 package seedu.address.model.client.predicates;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,6 +13,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.ClientBuilder;
 
 public class ClientNameContainsKeywordsPredicateTest {
@@ -80,6 +84,32 @@ public class ClientNameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_fuzzyKeyword_matchesNearWords() {
+        // Within two edits of a long keyword
+        ClientNameContainsKeywordsPredicate predicate = new ClientNameContainsKeywordsPredicate(List.of("~Alcie"));
+        assertTrue(predicate.test(new ClientBuilder().withClientName("Alice Bob").build()));
+
+        // Two edits away from a short keyword
+        predicate = new ClientNameContainsKeywordsPredicate(List.of("~Bbo"));
+        assertFalse(predicate.test(new ClientBuilder().withClientName("Alice Bob").build()));
+
+        // Keyword without marker must match exactly
+        predicate = new ClientNameContainsKeywordsPredicate(List.of("Alcie"));
+        assertFalse(predicate.test(new ClientBuilder().withClientName("Alice Bob").build()));
+    }
+
+    @Test
+    public void getCandidates_fuzzyKeyword_findsNearNames() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addClient(ALICE);
+        addressBook.addClient(CARL);
+        assertArrayEquals(new int[] {0},
+                new ClientNameContainsKeywordsPredicate(List.of("~Alcie")).getCandidates(addressBook).get());
+        assertArrayEquals(new int[] {0, 1},
+                new ClientNameContainsKeywordsPredicate(List.of("~Alcie", "~Karl")).getCandidates(addressBook).get());
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
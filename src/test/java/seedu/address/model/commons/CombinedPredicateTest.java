@@ -0,0 +1,72 @@
+package seedu.address.model.commons;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.commons.CombinedPredicate.Connective;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
+import seedu.address.model.event.predicates.EventAfterDateTimePredicate;
+import seedu.address.model.event.predicates.EventBeforeDateTimePredicate;
+import seedu.address.model.event.predicates.EventOfTypePredicate;
+import seedu.address.model.event.predicates.EventWithClientPredicate;
+
+public class CombinedPredicateTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final LocalDateTime between = EVENT4.getDateTime().plusDays(1);
+    private final Predicate<Event> after = new EventAfterDateTimePredicate(between);
+    private final Predicate<Event> before = new EventBeforeDateTimePredicate(between);
+    private final Predicate<Event> ofType = new EventOfTypePredicate(EventType.MEETING);
+    private final Predicate<Event> withClient = new EventWithClientPredicate(new ClientName("Alice"));
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(EVENT4);
+    }
+
+    @Test
+    public void test_andOr_combinesResults() {
+        assertTrue(new CombinedPredicate<>(Connective.AND, List.of(after, ofType)).test(EVENT1));
+        assertFalse(new CombinedPredicate<>(Connective.AND, List.of(before, ofType)).test(EVENT4));
+        assertTrue(new CombinedPredicate<>(Connective.OR, List.of(before, ofType)).test(EVENT4));
+    }
+
+    @Test
+    public void getCandidates_and_narrowsByIndexedPredicates() {
+        assertArrayEquals(new int[] {1},
+                new CombinedPredicate<>(Connective.AND, List.of(ofType, after)).getCandidates(addressBook).get());
+        assertArrayEquals(new int[] {},
+                new CombinedPredicate<>(Connective.AND, List.of(after, before)).getCandidates(addressBook).get());
+    }
+
+    @Test
+    public void getCandidates_or_requiresEveryPredicateIndexed() {
+        assertArrayEquals(new int[] {0, 1},
+                new CombinedPredicate<>(Connective.OR, List.of(after, before)).getCandidates(addressBook).get());
+        assertFalse(new CombinedPredicate<>(Connective.OR, List.of(after, withClient))
+                .getCandidates(addressBook).isPresent());
+    }
+
+    @Test
+    public void equals() {
+        CombinedPredicate<Event> predicate = new CombinedPredicate<>(Connective.AND, List.of(after, ofType));
+        assertEquals(predicate, new CombinedPredicate<>(Connective.AND, List.of(after, ofType)));
+        assertFalse(predicate.equals(new CombinedPredicate<>(Connective.OR, List.of(after, ofType))));
+        assertFalse(predicate.equals(null));
+    }
+}
@@ -1,16 +1,21 @@
 package seedu.address.model.deal;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.deal.exceptions.DealNotFoundException;
 import seedu.address.model.deal.exceptions.DuplicateDealException;
 import seedu.address.testutil.DealBuilder;
@@ -35,6 +40,13 @@ public class UniqueDealListTest {
         assertTrue(uniqueDealList.contains(deal));
     }
 
+    @Test
+    public void contains_dealWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueDealList.add(new DealBuilder().build());
+        Deal editedDeal = new DealBuilder().withPrice(999).withStatus(DealStatus.CLOSED).build();
+        assertTrue(uniqueDealList.contains(editedDeal));
+    }
+
     @Test
     public void add_nullDeal_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDealList.add(null));
@@ -128,6 +140,18 @@ public class UniqueDealListTest {
                 uniqueDealList.setDeal(deal2, editedDeal));
     }
 
+    @Test
+    public void setDeal_editedDealHasDifferentIdentity_oldIdentityReleased() {
+        Deal originalDeal = new DealBuilder().build();
+        uniqueDealList.add(originalDeal);
+        Deal editedDeal = new DealBuilder().withBuyer("Different Buyer").build();
+
+        uniqueDealList.setDeal(originalDeal, editedDeal);
+
+        assertFalse(uniqueDealList.contains(originalDeal));
+        assertTrue(uniqueDealList.contains(editedDeal));
+    }
+
     @Test
     public void remove_nullDeal_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDealList.remove(null));
@@ -148,6 +172,7 @@ public class UniqueDealListTest {
         UniqueDealList expectedList = new UniqueDealList();
 
         assertEquals(expectedList, uniqueDealList);
+        assertFalse(uniqueDealList.contains(deal));
     }
 
     @Test
@@ -200,4 +225,85 @@ public class UniqueDealListTest {
         assertThrows(UnsupportedOperationException.class, () ->
                 uniqueDealList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getPositionsWithPriceBetween_afterModifications_followsList() {
+        Deal cheap = new DealBuilder().withPropertyName("Cheap Flat").withPrice(200).build();
+        Deal dear = new DealBuilder().withPropertyName("Dear House").withPrice(900).build();
+        Deal middle = new DealBuilder().withPropertyName("Middle Condo").withPrice(500).build();
+        uniqueDealList.setDeals(List.of(cheap, dear, middle));
+        assertArrayEquals(new int[] {1, 2}, uniqueDealList.getPositionsWithPriceBetween(300, Long.MAX_VALUE));
+
+        uniqueDealList.remove(cheap);
+        uniqueDealList.add(cheap);
+        assertArrayEquals(new int[] {0, 1}, uniqueDealList.getPositionsWithPriceBetween(300, Long.MAX_VALUE));
+
+        uniqueDealList.setDeal(dear, new DealBuilder(dear).withPrice(100).build());
+        assertArrayEquals(new int[] {0, 2}, uniqueDealList.getPositionsWithPriceBetween(0, 299));
+    }
+
+    @Test
+    public void getPositionsWithStatus_afterModifications_followsList() {
+        Deal open = new DealBuilder().withPropertyName("Open Flat").withStatus(DealStatus.OPEN).build();
+        Deal closed = new DealBuilder().withPropertyName("Closed House").withStatus(DealStatus.CLOSED).build();
+        Deal pending = new DealBuilder().withPropertyName("Pending Condo").withStatus(DealStatus.PENDING).build();
+        uniqueDealList.setDeals(List.of(open, closed, pending));
+        assertArrayEquals(new int[] {1}, uniqueDealList.getPositionsWithStatus(DealStatus.CLOSED));
+
+        uniqueDealList.remove(open);
+        assertArrayEquals(new int[] {0}, uniqueDealList.getPositionsWithStatus(DealStatus.CLOSED));
+        assertEquals(0, uniqueDealList.countWithStatus(DealStatus.OPEN));
+
+        uniqueDealList.setDeal(pending, new DealBuilder(pending).withStatus(DealStatus.CLOSED).build());
+        assertArrayEquals(new int[] {0, 1}, uniqueDealList.getPositionsWithStatus(DealStatus.CLOSED));
+        assertEquals(2, uniqueDealList.countWithStatus(DealStatus.CLOSED));
+        assertEquals(0, uniqueDealList.countWithStatus(DealStatus.PENDING));
+    }
+
+    @Test
+    public void countWithStatus_readByListener_seesChange() {
+        Deal open = new DealBuilder().withPropertyName("Open Flat").withStatus(DealStatus.OPEN).build();
+        List<Integer> openCounts = new ArrayList<>();
+        uniqueDealList.asUnmodifiableObservableList().addListener((ListChangeListener<Deal>) change ->
+                openCounts.add(uniqueDealList.countWithStatus(DealStatus.OPEN)));
+
+        uniqueDealList.add(open);
+        Deal closed = new DealBuilder(open).withStatus(DealStatus.CLOSED).build();
+        uniqueDealList.setDeal(open, closed);
+        uniqueDealList.setDeals(List.of(open));
+        uniqueDealList.remove(open);
+        assertEquals(List.of(1, 0, 1, 0), openCounts);
+    }
+
+    @Test
+    public void replaceDeals_swappedKeys_indexesFollowReplacements() {
+        Deal first = new DealBuilder().withPropertyName("Maple Villa").withBuyer("Alice").withSeller("Bob").build();
+        Deal second = new DealBuilder().withPropertyName("Maple Villa").withBuyer("Bob").withSeller("Alice").build();
+        uniqueDealList.setDeals(List.of(first, second));
+        List<Integer> changeCounts = new ArrayList<>();
+        uniqueDealList.asUnmodifiableObservableList().addListener((ListChangeListener<Deal>) change ->
+                changeCounts.add(uniqueDealList.getPositionsWithBuyerNameToken("carol").length));
+
+        Map<Deal, Deal> replacements = new IdentityHashMap<>();
+        Deal renamedFirst = new DealBuilder(first).withBuyer("Bob").withSeller("Alice").build();
+        Deal renamedSecond = new DealBuilder(second).withBuyer("Carol").build();
+        replacements.put(first, renamedFirst);
+        replacements.put(second, renamedSecond);
+        uniqueDealList.replaceDeals(replacements);
+
+        assertEquals(List.of(renamedFirst, renamedSecond), uniqueDealList.asUnmodifiableObservableList());
+        assertEquals(List.of(1), changeCounts);
+        assertEquals(0, uniqueDealList.indexOf(renamedFirst));
+        assertEquals(1, uniqueDealList.indexOf(renamedSecond));
+        assertArrayEquals(new int[] {0}, uniqueDealList.getPositionsWithBuyerNameToken("bob"));
+        assertArrayEquals(new int[] {0, 1}, uniqueDealList.getPositionsWithSellerNameToken("alice"));
+    }
+
+    @Test
+    public void replaceDeals_missingDeal_throwsDealNotFoundException() {
+        Deal deal = new DealBuilder().build();
+        Map<Deal, Deal> replacements = new IdentityHashMap<>();
+        replacements.put(deal, new DealBuilder(deal).withBuyer("Carol").build());
+        assertThrows(DealNotFoundException.class, () -> uniqueDealList.replaceDeals(replacements));
+    }
 }
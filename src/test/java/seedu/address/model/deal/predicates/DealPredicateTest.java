@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.commons.Price;
 import seedu.address.model.deal.Deal;
 import seedu.address.testutil.DealBuilder;
 
@@ -45,6 +46,13 @@ public class DealPredicateTest {
         assertFalse(predicate.equals(new Object()));
     }
 
+    @Test
+    public void equals_differentPredicateClassSameValue_returnsFalse() {
+        Price price = new Price(500L);
+        assertFalse(new DealPriceAbovePredicate(price).equals(new DealPriceBelowPredicate(price)));
+        assertEquals(new DealPriceAbovePredicate(price).hashCode(), new DealPriceAbovePredicate(price).hashCode());
+    }
+
     @Test
     public void equals_differentValue_returnsFalse() {
         TestDealPredicate predicate1 = new TestDealPredicate("test1");
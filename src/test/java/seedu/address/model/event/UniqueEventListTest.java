@@ -1,16 +1,23 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.client.ClientName;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
@@ -39,6 +46,13 @@ public class UniqueEventListTest {
         assertTrue(uniqueEventList.contains(event));
     }
 
+    @Test
+    public void contains_eventWithDifferentNote_returnsTrue() {
+        uniqueEventList.add(new Event(dateTime1, eventType, clientName, propertyName, note));
+        assertTrue(uniqueEventList.contains(new Event(dateTime1, eventType, clientName, propertyName,
+                new Note("Different note"))));
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -107,6 +121,7 @@ public class UniqueEventListTest {
         uniqueEventList.add(event);
         uniqueEventList.remove(event);
         assertEquals(Collections.emptyList(), uniqueEventList.asUnmodifiableObservableList());
+        assertFalse(uniqueEventList.contains(event));
     }
 
     @Test
@@ -116,4 +131,107 @@ public class UniqueEventListTest {
         List<Event> duplicateList = Arrays.asList(event1, duplicateEvent);
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(duplicateList));
     }
+
+    @Test
+    public void setEvents_validList_replacesKeys() {
+        Event event1 = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event event2 = new Event(dateTime2, eventType, clientName, propertyName, note);
+        uniqueEventList.add(event1);
+        uniqueEventList.setEvents(List.of(event2));
+        assertFalse(uniqueEventList.contains(event1));
+        assertTrue(uniqueEventList.contains(event2));
+    }
+
+    @Test
+    public void add_eventsOutOfOrder_keepsListSorted() {
+        Event early = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event late = new Event(dateTime2, eventType, clientName, propertyName, note);
+        Event sameTimeAsEarly = new Event(dateTime1, EventType.OTHERS, clientName, propertyName, note);
+        uniqueEventList.add(late);
+        uniqueEventList.add(early);
+        uniqueEventList.add(sameTimeAsEarly);
+        assertEquals(List.of(early, sameTimeAsEarly, late), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvent_laterDateTime_movesEventInSingleChange() {
+        Event early = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event late = new Event(dateTime2, eventType, clientName, propertyName, note);
+        uniqueEventList.add(early);
+        uniqueEventList.add(late);
+        int[] changeCount = {0};
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) change ->
+                changeCount[0]++);
+
+        Event moved = new Event(dateTime2.plusDays(1), eventType, clientName, propertyName, note);
+        uniqueEventList.setEvent(early, moved);
+        assertEquals(List.of(late, moved), uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniqueEventList.contains(moved));
+        assertFalse(uniqueEventList.contains(early));
+    }
+
+    @Test
+    public void setEvents_unsortedList_sortsEvents() {
+        Event early = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event late = new Event(dateTime2, eventType, clientName, propertyName, note);
+        uniqueEventList.setEvents(List.of(late, early));
+        assertEquals(List.of(early, late), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPositionsOfType_afterModifications_followsList() {
+        Event meeting = new Event(dateTime2, EventType.MEETING, clientName, propertyName, note);
+        Event workshop = new Event(dateTime1, EventType.WORKSHOP, clientName, propertyName, note);
+        uniqueEventList.add(meeting);
+        uniqueEventList.add(workshop);
+        assertArrayEquals(new int[] {1}, uniqueEventList.getPositionsOfType(EventType.MEETING));
+
+        Event movedMeeting = new Event(dateTime1.minusDays(1), EventType.MEETING, clientName, propertyName, note);
+        uniqueEventList.setEvent(meeting, movedMeeting);
+        assertArrayEquals(new int[] {0}, uniqueEventList.getPositionsOfType(EventType.MEETING));
+        assertArrayEquals(new int[] {1}, uniqueEventList.getPositionsOfType(EventType.WORKSHOP));
+
+        uniqueEventList.remove(movedMeeting);
+        assertArrayEquals(new int[] {0}, uniqueEventList.getPositionsOfType(EventType.WORKSHOP));
+        assertEquals(0, uniqueEventList.countOfType(EventType.MEETING));
+        assertEquals(1, uniqueEventList.countOfType(EventType.WORKSHOP));
+    }
+
+    @Test
+    public void countOfType_readByListener_seesChange() {
+        Event meeting = new Event(dateTime2, EventType.MEETING, clientName, propertyName, note);
+        List<Integer> meetingCounts = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) change ->
+                meetingCounts.add(uniqueEventList.countOfType(EventType.MEETING)));
+
+        uniqueEventList.add(meeting);
+        Event workshop = new Event(dateTime2, EventType.WORKSHOP, clientName, propertyName, note);
+        uniqueEventList.setEvent(meeting, workshop);
+        Event movedMeeting = new Event(dateTime1, EventType.MEETING, clientName, propertyName, note);
+        uniqueEventList.setEvent(workshop, movedMeeting);
+        uniqueEventList.setEvents(List.of(workshop));
+        uniqueEventList.remove(workshop);
+        assertEquals(List.of(1, 0, 1, 0, 0), meetingCounts);
+    }
+
+    @Test
+    public void replaceEvents_searchedNotes_keepsNoteIndexInStep() {
+        Event meeting = new Event(dateTime1, EventType.MEETING, clientName, propertyName, new Note("garden view"));
+        Event workshop = new Event(dateTime2, EventType.WORKSHOP, clientName, propertyName, new Note("sea view"));
+        uniqueEventList.setEvents(List.of(meeting, workshop));
+        assertEquals(Set.of(1), uniqueEventList.scoreNotes("sea").keySet());
+
+        Map<Event, Event> replacements = new IdentityHashMap<>();
+        Event renamedWorkshop = new Event(dateTime2, EventType.WORKSHOP, new ClientName("Bob"), propertyName,
+                new Note("sea view"));
+        replacements.put(workshop, renamedWorkshop);
+        uniqueEventList.replaceEvents(replacements);
+
+        assertEquals(List.of(meeting, renamedWorkshop), uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(Set.of(1), uniqueEventList.scoreNotes("sea").keySet());
+        assertArrayEquals(new int[] {1}, uniqueEventList.getPositionsOfType(EventType.WORKSHOP));
+        assertTrue(uniqueEventList.contains(renamedWorkshop));
+        assertFalse(uniqueEventList.contains(workshop));
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.address.model.property;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Optional;
@@ -63,6 +66,8 @@ public class UniquePropertyListTest {
 
         assertEquals(1, uniquePropertyList.asUnmodifiableObservableList().size());
         assertEquals(property2, uniquePropertyList.asUnmodifiableObservableList().get(0));
+        assertFalse(uniquePropertyList.contains(property1));
+        assertTrue(uniquePropertyList.contains(property2));
     }
 
     @Test
@@ -78,4 +83,32 @@ public class UniquePropertyListTest {
         assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList
                 .setProperties(List.of(property1, property1)));
     }
+
+    @Test
+    public void contains_propertyWithSameName_returnsTrue() {
+        uniquePropertyList.add(property1);
+        Property sameName = new Property(property1.getFullName(), new Address("234 Orchid St"),
+                new Price(1500L), Optional.empty(), Optional.empty(), new ClientName("Bob Choo"));
+        assertTrue(uniquePropertyList.contains(sameName));
+    }
+
+    @Test
+    public void getPositionsWithPriceAndSizeBetween_afterModifications_followsList() {
+        Property noSize = new Property(new PropertyName("Pine Court"), new Address("345 Pine St"),
+                new Price(1800L), Optional.empty(), Optional.empty(), new ClientName("Amy Bee"));
+        uniquePropertyList.add(property1);
+        uniquePropertyList.add(noSize);
+        uniquePropertyList.add(property2);
+        assertArrayEquals(new int[] {1, 2}, uniquePropertyList.getPositionsWithPriceBetween(0, 2000));
+        assertArrayEquals(new int[] {0, 2}, uniquePropertyList.getPositionsWithSizeBetween(0, Long.MAX_VALUE));
+
+        uniquePropertyList.remove(property1);
+        assertArrayEquals(new int[] {0, 1}, uniquePropertyList.getPositionsWithPriceBetween(0, 2000));
+        assertArrayEquals(new int[] {1}, uniquePropertyList.getPositionsWithSizeBetween(0, Long.MAX_VALUE));
+
+        uniquePropertyList.setProperty(property2, new Property(property2.getFullName(), property2.getAddress(),
+                new Price(3000L), Optional.of(new Size("900")), property2.getDescription(), property2.getOwner()));
+        assertArrayEquals(new int[] {0}, uniquePropertyList.getPositionsWithPriceBetween(0, 2000));
+        assertArrayEquals(new int[] {1}, uniquePropertyList.getPositionsWithSizeBetween(900, 900));
+    }
 }
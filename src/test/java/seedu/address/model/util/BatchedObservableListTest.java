@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c", "d"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+    }
+
+    @Test
+    public void applyAsSingleChange_severalModifications_notifiesOnce() {
+        list.applyAsSingleChange(() -> {
+            list.remove("b");
+            list.add("e");
+            list.set(0, "f");
+        });
+        assertEquals(List.of("f", "c", "d", "e"), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void addAllAndRemoveAll_bulkModifications_notifyOnce() {
+        list.addAll(List.of("e", "f"));
+        assertEquals(1, changeCount);
+        list.remove(1, 3);
+        assertEquals(List.of("a", "d", "e", "f"), list);
+        assertEquals(2, changeCount);
+    }
+
+    @Test
+    public void snapshot_listModifiedLater_keepsElementsAsTaken() {
+        List<String> snapshot = list.snapshot();
+        list.set(0, "x");
+        list.add("e");
+        assertEquals(List.of("a", "b", "c", "d"), snapshot);
+        assertEquals(List.of("x", "b", "c", "d", "e"), list);
+        assertEquals(List.of("x", "b", "c", "d", "e"), list.snapshot());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @BeforeEach
+    public void setUp() {
+        List.of("alice", "alicia", "benson", "carl", "carla", "daniel", "alice").forEach(tree::add);
+    }
+
+    @Test
+    public void add_duplicateWord_keptOnce() {
+        assertEquals(6, tree.size());
+    }
+
+    @Test
+    public void search_withinDistance_returnsNearWords() {
+        assertEquals(Set.of("alice"), Set.copyOf(tree.search("alice", 0)));
+        assertEquals(Set.of(), Set.copyOf(tree.search("alcie", 1)));
+        assertEquals(Set.of("alice", "alicia"), Set.copyOf(tree.search("alcie", 2)));
+        assertEquals(Set.of("alice", "alicia"), Set.copyOf(tree.search("alica", 1)));
+        assertEquals(Set.of("carl", "carla"), Set.copyOf(tree.search("karl", 2)));
+        assertEquals(Set.of(), Set.copyOf(tree.search("zzz", 2)));
+    }
+
+    @Test
+    public void clear_removesEveryWord() {
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(List.of(), tree.search("alice", 2));
+    }
+
+    @Test
+    public void remove_word_notFoundButOthersReachable() {
+        tree.remove("alice");
+        tree.remove("zzz");
+        assertEquals(5, tree.size());
+        assertEquals(Set.of("alicia"), Set.copyOf(tree.search("alcie", 2)));
+
+        tree.add("alice");
+        assertEquals(6, tree.size());
+        assertEquals(Set.of("alice", "alicia"), Set.copyOf(tree.search("alcie", 2)));
+    }
+
+    @Test
+    public void remove_mostWords_rebuildsWithWordsLeft() {
+        List.of("alice", "alicia", "benson", "carl").forEach(tree::remove);
+        assertEquals(2, tree.size());
+        assertEquals(Set.of("carla"), Set.copyOf(tree.search("karl", 2)));
+        assertEquals(Set.of("daniel"), Set.copyOf(tree.search("danial", 1)));
+    }
+}
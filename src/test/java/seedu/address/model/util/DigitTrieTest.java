@@ -0,0 +1,46 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DigitTrieTest {
+
+    private final DigitTrie trie = new DigitTrie();
+
+    @BeforeEach
+    public void setUp() {
+        trie.reset(List.of("94351253", "98765432", "95352563", "88888888"));
+    }
+
+    @Test
+    public void positionsContaining_digitRun_returnsMatchingPositions() {
+        assertArrayEquals(new int[] {0, 2}, trie.positionsContaining("35").get());
+        assertArrayEquals(new int[] {1}, trie.positionsContaining("98765432").get());
+        assertArrayEquals(new int[] {0, 1, 2}, trie.positionsContaining("5").get());
+        assertArrayEquals(new int[] {3}, trie.positionsContaining("888").get());
+        assertArrayEquals(new int[] {}, trie.positionsContaining("123").get());
+    }
+
+    @Test
+    public void positionsContaining_unanswerableRun_returnsEmpty() {
+        assertEquals(Optional.empty(), trie.positionsContaining(""));
+        assertEquals(Optional.empty(), trie.positionsContaining("9435 1253"));
+        assertEquals(Optional.empty(), trie.positionsContaining("12345678901234567"));
+    }
+
+    @Test
+    public void insertRemoveAndReplace_followsList() {
+        trie.insert(0, "61234567");
+        trie.remove(2, "98765432");
+        trie.replace(2, "95352563", "91111111");
+        assertArrayEquals(new int[] {0, 1}, trie.positionsContaining("3").get());
+        assertArrayEquals(new int[] {0, 1}, trie.positionsContaining("12").get());
+        assertArrayEquals(new int[] {}, trie.positionsContaining("9876").get());
+    }
+}
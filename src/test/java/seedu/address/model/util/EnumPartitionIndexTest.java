@@ -0,0 +1,53 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.deal.DealStatus;
+
+public class EnumPartitionIndexTest {
+
+    private final EnumPartitionIndex<DealStatus> index = new EnumPartitionIndex<>(DealStatus.class);
+
+    @BeforeEach
+    public void setUp() {
+        index.reset(List.of(DealStatus.OPEN, DealStatus.CLOSED, DealStatus.OPEN));
+    }
+
+    @Test
+    public void positionsOf_afterReset_returnsAscendingPositions() {
+        assertArrayEquals(new int[] {0, 2}, index.positionsOf(DealStatus.OPEN));
+        assertArrayEquals(new int[] {1}, index.positionsOf(DealStatus.CLOSED));
+        assertArrayEquals(new int[] {}, index.positionsOf(DealStatus.PENDING));
+        assertEquals(2, index.count(DealStatus.OPEN));
+        assertEquals(0, index.count(DealStatus.PENDING));
+    }
+
+    @Test
+    public void insertAndRemove_shiftLaterPositions() {
+        index.insert(1, DealStatus.PENDING);
+        assertArrayEquals(new int[] {0, 3}, index.positionsOf(DealStatus.OPEN));
+        assertArrayEquals(new int[] {1}, index.positionsOf(DealStatus.PENDING));
+
+        index.remove(0, DealStatus.OPEN);
+        assertArrayEquals(new int[] {2}, index.positionsOf(DealStatus.OPEN));
+        assertArrayEquals(new int[] {0}, index.positionsOf(DealStatus.PENDING));
+        assertEquals(1, index.count(DealStatus.OPEN));
+    }
+
+    @Test
+    public void replace_movesPositionBetweenPartitions() {
+        index.replace(1, DealStatus.CLOSED, DealStatus.OPEN);
+        assertArrayEquals(new int[] {0, 1, 2}, index.positionsOf(DealStatus.OPEN));
+        assertEquals(0, index.count(DealStatus.CLOSED));
+
+        // same value -> unchanged
+        index.replace(1, DealStatus.OPEN, DealStatus.OPEN);
+        assertEquals(3, index.count(DealStatus.OPEN));
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class IndexedFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final BatchedObservableList<Integer> source = new BatchedObservableList<>();
+    private final List<Integer> mirror = new ArrayList<>();
+    private IndexedFilteredList<Integer> filteredList;
+
+    @BeforeEach
+    public void setUp() {
+        source.addAll(List.of(1, 2, 3, 4, 5, 6));
+        filteredList = new IndexedFilteredList<>(source);
+        mirror.addAll(filteredList);
+        filteredList.addListener((ListChangeListener<Integer>) this::applyToMirror);
+    }
+
+    @Test
+    public void setPredicate_withCandidates_testsOnlyCandidates() {
+        List<Integer> tested = new ArrayList<>();
+        filteredList.setPredicate(number -> tested.add(number) && IS_EVEN.test(number), new int[] {0, 1, 3});
+        assertEquals(List.of(1, 2, 4), tested);
+        assertEquals(List.of(2, 4), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void narrowPredicate_removesOnlyFailingShownElements() {
+        filteredList.setPredicate(IS_EVEN);
+        List<Integer> tested = new ArrayList<>();
+        List<Integer> removed = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                assertEquals(0, change.getAddedSize());
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        // 4 is not a candidate, so it is removed untested
+        filteredList.narrowPredicate(number -> tested.add(number) && number > 2, new int[] {1, 5});
+        assertEquals(List.of(2, 6), tested);
+        assertEquals(List.of(6), filteredList);
+        assertEquals(List.of(2, 4), removed);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void setMatches_showsMatchesWithoutTesting() {
+        filteredList.setMatches(number -> {
+            throw new AssertionError("Matches should not be tested");
+        }, new int[] {1, 3});
+        assertEquals(List.of(2, 4), filteredList);
+        assertArrayEquals(new int[] {1, 3}, filteredList.getSourcePositions());
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void getSourceVersion_sourceChanged_increases() {
+        long version = filteredList.getSourceVersion();
+        filteredList.setPredicate(IS_EVEN);
+        assertEquals(version, filteredList.getSourceVersion());
+        source.add(8);
+        assertEquals(version + 1, filteredList.getSourceVersion());
+    }
+
+    @Test
+    public void setPredicate_null_showsAll() {
+        filteredList.setPredicate(IS_EVEN);
+        filteredList.setPredicate(null);
+        assertEquals(source, filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_addRemoveAndSet_followsSource() {
+        filteredList.setPredicate(IS_EVEN);
+
+        source.add(1, 8);
+        source.remove(Integer.valueOf(4));
+        source.set(0, 10);
+        source.set(2, 7);
+        source.applyAsSingleChange(() -> {
+            source.add(12);
+            source.remove(0);
+        });
+
+        assertEquals(source.stream().filter(IS_EVEN).toList(), filteredList);
+        assertEquals(filteredList, mirror);
+        for (int i = 0; i < filteredList.size(); i++) {
+            assertEquals(i, filteredList.getViewIndex(filteredList.getSourceIndex(i)));
+        }
+    }
+
+    @Test
+    public void setPredicate_aboveParallelThreshold_sameAsSerial() {
+        source.setAll(IntStream.range(0, 1000).boxed().toList());
+        filteredList.setParallelThreshold(100);
+
+        filteredList.setPredicate(IS_EVEN);
+        assertEquals(source.stream().filter(IS_EVEN).toList(), filteredList);
+        assertEquals(filteredList, mirror);
+
+        filteredList.narrowPredicate(IS_EVEN.and(number -> number % 3 == 0), Positions.range(0, 1000));
+        assertEquals(source.stream().filter(number -> number % 6 == 0).toList(), filteredList);
+        assertEquals(filteredList, mirror);
+
+        source.sort((first, second) -> second - first);
+        assertEquals(source.stream().filter(number -> number % 6 == 0).toList(), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    private void applyToMirror(ListChangeListener.Change<? extends Integer> change) {
+        while (change.next()) {
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                mirror.remove(change.getFrom());
+            }
+            mirror.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
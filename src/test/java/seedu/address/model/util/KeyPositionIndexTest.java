@@ -0,0 +1,58 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KeyPositionIndexTest {
+
+    private final KeyPositionIndex<String> index = new KeyPositionIndex<>();
+
+    @BeforeEach
+    public void setUp() {
+        index.reset(List.of("a", "b", "c"));
+    }
+
+    @Test
+    public void positionOf_afterReset_returnsPosition() {
+        assertEquals(0, index.positionOf("a"));
+        assertEquals(2, index.positionOf("c"));
+        assertEquals(-1, index.positionOf("d"));
+        assertTrue(index.contains("b"));
+        assertFalse(index.contains("d"));
+    }
+
+    @Test
+    public void insertAndRemove_middlePosition_laterKeysFollow() {
+        index.insert(1, "d");
+        assertEquals(1, index.positionOf("d"));
+        assertEquals(2, index.positionOf("b"));
+        assertEquals(3, index.positionOf("c"));
+
+        index.remove(0, "a");
+        assertFalse(index.contains("a"));
+        assertEquals(0, index.positionOf("d"));
+        assertEquals(2, index.positionOf("c"));
+    }
+
+    @Test
+    public void replace_changedKey_keepsPosition() {
+        index.replace(1, "b", "e");
+        assertFalse(index.contains("b"));
+        assertEquals(1, index.positionOf("e"));
+    }
+
+    @Test
+    public void replaceAll_swappedKeys_keepsPositions() {
+        index.replaceAll(new int[] {0, 2}, List.of("a", "c"), List.of("c", "d"));
+        assertFalse(index.contains("a"));
+        assertEquals(0, index.positionOf("c"));
+        assertEquals(2, index.positionOf("d"));
+        assertEquals(1, index.positionOf("b"));
+    }
+}
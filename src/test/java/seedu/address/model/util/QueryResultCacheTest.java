@@ -0,0 +1,70 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
+
+public class QueryResultCacheTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+    private static final Predicate<Integer> IS_ODD = number -> number % 2 == 1;
+
+    private final Object source = new Object();
+    private final QueryResultCache cache = new QueryResultCache(Long.MAX_VALUE);
+
+    @Test
+    public void get_equalPredicateSameVersion_hits() {
+        cache.put(source, 0, new ClientNameContainsKeywordsPredicate(List.of("Alice")), new int[] {1, 4});
+        assertArrayEquals(new int[] {1, 4},
+                cache.get(source, 0, new ClientNameContainsKeywordsPredicate(List.of("Alice"))).get());
+        assertFalse(cache.get(source, 0, new ClientNameContainsKeywordsPredicate(List.of("Bob"))).isPresent());
+        assertFalse(cache.get(new Object(), 0, new ClientNameContainsKeywordsPredicate(List.of("Alice"))).isPresent());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void put_laterVersion_dropsEarlierVersions() {
+        Object otherSource = new Object();
+        cache.put(source, 0, IS_EVEN, new int[] {0, 2});
+        cache.put(otherSource, 0, IS_EVEN, new int[] {0});
+        cache.put(source, 1, IS_ODD, new int[] {1});
+        assertFalse(cache.get(source, 0, IS_EVEN).isPresent());
+        assertArrayEquals(new int[] {0}, cache.get(otherSource, 0, IS_EVEN).get());
+        assertArrayEquals(new int[] {1}, cache.get(source, 1, IS_ODD).get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void put_overMemoryLimit_evictsLeastRecentlyUsed() {
+        QueryResultCache smallCache = new QueryResultCache(16); // two results of up to 64 positions
+        smallCache.put(source, 0, IS_EVEN, new int[] {0, 2});
+        smallCache.put(source, 0, IS_ODD, new int[] {1, 3});
+        smallCache.get(source, 0, IS_EVEN);
+        smallCache.put(source, 0, number -> true, new int[] {0, 1, 2, 3});
+
+        assertEquals(2, smallCache.size());
+        assertEquals(16, smallCache.getMemoryUsage());
+        assertFalse(smallCache.get(source, 0, IS_ODD).isPresent());
+        assertArrayEquals(new int[] {0, 2}, smallCache.get(source, 0, IS_EVEN).get());
+
+        // a result larger than the whole cache is not kept
+        smallCache.put(source, 0, IS_ODD, new int[] {1, 1001});
+        assertFalse(smallCache.get(source, 0, IS_ODD).isPresent());
+    }
+
+    @Test
+    public void clear_dropsEveryResult() {
+        cache.put(source, 0, IS_EVEN, new int[] {0, 2});
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMemoryUsage());
+    }
+}
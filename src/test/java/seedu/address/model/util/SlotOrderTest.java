@@ -0,0 +1,75 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotOrderTest {
+
+    private final SlotOrder order = new SlotOrder();
+
+    @Test
+    public void insert_atEnd_slotsAreTheirPositions() {
+        order.reset(3);
+        assertEquals(3, order.insert(3));
+        order.remove(3);
+        assertEquals(3, order.insert(3));
+        assertTrue(order.isSlotPosition());
+        assertEquals(4, order.size());
+        for (int position = 0; position < 4; position++) {
+            assertEquals(position, order.slotAt(position));
+            assertEquals(position, order.positionOf(position));
+        }
+    }
+
+    @Test
+    public void insert_middle_laterSlotsMoveBack() {
+        order.reset(3);
+        int slot = order.insert(1);
+        assertFalse(order.isSlotPosition());
+        assertEquals(1, order.positionOf(slot));
+        assertEquals(slot, order.slotAt(1));
+        assertEquals(0, order.positionOf(0));
+        assertEquals(2, order.positionOf(1));
+        assertEquals(3, order.positionOf(2));
+    }
+
+    @Test
+    public void remove_middle_slotReusedAndLaterSlotsMoveForward() {
+        order.reset(4);
+        assertEquals(1, order.remove(1));
+        assertEquals(3, order.size());
+        assertEquals(1, order.positionOf(2));
+        assertEquals(2, order.positionOf(3));
+
+        assertEquals(1, order.insert(3));
+        assertEquals(3, order.positionOf(1));
+    }
+
+    @Test
+    public void insertAndRemove_manyRandomChanges_followsList() {
+        Random random = new Random(8);
+        List<Integer> slotsByPosition = new ArrayList<>();
+        for (int change = 0; change < 2000; change++) {
+            if (slotsByPosition.isEmpty() || random.nextInt(3) > 0) {
+                int position = random.nextInt(slotsByPosition.size() + 1);
+                slotsByPosition.add(position, order.insert(position));
+            } else {
+                int position = random.nextInt(slotsByPosition.size());
+                assertEquals((int) slotsByPosition.remove(position), order.remove(position));
+            }
+        }
+
+        assertEquals(slotsByPosition.size(), order.size());
+        for (int position = 0; position < slotsByPosition.size(); position++) {
+            assertEquals((int) slotsByPosition.get(position), order.slotAt(position));
+            assertEquals(position, order.positionOf(slotsByPosition.get(position)));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SortedLongIndexTest {
+
+    private final SortedLongIndex index = new SortedLongIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // keys by position: 300, -, 100, 200, 100
+        index.reset(List.of(new long[] {300}, new long[0], new long[] {100}, new long[] {200}, new long[] {100}));
+    }
+
+    @Test
+    public void positionsInRange_afterReset_returnsAscendingPositions() {
+        assertEquals(5, index.size());
+        assertArrayEquals(new int[] {0, 2, 3, 4}, index.positionsInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertArrayEquals(new int[] {2, 4}, index.positionsInRange(100, 100));
+        assertArrayEquals(new int[] {0, 3}, index.positionsInRange(101, Long.MAX_VALUE));
+        assertArrayEquals(new int[] {}, index.positionsInRange(301, Long.MAX_VALUE));
+        assertArrayEquals(new int[] {}, index.positionsInRange(200, 100));
+    }
+
+    @Test
+    public void countInRange_afterReset_countsEntries() {
+        assertEquals(4, index.countInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(2, index.countInRange(100, 100));
+        assertEquals(2, index.countInRange(101, Long.MAX_VALUE));
+        assertEquals(0, index.countInRange(301, Long.MAX_VALUE));
+        assertEquals(0, index.countInRange(200, 100));
+    }
+
+    @Test
+    public void insert_middlePosition_shiftsLaterPositions() {
+        index.insert(1, 150);
+        index.insert(6);
+        assertEquals(7, index.size());
+        assertArrayEquals(new int[] {1, 3, 5}, index.positionsInRange(100, 150));
+        assertArrayEquals(new int[] {0, 4}, index.positionsInRange(200, 300));
+    }
+
+    @Test
+    public void remove_position_shiftsLaterPositions() {
+        index.remove(1);
+        index.remove(0, 300);
+        assertEquals(3, index.size());
+        assertArrayEquals(new int[] {0, 1, 2}, index.positionsInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertArrayEquals(new int[] {1}, index.positionsInRange(200, 200));
+    }
+
+    @Test
+    public void replace_changedKey_movesEntry() {
+        index.replace(2, new long[] {100}, new long[] {400});
+        index.replace(1, new long[0], new long[] {50});
+        index.replace(3, new long[] {200}, new long[0]);
+        assertArrayEquals(new int[] {1, 4}, index.positionsInRange(Long.MIN_VALUE, 100));
+        assertArrayEquals(new int[] {0, 2}, index.positionsInRange(300, Long.MAX_VALUE));
+        assertArrayEquals(new int[] {}, index.positionsInRange(200, 200));
+    }
+
+    @Test
+    public void positionsInRange_severalKeysPerElement_returnsEachPositionOnce() {
+        index.insert(5, 100, 300);
+        assertArrayEquals(new int[] {0, 2, 3, 4, 5}, index.positionsInRange(100, 300));
+        assertArrayEquals(new int[] {2, 4, 5}, index.positionsInRange(100, 100));
+        index.remove(5, 100, 300);
+        assertArrayEquals(new int[] {0}, index.positionsInRange(300, 300));
+    }
+
+    @Test
+    public void positionsInRange_manyRandomChanges_followsList() {
+        Random random = new Random(8);
+        List<Long> keysByPosition = new ArrayList<>(List.of(300L, -1L, 100L, 200L, 100L)); // -1 for no key
+        for (int change = 0; change < 2000; change++) {
+            int size = keysByPosition.size();
+            int choice = random.nextInt(3);
+            if (size == 0 || choice == 0) {
+                int position = random.nextInt(size + 1);
+                long key = random.nextInt(10) * 100L;
+                keysByPosition.add(position, key);
+                index.insert(position, key);
+            } else if (choice == 1) {
+                int position = random.nextInt(size);
+                index.remove(position, keysOf(keysByPosition.remove(position)));
+            } else {
+                int position = random.nextInt(size);
+                long key = random.nextInt(10) * 100L;
+                index.replace(position, keysOf(keysByPosition.set(position, key)), keysOf(key));
+            }
+        }
+
+        assertEquals(keysByPosition.size(), index.size());
+        for (long key = 0; key < 1000; key += 100) {
+            long matched = key;
+            assertArrayEquals(IntStream.range(0, keysByPosition.size())
+                    .filter(position -> keysByPosition.get(position) == matched).toArray(),
+                    index.positionsInRange(key, key));
+        }
+        assertArrayEquals(IntStream.range(0, keysByPosition.size())
+                .filter(position -> keysByPosition.get(position) >= 200 && keysByPosition.get(position) <= 500)
+                .toArray(), index.positionsInRange(200, 500));
+    }
+
+    @Test
+    public void sharedSlotOrder_indexesOfSameList_followList() {
+        SlotOrder slotOrder = new SlotOrder();
+        slotOrder.reset(5);
+        SortedLongIndex first = new SortedLongIndex(slotOrder);
+        SortedLongIndex second = new SortedLongIndex(slotOrder);
+        first.reset(List.of(new long[] {300}, new long[0], new long[] {100}, new long[] {200}, new long[] {100}));
+        second.reset(List.of(new long[] {1}, new long[] {2}, new long[] {1}, new long[0], new long[] {2}));
+
+        // the list inserts into the slot order before the indexes, and removes from it after them
+        slotOrder.insert(0);
+        first.insert(0, 100);
+        second.insert(0, 2);
+        first.remove(3, 100);
+        second.remove(3, 1);
+        slotOrder.remove(3);
+
+        assertEquals(5, first.size());
+        assertArrayEquals(new int[] {0, 4}, first.positionsInRange(100, 100));
+        assertArrayEquals(new int[] {1, 3}, first.positionsInRange(200, Long.MAX_VALUE));
+        assertArrayEquals(new int[] {0, 2, 4}, second.positionsInRange(2, 2));
+        assertArrayEquals(new int[] {1}, second.positionsInRange(1, 1));
+    }
+
+    @Test
+    public void reset_sharedSlotOrderAfterChanges_returnsAscendingPositions() {
+        SlotOrder slotOrder = new SlotOrder();
+        slotOrder.reset(4);
+        slotOrder.remove(1);
+        slotOrder.insert(0); // takes the freed slot, so slots no longer follow positions
+        SortedLongIndex shared = new SortedLongIndex(slotOrder);
+        shared.reset(List.of(new long[] {100}, new long[] {100, 200}, new long[] {200}, new long[] {100}));
+        assertArrayEquals(new int[] {0, 1, 3}, shared.positionsInRange(100, 100));
+        assertArrayEquals(new int[] {1, 2}, shared.positionsInRange(200, 200));
+        assertEquals(5, shared.countInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    private static long[] keysOf(long key) {
+        return key < 0 ? new long[0] : new long[] {key};
+    }
+}
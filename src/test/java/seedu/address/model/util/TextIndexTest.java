@@ -0,0 +1,93 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TextIndexTest {
+
+    private final TextIndex index = new TextIndex();
+
+    @Test
+    public void score_matchingTerms_ranksByBm25() {
+        index.reset(List.of("sea view, sea view", "Sea view", "view of the garden from a long corridor", "no match"));
+
+        Map<Integer, Double> seaScores = index.score("SEA");
+        assertEquals(2, seaScores.size());
+        // more occurrences of the term -> higher score
+        assertTrue(seaScores.get(0) > seaScores.get(1));
+
+        Map<Integer, Double> viewScores = index.score("view");
+        assertEquals(3, viewScores.size());
+        // rarer term -> higher score
+        assertTrue(seaScores.get(1) > viewScores.get(1));
+        // shorter field -> higher score
+        assertTrue(viewScores.get(1) > viewScores.get(2));
+
+        // scores of the terms are added up
+        assertEquals(seaScores.get(1) + viewScores.get(1), index.score("sea view").get(1), 1e-9);
+    }
+
+    @Test
+    public void score_noMatches_returnsEmptyMap() {
+        assertTrue(index.score("sea").isEmpty());
+        index.reset(List.of("sea view"));
+        assertTrue(index.score("garden").isEmpty());
+        assertTrue(index.score("!!").isEmpty());
+    }
+
+    @Test
+    public void insertRemoveReplace_sameAsReset() {
+        index.insert(0, "b c");
+        index.insert(0, "a b");
+        index.insert(2, "c c d");
+        index.replace(1, "b d");
+        index.remove(0);
+
+        TextIndex expected = new TextIndex();
+        expected.reset(List.of("b d", "c c d"));
+        assertEquals(expected.getTermCountsByPosition(), index.getTermCountsByPosition());
+        assertEquals(expected.score("a b c d"), index.score("a b c d"));
+        assertEquals(2, index.size());
+        assertEquals(expected.termCount(), index.termCount());
+    }
+
+    @Test
+    public void removeAndReplace_lastElementWithTerm_dropsTerm() {
+        index.reset(List.of("sea view", "garden view"));
+        index.replace(0, "pool view");
+        index.remove(1);
+        assertEquals(2, index.termCount());
+        assertTrue(index.score("sea garden").isEmpty());
+        assertEquals(Set.of(0), index.score("pool").keySet());
+    }
+
+    @Test
+    public void restore_termCounts_sameAsReset() {
+        index.reset(List.of("Sea view", "garden view", ""));
+        TextIndex restored = new TextIndex();
+        restored.restore(index.getTermCountsByPosition());
+
+        assertEquals(List.of(Map.of("sea", 1, "view", 1), Map.of("garden", 1, "view", 1), Map.of()),
+                restored.getTermCountsByPosition());
+        assertEquals(index.score("view garden"), restored.score("view garden"));
+    }
+
+    @Test
+    public void fingerprintOf() {
+        long fingerprint = TextIndex.fingerprintOf(List.of("sea view", "garden"));
+        assertEquals(fingerprint, TextIndex.fingerprintOf(List.of("sea view", "garden")));
+
+        // moved, changed or added fields -> different fingerprint
+        assertNotEquals(fingerprint, TextIndex.fingerprintOf(List.of("garden", "sea view")));
+        assertNotEquals(fingerprint, TextIndex.fingerprintOf(List.of("sea view", "gardens")));
+        assertNotEquals(fingerprint, TextIndex.fingerprintOf(List.of("sea view", "garden", "")));
+        assertNotEquals(fingerprint, TextIndex.fingerprintOf(List.of("sea", "view garden")));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TokenIndexTest {
+
+    private final TokenIndex index = new TokenIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.reset(List.of("Alice Pauline", "Benson Meier", "alice  alice", "Daniel Meier"));
+    }
+
+    @Test
+    public void positionsWithToken_differentCase_returnsMatchingPositions() {
+        assertArrayEquals(new int[] {0, 2}, index.positionsWithToken("ALICE"));
+        assertArrayEquals(new int[] {1, 3}, index.positionsWithToken("meier"));
+        assertArrayEquals(new int[] {}, index.positionsWithToken("Ali"));
+        assertArrayEquals(new int[] {}, index.positionsWithToken("Carl"));
+    }
+
+    @Test
+    public void countWithToken_differentCase_countsMatchingElements() {
+        assertEquals(2, index.countWithToken("ALICE"));
+        assertEquals(2, index.countWithToken("meier"));
+        assertEquals(0, index.countWithToken("Carl"));
+        assertEquals(2, index.countWithTokenNear("Meir", 1));
+        assertEquals(0, index.countWithTokenNear("Alcie", 1));
+    }
+
+    @Test
+    public void positionsWithTokenNear_misspeltToken_returnsNearMatches() {
+        assertArrayEquals(new int[] {0, 2}, index.positionsWithTokenNear("ALCIE", 2));
+        assertArrayEquals(new int[] {1, 3}, index.positionsWithTokenNear("Meir", 1));
+        assertArrayEquals(new int[] {}, index.positionsWithTokenNear("Alcie", 1));
+
+        // words added later are also found
+        index.insert(4, "Carl Kurz");
+        assertArrayEquals(new int[] {4}, index.positionsWithTokenNear("Karl", 1));
+    }
+
+    @Test
+    public void insertAndRemove_middlePosition_shiftsPostings() {
+        index.insert(1, "Carl Meier");
+        assertArrayEquals(new int[] {1, 2, 4}, index.positionsWithToken("Meier"));
+        index.remove(0, "Alice Pauline");
+        assertArrayEquals(new int[] {0, 1, 3}, index.positionsWithToken("Meier"));
+        assertArrayEquals(new int[] {2}, index.positionsWithToken("Alice"));
+        assertArrayEquals(new int[] {}, index.positionsWithToken("Pauline"));
+    }
+
+    @Test
+    public void replace_changedText_movesPostings() {
+        index.replace(3, "Daniel Meier", "Daniel Pauline");
+        assertArrayEquals(new int[] {1}, index.positionsWithToken("Meier"));
+        assertArrayEquals(new int[] {0, 3}, index.positionsWithToken("pauline"));
+    }
+
+    @Test
+    public void wordCount_lastOccurrenceRemoved_dropsWord() {
+        assertEquals(5, index.wordCount());
+        index.remove(0, "Alice Pauline");
+        assertEquals(4, index.wordCount());
+        assertArrayEquals(new int[] {}, index.positionsWithTokenNear("Pauljne", 1));
+
+        index.replace(1, "alice  alice", "Carl");
+        assertEquals(4, index.wordCount());
+        assertArrayEquals(new int[] {}, index.positionsWithToken("alice"));
+        assertArrayEquals(new int[] {1}, index.positionsWithToken("carl"));
+
+        index.insert(0, "Alice Pauline");
+        assertArrayEquals(new int[] {0}, index.positionsWithTokenNear("Pauljne", 1));
+    }
+}
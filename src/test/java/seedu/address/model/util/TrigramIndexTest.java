@@ -0,0 +1,65 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex("test address");
+
+    @BeforeEach
+    public void setUp() {
+        index.reset(List.of("123, Jurong West Ave 6", "Blk 30 Geylang Street 29", "311, Clementi Ave 2",
+                "4th street"));
+    }
+
+    @Test
+    public void positionsContaining_substring_returnsSupersetOfMatches() {
+        assertArrayEquals(new int[] {0, 2}, index.positionsContaining("AVE").get());
+        assertArrayEquals(new int[] {1, 3}, index.positionsContaining("Street").get());
+        assertArrayEquals(new int[] {2}, index.positionsContaining("clementi ave").get());
+        assertArrayEquals(new int[] {}, index.positionsContaining("Tampines").get());
+    }
+
+    @Test
+    public void positionsContaining_shortSubstring_returnsEmpty() {
+        assertEquals(Optional.empty(), index.positionsContaining("Av"));
+    }
+
+    @Test
+    public void insertRemoveAndReplace_followsList() {
+        index.insert(0, "10 Anson Road");
+        index.remove(2, "Blk 30 Geylang Street 29");
+        index.replace(3, "4th street", "5th avenue");
+        assertArrayEquals(new int[] {1, 2, 3}, index.positionsContaining("ave").get());
+        assertArrayEquals(new int[] {0}, index.positionsContaining("anson").get());
+        assertArrayEquals(new int[] {}, index.positionsContaining("street").get());
+    }
+
+    @Test
+    public void reset_overMemoryLimit_fallsBackToScanning() {
+        index.setMemoryLimit(100);
+        index.reset(List.of("123, Jurong West Ave 6", "Blk 30 Geylang Street 29"));
+        assertEquals(Optional.empty(), index.positionsContaining("Street"));
+        assertEquals(0, index.getMemoryUsage());
+
+        index.setMemoryLimit(Long.MAX_VALUE);
+        index.reset(List.of("123, Jurong West Ave 6", "Blk 30 Geylang Street 29"));
+        assertArrayEquals(new int[] {1}, index.positionsContaining("Street").get());
+        assertTrue(index.getMemoryUsage() > 0);
+    }
+
+    @Test
+    public void insert_overMemoryLimit_fallsBackToScanning() {
+        index.setMemoryLimit(index.getMemoryUsage());
+        index.insert(4, "a very long address that needs many more trigram entries than the index has room for");
+        assertEquals(Optional.empty(), index.positionsContaining("Street"));
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundSaverTest {
+
+    /** Long enough that nothing is written until the saver is shut down. */
+    private static final long LONG_DELAY = 60_000;
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBook;
+    private int saveCount;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        saveCount = 0;
+    }
+
+    @Test
+    public void requestSave_burstOfChanges_savedOnceWithLatest() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(countingStorage(), LONG_DELAY, Runnable::run);
+
+        addressBook.addClient(ALICE);
+        CompletableFuture<Void> firstResult = requestSave(saver);
+        addressBook.addClient(BENSON);
+        requestSave(saver);
+        addressBook.addClient(CARL);
+        CompletableFuture<Void> lastResult = requestSave(saver);
+        assertSame(firstResult, lastResult);
+        assertEquals(0, saveCount);
+
+        saver.shutdown();
+        assertEquals(1, saveCount);
+        assertTrue(firstResult.isDone());
+        assertEquals(addressBook, readSaved());
+    }
+
+    @Test
+    public void requestSave_changedAfterRequest_savesAddressBookAsRequested() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(countingStorage(), LONG_DELAY, Runnable::run);
+        addressBook.addClient(ALICE);
+        requestSave(saver);
+        AddressBook requested = new AddressBook(addressBook);
+
+        addressBook.addClient(BENSON);
+        saver.shutdown();
+        assertEquals(requested, readSaved());
+    }
+
+    @Test
+    public void requestSave_noDelay_savedInBackground() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(countingStorage(), 0, Runnable::run);
+        addressBook.addClient(ALICE);
+        requestSave(saver).get(10, TimeUnit.SECONDS);
+        assertEquals(1, saveCount);
+        assertEquals(addressBook, readSaved());
+        assertFalse(Files.exists(new JsonAddressBookStorage(testFolder.resolve("addressBook.json"))
+                .getTextIndexFilePath()));
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_steadyStreamOfChanges_savedWithinMaxDelay() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(countingStorage(), LONG_DELAY, 100, Runnable::run);
+        addressBook.addClient(ALICE);
+        CompletableFuture<Void> result = requestSave(saver);
+        while (!result.isDone()) {
+            requestSave(saver);
+            Thread.sleep(10);
+        }
+        result.get(10, TimeUnit.SECONDS);
+        assertTrue(saveCount >= 1);
+        assertEquals(addressBook, readSaved());
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_resultFails() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(failingStorage(), 0, Runnable::run);
+        CompletableFuture<Void> result = requestSave(saver);
+        assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+        assertSame(DUMMY_IO_EXCEPTION, result.handle((ignored, failure) -> failure).get());
+
+        // nothing is left waiting to be saved
+        saver.shutdown();
+    }
+
+    @Test
+    public void shutdown_storageThrowsIoException_throwsIoException() {
+        BackgroundSaver saver = new BackgroundSaver(failingStorage(), LONG_DELAY, Runnable::run);
+        requestSave(saver);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::shutdown);
+    }
+
+    private CompletableFuture<Void> requestSave(BackgroundSaver saver) {
+        return saver.requestSave(addressBook);
+    }
+
+    private AddressBook readSaved() throws Exception {
+        return new AddressBook(new JsonAddressBookStorage(testFolder.resolve("addressBook.json"))
+                .readAddressBook().get());
+    }
+
+    private Storage countingStorage() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    private Storage failingStorage() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+}
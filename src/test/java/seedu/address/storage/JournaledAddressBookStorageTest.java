@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.PropertyName;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalProperties;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final int CHECKPOINT_INTERVAL = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook original;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        original = typicalAddressBook();
+        storage = new JournaledAddressBookStorage(filePath, CHECKPOINT_INTERVAL);
+        storage.saveAddressBook(original);
+    }
+
+    @Test
+    public void getJournalFilePath_besideDataFile() {
+        assertEquals(testFolder.resolve("TempAddressBook.journal"), storage.getJournalFilePath());
+    }
+
+    @Test
+    public void saveAddressBook_changes_journaledAndReplayed() throws Exception {
+        AddressBook checkpointed = new AddressBook(original);
+
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original);
+        original.renameProperty(EVENT2.getPropertyName(), new PropertyName("Jurong Lakeside HDB"));
+        original.addEvent(new Event(LocalDateTime.of(2020, 1, 1, 9, 0), EVENT2.getEventType(),
+                EVENT2.getClientName(), EVENT2.getPropertyName(), EVENT2.getNote()));
+        storage.saveAddressBook(original);
+        assertEquals(2, storage.getJournalLength());
+
+        // data file left as it was -> only read in full with the journal
+        assertEquals(checkpointed, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(readAgain()));
+    }
+
+    @Test
+    public void saveAddressBook_latestOfSeveralSnapshots_allChangesJournaledOnce() throws Exception {
+        original.addClient(HOON);
+        storage.snapshotAddressBook(original);
+        original.removeClient(ALICE);
+        ReadOnlyAddressBook latest = storage.snapshotAddressBook(original);
+        original.addClient(IDA); // changed after the snapshot -> not saved with it
+        AddressBook expected = new AddressBook(latest);
+
+        storage.saveAddressBook(latest);
+        assertEquals(1, storage.getJournalLength());
+        assertEquals(expected, new AddressBook(readAgain()));
+
+        storage.saveAddressBook(original);
+        assertEquals(2, storage.getJournalLength());
+        assertEquals(original, new AddressBook(readAgain()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingJournaled() throws Exception {
+        String journal = FileUtil.readFromFile(storage.getJournalFilePath());
+        storage.saveAddressBook(original);
+        assertEquals(0, storage.getJournalLength());
+        assertEquals(journal, FileUtil.readFromFile(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_writesDataFile() throws Exception {
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        original.addClient(IDA);
+        storage.saveAddressBook(original);
+        original.removeClient(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(CHECKPOINT_INTERVAL, storage.getJournalLength());
+
+        original.removeClient(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(0, storage.getJournalLength());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(readAgain()));
+    }
+
+    @Test
+    public void readAddressBook_dataFileEdited_journalIgnored() throws Exception {
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook edited = typicalAddressBook();
+        edited.addClient(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        assertEquals(edited, new AddressBook(readAgain()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_replaysCompleteEntries() throws Exception {
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"clients\":[{\"from\":0,");
+        assertEquals(original, new AddressBook(readAgain()));
+    }
+
+    @Test
+    public void trackAddressBook_sameDataAsRead_continuesJournal() throws Exception {
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, CHECKPOINT_INTERVAL);
+        AddressBook model = new AddressBook(reopened.readAddressBook().get());
+        reopened.trackAddressBook(model);
+        model.removeClient(HOON);
+        reopened.saveAddressBook(model);
+        assertEquals(2, reopened.getJournalLength());
+        assertEquals(model, new AddressBook(readAgain()));
+
+        // different data from that read -> checkpoints on next save
+        AddressBook other = new AddressBook();
+        reopened.trackAddressBook(other);
+        reopened.saveAddressBook(other);
+        assertEquals(0, reopened.getJournalLength());
+        assertNotEquals(model, new AddressBook(readAgain()));
+    }
+
+    @Test
+    public void trackAddressBook_eventsStoredOutOfOrder_checkpointsOnNextSave() throws Exception {
+        List<JsonAdaptedEvent> reversedEvents = new ArrayList<>();
+        original.getEventList().forEach(event -> reversedEvents.add(0, new JsonAdaptedEvent(event)));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(
+                original.getClientList().stream().map(JsonAdaptedClient::new).toList(),
+                original.getPropertyList().stream().map(JsonAdaptedProperty::new).toList(),
+                List.of(), reversedEvents), filePath);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, CHECKPOINT_INTERVAL);
+        AddressBook model = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, model);
+        reopened.trackAddressBook(model);
+        model.addClient(HOON);
+        reopened.saveAddressBook(model);
+        assertEquals(0, reopened.getJournalLength());
+        assertEquals(model, new AddressBook(readAgain()));
+    }
+
+    @Test
+    public void checkpointAddressBook_writesDataFileAndEmptiesJournal() throws Exception {
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        storage.checkpointAddressBook(original);
+        assertEquals(0, storage.getJournalLength());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(readAgain()));
+    }
+
+    private static AddressBook typicalAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        TypicalProperties.getTypicalProperties().forEach(addressBook::addProperty);
+        TypicalEvents.getTypicalEvents().forEach(addressBook::addEvent);
+        return addressBook;
+    }
+
+    private AddressBook readAgain() throws Exception {
+        return new AddressBook(new JournaledAddressBookStorage(filePath, CHECKPOINT_INTERVAL).readAddressBook().get());
+    }
+}
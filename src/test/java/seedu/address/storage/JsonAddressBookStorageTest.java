@@ -2,13 +2,16 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.HOON;
 import static seedu.address.testutil.TypicalClients.IDA;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.TypicalAddressBook;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +90,43 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void checkpointAddressBook_afterSave_dataFileNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        // Checkpoint before any save writes the file
+        jsonAddressBookStorage.checkpointAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Saved file is left as it is
+        original.addClient(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.checkpointAddressBook(new AddressBook());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Snapshot taken for a save that has not been written yet
+        original.addClient(IDA);
+        jsonAddressBookStorage.snapshotAddressBook(original);
+        jsonAddressBookStorage.checkpointAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_prettyPrinting_sameDataOnOneOrManyLines() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path compactFilePath = testFolder.resolve("Compact.json");
+        Path prettyFilePath = testFolder.resolve("Pretty.json");
+        new JsonAddressBookStorage(compactFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(prettyFilePath, true).saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertTrue(Files.readAllLines(prettyFilePath).size() > 1);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compactFilePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(prettyFilePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -107,4 +148,32 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void readAndSaveTextIndexes_allInOrder_success() throws Exception {
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        assertEquals(testFolder.resolve("TempAddressBook.textindex.json"),
+                jsonAddressBookStorage.getTextIndexFilePath());
+
+        // Nothing saved
+        assertFalse(jsonAddressBookStorage.readTextIndexes(original).isPresent());
+
+        // Save and read back for the same data
+        jsonAddressBookStorage.saveTextIndexes(original, original.getTextIndexSnapshot());
+        assertEquals(original.getTextIndexSnapshot(), jsonAddressBookStorage.readTextIndexes(original).get());
+
+        // Saved for different notes
+        original.removeEvent(EVENT2);
+        assertFalse(jsonAddressBookStorage.readTextIndexes(original).isPresent());
+    }
+
+    @Test
+    public void readTextIndexes_notJsonFormat_exceptionThrown() throws Exception {
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        Files.writeString(jsonAddressBookStorage.getTextIndexFilePath(), "not json");
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readTextIndexes(new AddressBook()));
+    }
 }
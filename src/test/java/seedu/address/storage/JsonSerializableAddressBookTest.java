@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -11,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.testutil.DealBuilder;
+import seedu.address.testutil.PropertyBuilder;
 import seedu.address.testutil.TypicalClients;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +24,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_CLIENT_FILE = TEST_DATA_FOLDER.resolve("invalidClientAddressBook.json");
     private static final Path DUPLICATE_CLIENT_FILE = TEST_DATA_FOLDER.resolve("duplicateClientAddressBook.json");
     private static final Path DUPLICATE_DEAL_FILE = TEST_DATA_FOLDER.resolve("duplicateDealAddressBook.json");
+    private static final Path DUPLICATE_CLIENT_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateClientIdAddressBook.json");
 
     @Test
     public void toModelType_typicalClientsFile_success() throws Exception {
@@ -52,4 +58,39 @@ public class JsonSerializableAddressBookTest {
         IllegalValueException exception = assertThrows(IllegalValueException.class, dataFromFile::toModelType);
         assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_DEAL, exception.getMessage());
     }
+
+    @Test
+    public void toModelType_fileWithoutIds_assignsDistinctIds() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_CLIENTS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        long distinctIds = addressBookFromFile.getClientList().stream()
+                .map(Client::getId)
+                .peek(id -> assertTrue(id.isPresent()))
+                .distinct()
+                .count();
+        assertEquals(addressBookFromFile.getClientList().size(), distinctIds);
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_keepsIds() throws Exception {
+        AddressBook original = TypicalClients.getTypicalAddressBook();
+        original.addProperty(new PropertyBuilder().withOwner("Alice Pauline").build());
+        original.addDeal(new DealBuilder().withPropertyName(PropertyBuilder.DEFAULT_PROPERTY_NAME)
+                .withBuyer("Benson Meier").withSeller("Alice Pauline").build());
+        AddressBook restored = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original, restored);
+        for (int i = 0; i < original.getClientList().size(); i++) {
+            assertEquals(original.getClientList().get(i).getId(), restored.getClientList().get(i).getId());
+        }
+        assertEquals(original.getPropertyList().get(0).getId(), restored.getPropertyList().get(0).getId());
+    }
+
+    @Test
+    public void toModelType_duplicateClientIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_CLIENT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        IllegalValueException exception = assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT_ID, exception.getMessage());
+    }
 }
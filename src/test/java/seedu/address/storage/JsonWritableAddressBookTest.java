@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.DealBuilder;
+import seedu.address.testutil.PropertyBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+import seedu.address.testutil.TypicalClients;
+
+public class JsonWritableAddressBookTest {
+
+    @Test
+    public void serialize_emptyAddressBook_sameAsSerializableAddressBook() throws Exception {
+        assertSameJson(new AddressBook());
+    }
+
+    @Test
+    public void serialize_typicalAddressBook_sameAsSerializableAddressBook() throws Exception {
+        assertSameJson(TypicalAddressBook.getTypicalAddressBook());
+    }
+
+    @Test
+    public void serialize_unresolvedReferences_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = TypicalClients.getTypicalAddressBook();
+        addressBook.addProperty(new PropertyBuilder().withOwner("Alice Pauline").build());
+        addressBook.addProperty(new PropertyBuilder().withPropertyName("Unowned Loft").withOwner("Nobody Known")
+                .withSize(null).withDescription(null).build());
+        addressBook.addDeal(new DealBuilder().withPropertyName("Missing Manor")
+                .withBuyer("Benson Meier").withSeller("Nobody Known").build());
+        assertSameJson(addressBook);
+    }
+
+    @Test
+    public void serialize_savedAddressBook_readBackUnchanged() throws Exception {
+        AddressBook original = TypicalClients.getTypicalAddressBook();
+        original.addProperty(new PropertyBuilder().withOwner("Alice Pauline").build());
+        original.addDeal(new DealBuilder().withPropertyName(PropertyBuilder.DEFAULT_PROPERTY_NAME)
+                .withBuyer("Benson Meier").withSeller("Alice Pauline").build());
+        String json = JsonUtil.toCompactJsonString(new JsonWritableAddressBook(original));
+        AddressBook restored = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(original, restored);
+    }
+
+    /**
+     * Asserts that {@code addressBook} is written to exactly the same JSON as before, both compact and pretty printed,
+     * and also when a snapshot of it is written.
+     */
+    private static void assertSameJson(ReadOnlyAddressBook addressBook) throws Exception {
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                JsonUtil.toCompactJsonString(new JsonWritableAddressBook(addressBook)));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                JsonUtil.toJsonString(new JsonWritableAddressBook(addressBook)));
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                JsonUtil.toCompactJsonString(new JsonWritableAddressBook(new AddressBookSnapshot(addressBook))));
+    }
+}